@@ -0,0 +1,79 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Totals and averages over a season's worth of amounts, {@link Money} versus BigDecimal. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class MoneyBenchmark {
+
+  @Param({"10000"})
+  private int size;
+
+  private List<BigDecimal> decimals;
+  private List<Money> amounts;
+  private long[] cents;
+
+  @Setup
+  public void setUp() {
+    final SplittableRandom random = new SplittableRandom(7);
+    decimals = new ArrayList<>(size);
+    amounts = new ArrayList<>(size);
+    cents = new long[size];
+    for (int i = 0; i < size; i++) {
+      cents[i] = random.nextLong(100, 50_000);
+      decimals.add(BigDecimal.valueOf(cents[i], 2));
+      amounts.add(Money.ofCents(cents[i]));
+    }
+  }
+
+  @Benchmark
+  public BigDecimal sumBigDecimal() {
+    BigDecimal total = BigDecimal.ZERO;
+    for (BigDecimal amount : decimals) {
+      total = total.add(amount);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public Money sumMoney() {
+    return Money.sum(amounts, amount -> amount);
+  }
+
+  @Benchmark
+  public long sumCents() {
+    return Money.sumCents(cents);
+  }
+
+  @Benchmark
+  public BigDecimal averageBigDecimal() {
+    return sumBigDecimal().divide(BigDecimal.valueOf(decimals.size()), 2, RoundingMode.HALF_EVEN);
+  }
+
+  @Benchmark
+  public Money averageMoney() {
+    return Money.average(amounts, amount -> amount);
+  }
+}
@@ -0,0 +1,50 @@
+package io.games.poker_tournament_tracker.equity;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** End-to-end equity calculations as the showdown recorder runs them. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EquityCalculatorBenchmark {
+
+  private final EquityCalculator equityCalculator = new EquityCalculator(200_000);
+
+  private final int[][] headsUp = {Cards.parse("AsKd"), Cards.parse("QhQc")};
+
+  private final int[][] threeWay = {Cards.parse("AsKd"), Cards.parse("QhQc"), Cards.parse("7s7d")};
+
+  private final int[] noBoard = new int[0];
+
+  private final int[] flop = Cards.parse("2c5h9d");
+
+  /** 1,712,304 boards, two evaluations each. */
+  @Benchmark
+  public EquityResult headsUpPreflopExhaustive() {
+    return equityCalculator.exhaustive(headsUp, noBoard);
+  }
+
+  @Benchmark
+  public EquityResult headsUpFlopExhaustive() {
+    return equityCalculator.exhaustive(headsUp, flop);
+  }
+
+  /** 200,000 sampled boards, three evaluations each. */
+  @Benchmark
+  public EquityResult threeWayPreflopMonteCarlo() {
+    return equityCalculator.monteCarlo(threeWay, noBoard, 200_000, 42);
+  }
+}
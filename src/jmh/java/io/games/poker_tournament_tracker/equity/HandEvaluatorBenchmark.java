@@ -0,0 +1,67 @@
+package io.games.poker_tournament_tracker.equity;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Raw evaluator throughput; the score is evaluations per second. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandEvaluatorBenchmark {
+
+  private static final int HANDS = 1 << 16;
+
+  private int[] cards;
+
+  @Setup
+  public void setUp() {
+    final SplittableRandom random = new SplittableRandom(42);
+    cards = new int[HANDS * 7];
+    final int[] deck = new int[Cards.DECK_SIZE];
+    for (int i = 0; i < deck.length; i++) {
+      deck[i] = i;
+    }
+    for (int hand = 0; hand < HANDS; hand++) {
+      for (int i = 0; i < 7; i++) {
+        final int j = i + random.nextInt(deck.length - i);
+        final int card = deck[j];
+        deck[j] = deck[i];
+        deck[i] = card;
+        cards[hand * 7 + i] = card;
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HANDS)
+  public int evaluateRandomHands() {
+    int accumulator = 0;
+    for (int i = 0; i < cards.length; i += 7) {
+      accumulator +=
+          HandEvaluator.evaluate(
+              cards[i],
+              cards[i + 1],
+              cards[i + 2],
+              cards[i + 3],
+              cards[i + 4],
+              cards[i + 5],
+              cards[i + 6]);
+    }
+    return accumulator;
+  }
+}
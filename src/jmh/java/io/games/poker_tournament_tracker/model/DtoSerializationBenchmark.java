@@ -0,0 +1,106 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Encoding and decoding a dashboard-sized list of 1000 buy-ins in each wire format the API could
+ * offer. The payload size of each format is printed once per trial; {@code json-gzip} is what a
+ * JSON client gets with response compression on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+  private static final TypeReference<List<GameBuyInDTO>> BUY_INS = new TypeReference<>() {};
+
+  @Param({"json", "json-gzip", "smile", "cbor"})
+  private String format;
+
+  private ObjectMapper objectMapper;
+  private boolean gzip;
+  private List<GameBuyInDTO> buyIns;
+  private byte[] encoded;
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 16);
+
+  @Setup
+  public void setUp() throws IOException {
+    final JsonFactory factory =
+        switch (format) {
+          case "json", "json-gzip" -> new JsonFactory();
+          case "smile" -> SmileFactory.builder()
+              .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+              .build();
+          case "cbor" -> new CBORFactory();
+          default -> throw new IllegalArgumentException(format);
+        };
+    objectMapper =
+        new ObjectMapper(factory).disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    gzip = format.equals("json-gzip");
+    final SplittableRandom random = new SplittableRandom(42);
+    buyIns = new ArrayList<>(1000);
+    for (int i = 0; i < 1000; i++) {
+      final GameBuyInDTO buyIn = new GameBuyInDTO();
+      buyIn.setGameBuyInId(10_000 + i);
+      buyIn.setBuyInAmount(BigDecimal.valueOf(500 + random.nextInt(20) * 500L, 2));
+      buyIn.setGame(20_000 + i / 12);
+      buyIn.setSeasonPlayer(30_000 + random.nextInt(40));
+      buyIns.add(buyIn);
+    }
+    encoded = serialize();
+    System.out.printf("%n%s payload: %d bytes%n", format, encoded.length);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    buffer.reset();
+    try (OutputStream out = gzip ? new GZIPOutputStream(buffer, 8192) : buffer) {
+      objectMapper.writeValue(out, buyIns);
+    }
+    return buffer.toByteArray();
+  }
+
+  @Benchmark
+  public List<GameBuyInDTO> deserialize() throws IOException {
+    try (InputStream in =
+        gzip
+            ? new GZIPInputStream(new ByteArrayInputStream(encoded), 8192)
+            : new ByteArrayInputStream(encoded)) {
+      return objectMapper.readValue(in, BUY_INS);
+    }
+  }
+}
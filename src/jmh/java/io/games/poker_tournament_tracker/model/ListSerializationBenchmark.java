@@ -0,0 +1,144 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * JSON serialization throughput of the list-shaped responses, with plain reflective bean access and
+ * with the Blackbird module the app registers. {@code buyIns} is a 1000-row multi-get page; {@code
+ * seasonDetail} is a season of 40 players and 60 games.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListSerializationBenchmark {
+
+  @Param({"reflection", "blackbird"})
+  private String access;
+
+  private ObjectMapper objectMapper;
+  private BatchResult<GameBuyInDTO> buyIns;
+  private SeasonDetailDTO seasonDetail;
+
+  @Setup
+  public void setUp() {
+    final JsonMapper.Builder builder =
+        JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    if (access.equals("blackbird")) {
+      builder.addModule(new BlackbirdModule());
+    }
+    objectMapper = builder.build();
+    final SplittableRandom random = new SplittableRandom(42);
+    final List<GameBuyInDTO> buyInPage = new ArrayList<>(1000);
+    for (int i = 0; i < 1000; i++) {
+      buyInPage.add(buyIn(10_000 + i, 20_000 + i / 12, 30_000 + random.nextInt(40), random));
+    }
+    buyIns = new BatchResult<>(buyInPage, List.of());
+    seasonDetail = seasonDetail(random);
+  }
+
+  @Benchmark
+  public void buyIns() throws IOException {
+    objectMapper.writeValue(OutputStream.nullOutputStream(), buyIns);
+  }
+
+  @Benchmark
+  public void seasonDetail() throws IOException {
+    objectMapper.writeValue(OutputStream.nullOutputStream(), seasonDetail);
+  }
+
+  private static SeasonDetailDTO seasonDetail(final SplittableRandom random) {
+    final OffsetDateTime now = OffsetDateTime.parse("2026-10-18T20:00:00Z");
+    final SeasonDTO season = new SeasonDTO();
+    season.setSeasonId(1);
+    season.setName("Season 1");
+    season.setCreatedAt(now);
+    final List<PlayerDTO> players = new ArrayList<>();
+    final List<SeasonPlayerDTO> seasonPlayers = new ArrayList<>();
+    for (int p = 0; p < 40; p++) {
+      final PlayerDTO player = new PlayerDTO();
+      player.setPlayerId(100 + p);
+      player.setName("player-" + p);
+      player.setCreatedAt(now);
+      players.add(player);
+      final SeasonPlayerDTO seasonPlayer = new SeasonPlayerDTO();
+      seasonPlayer.setSeasonPlayerId(30_000 + p);
+      seasonPlayer.setMinBuyIn(new BigDecimal("10.00"));
+      seasonPlayer.setAllocatedPotSize(new BigDecimal("100.00"));
+      seasonPlayer.setCurrentPotSize(new BigDecimal("100.00"));
+      seasonPlayer.setSeason(1);
+      seasonPlayer.setPlayer(100 + p);
+      seasonPlayers.add(seasonPlayer);
+    }
+    final List<GameDetailDTO> games = new ArrayList<>();
+    int rowId = 50_000;
+    for (int g = 0; g < 60; g++) {
+      final GameDTO game = new GameDTO();
+      game.setGameId(20_000 + g);
+      game.setGameNumber(g + 1);
+      game.setSeason(1);
+      game.setStartTime(now);
+      game.setCreatedAt(now);
+      final List<GameBuyInDTO> gameBuyIns = new ArrayList<>();
+      final List<GameResultDTO> gameResults = new ArrayList<>();
+      final List<PlayerParticipationDTO> participations = new ArrayList<>();
+      for (int p = 0; p < 8; p++) {
+        final int seasonPlayerId = 30_000 + random.nextInt(40);
+        gameBuyIns.add(buyIn(rowId++, game.getGameId(), seasonPlayerId, random));
+        final GameResultDTO result = new GameResultDTO();
+        result.setGameResultId(rowId++);
+        result.setWinnings(BigDecimal.valueOf(random.nextInt(10_000), 2));
+        result.setGame(game.getGameId());
+        result.setSeasonPlayer(seasonPlayerId);
+        gameResults.add(result);
+        final PlayerParticipationDTO participation = new PlayerParticipationDTO();
+        participation.setParticipationId(rowId++);
+        participation.setParticipated(true);
+        participation.setGame(game.getGameId());
+        participation.setSeasonPlayer(seasonPlayerId);
+        participations.add(participation);
+      }
+      games.add(new GameDetailDTO(game, gameBuyIns, gameResults, participations));
+    }
+    return new SeasonDetailDTO(season, players, seasonPlayers, games);
+  }
+
+  private static GameBuyInDTO buyIn(
+      final int id, final int gameId, final int seasonPlayerId, final SplittableRandom random) {
+    final GameBuyInDTO buyIn = new GameBuyInDTO();
+    buyIn.setGameBuyInId(id);
+    buyIn.setBuyInAmount(BigDecimal.valueOf(500 + random.nextInt(20) * 500L, 2));
+    buyIn.setGame(gameId);
+    buyIn.setSeasonPlayer(seasonPlayerId);
+    return buyIn;
+  }
+}
@@ -0,0 +1,117 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.spi.MDCAdapter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+
+/**
+ * Request throughput with logging on: each op logs the lines a player participation request
+ * produces under a correlation ID, from four threads into an appender that discards its bytes.
+ * Compares the old synchronous text setup with the async JSON one, with and without sampling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+  @Param({"sync-text", "async-json", "async-json-sampled"})
+  private String setup;
+
+  private LoggerContext loggerContext;
+  private Logger serviceLog;
+  private Logger lookupLog;
+  private MDCAdapter mdc;
+
+  @Setup
+  public void setUp() {
+    loggerContext = new LoggerContext();
+    // a standalone context needs its own MDC; org.slf4j.MDC belongs to the default context
+    mdc = new LogbackMDCAdapter();
+    loggerContext.setMDCAdapter(mdc);
+    final Encoder<ILoggingEvent> encoder;
+    if (setup.equals("sync-text")) {
+      final PatternLayoutEncoder patternEncoder = new PatternLayoutEncoder();
+      patternEncoder.setPattern("%d %5p [%t] [%X{correlationId:-}] %logger{39} : %m%n");
+      encoder = patternEncoder;
+    } else {
+      encoder = new LogstashEncoder();
+    }
+    encoder.setContext(loggerContext);
+    encoder.start();
+    final OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+    output.setContext(loggerContext);
+    output.setEncoder(encoder);
+    output.setOutputStream(OutputStream.nullOutputStream());
+    output.start();
+    final ch.qos.logback.classic.Logger root =
+        loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    if (setup.equals("sync-text")) {
+      root.addAppender(output);
+    } else {
+      final AsyncAppender async = new AsyncAppender();
+      async.setContext(loggerContext);
+      async.setQueueSize(8192);
+      async.setDiscardingThreshold(1638);
+      async.setNeverBlock(true);
+      async.addAppender(output);
+      async.start();
+      root.addAppender(async);
+    }
+    if (setup.equals("async-json-sampled")) {
+      final LogRateLimitFilter filter = new LogRateLimitFilter();
+      filter.setLoggerPrefix("io.games.poker_tournament_tracker");
+      filter.start();
+      loggerContext.addTurboFilter(filter);
+    }
+    serviceLog = loggerContext.getLogger("io.games.poker_tournament_tracker.service.Service");
+    lookupLog = loggerContext.getLogger("io.games.poker_tournament_tracker.service.Lookup");
+  }
+
+  @TearDown
+  public void tearDown() {
+    loggerContext.stop();
+  }
+
+  @Benchmark
+  public void playerParticipationRequest() {
+    mdc.put(CorrelationIdFilter.MDC_KEY, "3f2b6c1e-9a7d-4e52-8c11-5b0f6e2d7a90");
+    try {
+      serviceLog.info("Creating player participation for player: {}, game number: {}", "alice", 7);
+      lookupLog.info("Retrieving season ID for game number: {}", 7);
+      lookupLog.info(
+          "Retrieving season player ID for player name: {} and season ID: {}", "alice", 10001);
+      lookupLog.info("Retrieving game ID for game number: {}", 7);
+      serviceLog.info("Creating new player participation");
+    } finally {
+      mdc.remove(CorrelationIdFilter.MDC_KEY);
+    }
+  }
+}
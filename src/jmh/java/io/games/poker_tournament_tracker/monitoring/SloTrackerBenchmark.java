@@ -0,0 +1,51 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost a request pays for SLO tracking: one {@link SloTracker#record} of a latency between 1 ms and
+ * 50 ms under an endpoint key, from four threads, while the windows keep rolling on every tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class SloTrackerBenchmark {
+
+  private static final String KEY = "POST /api/v1/game-buy-ins/create-game-buy-in";
+
+  private SloTracker sloTracker;
+
+  @Setup
+  public void setUp() {
+    sloTracker = new SloTracker(new SloProperties());
+    sloTracker.record(KEY, 1_000_000);
+    sloTracker.tick();
+  }
+
+  @Benchmark
+  public void record() {
+    sloTracker.record(KEY, ThreadLocalRandom.current().nextLong(1_000_000, 50_000_000));
+  }
+
+  @Benchmark
+  public long nanoTimeOnly() {
+    return System.nanoTime() + ThreadLocalRandom.current().nextLong(1_000_000, 50_000_000);
+  }
+}
@@ -0,0 +1,75 @@
+package io.games.poker_tournament_tracker.seating;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Seating a field of {@code entrants} at nine-handed tables, and a rebalance decision: the mean
+ * cost of one {@link SeatingChart#eliminate} over eliminating the whole field, in random order,
+ * down to the winner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatingChartBenchmark {
+
+  private static final int TABLE_SIZE = 9;
+
+  @Param({"1000", "10000"})
+  private int entrants;
+
+  private List<Integer> players;
+  private int[] eliminationOrder;
+  private SeatingChart chart;
+
+  @Setup
+  public void setUp() {
+    players = IntStream.rangeClosed(1, entrants).boxed().toList();
+    final SplittableRandom random = new SplittableRandom(42);
+    eliminationOrder = IntStream.rangeClosed(1, entrants).toArray();
+    for (int i = eliminationOrder.length - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final int player = eliminationOrder[i];
+      eliminationOrder[i] = eliminationOrder[j];
+      eliminationOrder[j] = player;
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void drawChart() {
+    chart = SeatingChart.draw(players, TABLE_SIZE, 42);
+  }
+
+  @Benchmark
+  public SeatingChart draw() {
+    return SeatingChart.draw(players, TABLE_SIZE, 42);
+  }
+
+  /** Divide by {@code entrants - 1} for the cost of one decision. */
+  @Benchmark
+  public int eliminateAll() {
+    int moves = 0;
+    for (int i = 0; i < eliminationOrder.length - 1; i++) {
+      moves += chart.eliminate(eliminationOrder[i]).size();
+    }
+    return moves;
+  }
+}
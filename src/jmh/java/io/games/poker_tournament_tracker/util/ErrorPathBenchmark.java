@@ -0,0 +1,86 @@
+package io.games.poker_tournament_tracker.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of a not-found lookup failing a few dozen frames down, roughly where a repository call
+ * sits under the servlet, filter and proxy stack. Compares the old wrap-and-rethrow path with the
+ * stackless domain exceptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+  private static final NotFoundException PREALLOCATED = new NotFoundException("Game not found");
+
+  @Param({"64"})
+  private int depth;
+
+  private int gameNumber = 42;
+
+  @Benchmark
+  public Object wrappedRuntimeException() {
+    try {
+      return descend(
+          depth,
+          () -> {
+            try {
+              throw new IllegalStateException("Game not found with game number: " + gameNumber);
+            } catch (Exception e) {
+              throw new RuntimeException("Failed to retrieve game ID", e);
+            }
+          });
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object stacklessException() {
+    try {
+      return descend(
+          depth,
+          () -> {
+            throw new NotFoundException("Game not found with game number: " + gameNumber);
+          });
+    } catch (DomainException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object preallocatedException() {
+    try {
+      return descend(
+          depth,
+          () -> {
+            throw PREALLOCATED;
+          });
+    } catch (DomainException e) {
+      return e;
+    }
+  }
+
+  private static Object descend(int frames, Runnable failure) {
+    if (frames == 0) {
+      failure.run();
+      return null;
+    }
+    return descend(frames - 1, failure);
+  }
+}
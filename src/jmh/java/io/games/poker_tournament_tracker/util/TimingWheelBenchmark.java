@@ -0,0 +1,83 @@
+package io.games.poker_tournament_tracker.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of rescheduling a game clock, as a pause and resume or a level change does: schedule a
+ * timeout 1 to 30 minutes out and cancel the one it replaces, with {@code pending} other clocks
+ * already waiting, on {@link TimingWheel} and on a {@link ScheduledThreadPoolExecutor}, whose delay
+ * queue is a heap behind one lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+  private static final Runnable NOTHING = () -> {};
+
+  @Param({"1000", "100000"})
+  private int pending;
+
+  private TimingWheel timingWheel;
+  private ScheduledThreadPoolExecutor executor;
+
+  @Setup
+  public void setUp() {
+    timingWheel = new TimingWheel(Duration.ofMillis(250), 512, 1, "benchmark");
+    executor = new ScheduledThreadPoolExecutor(1);
+    executor.setRemoveOnCancelPolicy(true);
+    for (int i = 0; i < pending; i++) {
+      final long delayMillis = delayMillis();
+      timingWheel.schedule(NOTHING, Instant.now().plusMillis(delayMillis));
+      executor.schedule(NOTHING, delayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    timingWheel.stop();
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public boolean timingWheel() {
+    return timingWheel.schedule(NOTHING, deadline()).cancel();
+  }
+
+  @Benchmark
+  public boolean scheduledExecutor() {
+    // clocks are stored as the instant their level ends, so both start from a deadline
+    final long delayMillis = deadline().toEpochMilli() - System.currentTimeMillis();
+    return executor.schedule(NOTHING, delayMillis, TimeUnit.MILLISECONDS).cancel(false);
+  }
+
+  private static Instant deadline() {
+    return Instant.now().plusMillis(delayMillis());
+  }
+
+  private static long delayMillis() {
+    return ThreadLocalRandom.current().nextLong(60_000, 1_800_000);
+  }
+}
@@ -0,0 +1,26 @@
+package io.games.poker_tournament_tracker.loadtest;
+
+import java.util.List;
+
+/**
+ * What the generator loaded, as far as the driver needs it to build valid requests.
+ *
+ * @param namePrefix prefix of every generated season and player name, unique per run
+ * @param firstPlayerId ID of player 0; players have consecutive IDs
+ * @param players size of the player pool
+ * @param seasons the generated seasons
+ */
+record Dataset(String namePrefix, int firstPlayerId, int players, List<Season> seasons) {
+
+  String playerName(final int playerIndex) {
+    return namePrefix + "player-" + playerIndex;
+  }
+
+  /**
+   * @param seasonId the season's ID
+   * @param name the season's name
+   * @param playerIndexes the pool indexes of the players enrolled in the season
+   * @param games how many games the season has; game numbers run from 1
+   */
+  record Season(int seasonId, String name, int[] playerIndexes, int games) {}
+}
@@ -0,0 +1,190 @@
+package io.games.poker_tournament_tracker.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Sends a weighted mix of requests at the tournament API and records their latency.
+ *
+ * <p>With a {@code rate}, requests arrive on a fixed schedule whether or not earlier ones have
+ * finished, and latency is measured from when a request was due rather than when a worker got to
+ * it, so a stalled server shows up in the percentiles instead of slowing the arrivals down. With
+ * {@code rate} 0 each worker sends its next request as soon as the last one returns.
+ */
+final class LoadDriver {
+
+  private static final int PLAYERS_PER_MULTI_GET = 60;
+  private static final int RECENT_GAMES = 5;
+
+  private final LoadTestConfig config;
+  private final Dataset dataset;
+  private final String baseUri;
+  private final HttpClient httpClient;
+  private final Operation[] operationWheel;
+  private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+  LoadDriver(final LoadTestConfig config, final Dataset dataset, final int port) {
+    this.config = config;
+    this.dataset = dataset;
+    this.baseUri = "http://localhost:" + port + "/api/poker/tournament";
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    this.operationWheel =
+        config.mix().entrySet().stream()
+            .flatMap(weight -> Stream.generate(weight::getKey).limit(weight.getValue()))
+            .toArray(Operation[]::new);
+    for (final Operation operation : Operation.values()) {
+      stats.put(operation, new OperationStats());
+    }
+  }
+
+  Map<Operation, OperationStats> run() throws InterruptedException {
+    final ExecutorService workers =
+        Executors.newFixedThreadPool(
+            config.concurrency(),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "load-worker");
+              thread.setDaemon(true);
+              return thread;
+            });
+    final long start = System.nanoTime();
+    final long recordFrom = start + config.warmup().toNanos();
+    final long end = start + config.duration().toNanos();
+    if (config.rate() > 0) {
+      final SplittableRandom random = new SplittableRandom(config.seed());
+      final double periodNanos = 1e9 / config.rate();
+      for (long i = 0; ; i++) {
+        final long due = start + (long) (i * periodNanos);
+        if (due >= end) {
+          break;
+        }
+        final long wait = due - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        final Operation operation = nextOperation(random);
+        final HttpRequest request = request(operation, random);
+        workers.execute(() -> send(operation, request, due, due >= recordFrom));
+      }
+    } else {
+      for (int worker = 0; worker < config.concurrency(); worker++) {
+        final SplittableRandom random = new SplittableRandom(config.seed() + worker);
+        workers.execute(
+            () -> {
+              for (long due = System.nanoTime(); due < end; due = System.nanoTime()) {
+                final Operation operation = nextOperation(random);
+                send(operation, request(operation, random), due, due >= recordFrom);
+              }
+            });
+      }
+    }
+    workers.shutdown();
+    if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+      System.out.println("Requests still queued after a minute; the server could not keep up");
+      workers.shutdownNow();
+    }
+    return stats;
+  }
+
+  private void send(
+      final Operation operation, final HttpRequest request, final long due, final boolean record) {
+    int status;
+    try {
+      status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (IOException e) {
+      status = 0;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    if (record) {
+      stats.get(operation).record(System.nanoTime() - due, status);
+    }
+  }
+
+  private Operation nextOperation(final SplittableRandom random) {
+    return operationWheel[random.nextInt(operationWheel.length)];
+  }
+
+  private HttpRequest request(final Operation operation, final SplittableRandom random) {
+    final Dataset.Season season = dataset.seasons().get(random.nextInt(dataset.seasons().size()));
+    final String seasonName = encode(season.name());
+    return switch (operation) {
+      case SEASON_DETAIL -> get("/seasons/" + season.seasonId() + "/detail");
+      case LUCK_STATS -> get(
+          "/luck-stats?seasonName=" + seasonName + "&playerName=" + player(season, random));
+      case PLAYERS -> {
+        final StringJoiner ids = new StringJoiner(",");
+        for (int i = 0; i < PLAYERS_PER_MULTI_GET; i++) {
+          ids.add(Integer.toString(dataset.firstPlayerId() + random.nextInt(dataset.players())));
+        }
+        yield get("/players?ids=" + ids);
+      }
+      case BUY_IN -> post(
+          "/create-game-buy-in?seasonName="
+              + seasonName
+              + "&gameNumber="
+              + recentGame(season, random)
+              + "&playerName="
+              + player(season, random)
+              + "&buyInAmount=20.00&kind=REBUY");
+      case RESULT -> post(
+          "/create-game-result?seasonName="
+              + seasonName
+              + "&gameNumber="
+              + recentGame(season, random)
+              + "&playerName="
+              + player(season, random)
+              + "&winnings="
+              + random.nextInt(200)
+              + ".00");
+      case CREATE_GAME -> post("/games?seasonName=" + seasonName);
+    };
+  }
+
+  /** Game night traffic lands on the last few games of a season. */
+  private static int recentGame(final Dataset.Season season, final SplittableRandom random) {
+    return season.games() - random.nextInt(Math.min(RECENT_GAMES, season.games()));
+  }
+
+  private String player(final Dataset.Season season, final SplittableRandom random) {
+    final int[] playerIndexes = season.playerIndexes();
+    return encode(dataset.playerName(playerIndexes[random.nextInt(playerIndexes.length)]));
+  }
+
+  private HttpRequest get(final String path) {
+    return HttpRequest.newBuilder(URI.create(baseUri + path))
+        .header("Accept", "application/json")
+        .GET()
+        .build();
+  }
+
+  private HttpRequest post(final String path) {
+    return HttpRequest.newBuilder(URI.create(baseUri + path))
+        .header("Accept", "application/json")
+        .POST(HttpRequest.BodyPublishers.noBody())
+        .build();
+  }
+
+  private static String encode(final String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+}
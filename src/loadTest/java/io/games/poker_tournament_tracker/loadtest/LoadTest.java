@@ -0,0 +1,135 @@
+package io.games.poker_tournament_tracker.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.games.poker_tournament_tracker.PokerTournamentTrackerApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Runs the application against a PostgreSQL loaded with a synthetic tournament history and drives a
+ * request mix at it, then prints latency percentiles per operation. Start it with {@code gradle
+ * loadTest}; see {@link LoadTestConfig} for the settings.
+ *
+ * <p>The database is an embedded PostgreSQL unless {@code loadTest.jdbcUrl} points at one, in which
+ * case the generated rows are added next to whatever is already there.
+ */
+public final class LoadTest {
+
+  private LoadTest() {}
+
+  public static void main(final String[] args) throws Exception {
+    final LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    EmbeddedPostgres embeddedPostgres = null;
+    ConfigurableApplicationContext application = null;
+    try {
+      String jdbcUrl = config.jdbcUrl();
+      String username = config.jdbcUsername();
+      String password = config.jdbcPassword();
+      if (jdbcUrl == null) {
+        embeddedPostgres = EmbeddedPostgres.start();
+        jdbcUrl = embeddedPostgres.getJdbcUrl("postgres", "postgres");
+        username = "postgres";
+        password = "";
+      }
+
+      // Command-line arguments outrank application.yml and the JDBC_* environment variables.
+      application =
+          new SpringApplicationBuilder(PokerTournamentTrackerApplication.class)
+              .run(
+                  "--spring.datasource.url=" + jdbcUrl,
+                  "--spring.datasource.username=" + username,
+                  "--spring.datasource.password=" + password,
+                  "--server.port=0",
+                  "--logging.level.root=WARN",
+                  "--logging.level.io.games=WARN");
+      final int port =
+          application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+      final Dataset dataset;
+      try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+        dataset = new SyntheticDataGenerator(config).generate(connection);
+      }
+
+      System.out.printf(
+          "Driving %s for %s (%s warm-up), %d workers, mix %s%n",
+          config.rate() > 0 ? config.rate() + " req/s" : "closed loop",
+          config.duration(),
+          config.warmup(),
+          config.concurrency(),
+          config.mix());
+      final Map<Operation, OperationStats> stats = new LoadDriver(config, dataset, port).run();
+      report(stats, config.duration().minus(config.warmup()).toNanos());
+    } finally {
+      if (application != null) {
+        application.close();
+      }
+      if (embeddedPostgres != null) {
+        embeddedPostgres.close();
+      }
+    }
+  }
+
+  private static void report(final Map<Operation, OperationStats> stats, final long recordedNanos) {
+    final double seconds = recordedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    System.out.printf(
+        "%n%-10s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+        "operation",
+        "count",
+        "errors",
+        "req/s",
+        "p50 ms",
+        "p90 ms",
+        "p99 ms",
+        "p99.9 ms",
+        "max ms");
+    final Histogram total = new Histogram(3);
+    long totalErrors = 0;
+    for (final Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+      final Histogram latencies = entry.getValue().latencies();
+      if (latencies.getTotalCount() == 0) {
+        continue;
+      }
+      total.add(latencies);
+      totalErrors += entry.getValue().errors();
+      row(entry.getKey().mixName(), latencies, entry.getValue().errors(), seconds);
+    }
+    row("total", total, totalErrors, seconds);
+    stats.forEach(
+        (operation, operationStats) ->
+            operationStats
+                .errorsByStatus()
+                .forEach(
+                    (status, count) ->
+                        System.out.printf(
+                            "%s: %,d responses with status %s%n",
+                            operation.mixName(),
+                            count,
+                            status == 0 ? "none (I/O error)" : status)));
+  }
+
+  private static void row(
+      final String name, final Histogram latencies, final long errors, final double seconds) {
+    System.out.printf(
+        "%-10s %,9d %,7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+        name,
+        latencies.getTotalCount(),
+        errors,
+        latencies.getTotalCount() / seconds,
+        millis(latencies.getValueAtPercentile(50)),
+        millis(latencies.getValueAtPercentile(90)),
+        millis(latencies.getValueAtPercentile(99)),
+        millis(latencies.getValueAtPercentile(99.9)),
+        millis(latencies.getMaxValue()));
+  }
+
+  private static double millis(final long micros) {
+    return micros / 1_000.0;
+  }
+}
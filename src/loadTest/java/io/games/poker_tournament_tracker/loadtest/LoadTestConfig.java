@@ -0,0 +1,102 @@
+package io.games.poker_tournament_tracker.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings for a load test run, read from {@code loadTest.*} system properties; the Gradle task
+ * forwards {@code -PloadTest.*} project properties. Every setting has a default, so {@code gradle
+ * loadTest} alone runs a small game night.
+ *
+ * @param seasons number of seasons to generate
+ * @param players size of the player pool shared by all seasons
+ * @param playersPerSeason players enrolled in each season
+ * @param gamesPerSeason games already played in each season
+ * @param playersPerGame players seated in each generated game
+ * @param maxRebuys most extra buy-ins a player makes in one game
+ * @param seed seeds the data and the request sequence, so runs are repeatable
+ * @param concurrency worker threads sending requests
+ * @param rate requests per second across all workers; 0 runs closed loop, each worker as fast as
+ *     its responses come back
+ * @param duration how long to send requests, warm-up included
+ * @param warmup how long to send requests before recording them
+ * @param mix relative weight of each operation
+ * @param jdbcUrl an existing database to use instead of starting an embedded one
+ * @param jdbcUsername the user for {@code jdbcUrl}
+ * @param jdbcPassword the password for {@code jdbcUrl}
+ */
+record LoadTestConfig(
+    int seasons,
+    int players,
+    int playersPerSeason,
+    int gamesPerSeason,
+    int playersPerGame,
+    int maxRebuys,
+    long seed,
+    int concurrency,
+    int rate,
+    Duration duration,
+    Duration warmup,
+    Map<Operation, Integer> mix,
+    String jdbcUrl,
+    String jdbcUsername,
+    String jdbcPassword) {
+
+  private static final String PREFIX = "loadTest.";
+
+  LoadTestConfig {
+    if (playersPerSeason > players) {
+      throw new IllegalArgumentException("playersPerSeason must not exceed players");
+    }
+    if (playersPerGame > playersPerSeason) {
+      throw new IllegalArgumentException("playersPerGame must not exceed playersPerSeason");
+    }
+    if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+      throw new IllegalArgumentException("mix needs at least one positive weight");
+    }
+  }
+
+  static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+        intProperty("seasons", 4),
+        intProperty("players", 500),
+        intProperty("playersPerSeason", 120),
+        intProperty("gamesPerSeason", 250),
+        intProperty("playersPerGame", 9),
+        intProperty("maxRebuys", 2),
+        Long.parseLong(property("seed", "42")),
+        intProperty("concurrency", 16),
+        intProperty("rate", 200),
+        Duration.parse(property("duration", "PT60S")),
+        Duration.parse(property("warmup", "PT10S")),
+        parseMix(property("mix", "detail=30,luck=20,players=10,buyIn=25,result=10,game=5")),
+        System.getProperty(PREFIX + "jdbcUrl"),
+        property("jdbcUsername", "postgres"),
+        property("jdbcPassword", "postgres"));
+  }
+
+  /**
+   * Parses {@code name=weight} pairs, e.g. {@code detail=30,buyIn=70}; unnamed operations get 0.
+   */
+  static Map<Operation, Integer> parseMix(final String mix) {
+    final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (final String entry : mix.split(",")) {
+      final String[] nameAndWeight = entry.trim().split("=");
+      if (nameAndWeight.length != 2) {
+        throw new IllegalArgumentException("Expected name=weight in mix, got: " + entry);
+      }
+      weights.put(
+          Operation.byName(nameAndWeight[0].trim()), Integer.parseInt(nameAndWeight[1].trim()));
+    }
+    return weights;
+  }
+
+  private static String property(final String name, final String defaultValue) {
+    return System.getProperty(PREFIX + name, defaultValue);
+  }
+
+  private static int intProperty(final String name, final int defaultValue) {
+    return Integer.parseInt(property(name, Integer.toString(defaultValue)));
+  }
+}
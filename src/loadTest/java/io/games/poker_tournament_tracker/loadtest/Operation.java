@@ -0,0 +1,30 @@
+package io.games.poker_tournament_tracker.loadtest;
+
+/** The requests a load test mixes, named as they are in {@code loadTest.mix}. */
+enum Operation {
+  SEASON_DETAIL("detail"),
+  LUCK_STATS("luck"),
+  PLAYERS("players"),
+  BUY_IN("buyIn"),
+  RESULT("result"),
+  CREATE_GAME("game");
+
+  private final String mixName;
+
+  Operation(final String mixName) {
+    this.mixName = mixName;
+  }
+
+  String mixName() {
+    return mixName;
+  }
+
+  static Operation byName(final String mixName) {
+    for (final Operation operation : values()) {
+      if (operation.mixName.equals(mixName)) {
+        return operation;
+      }
+    }
+    throw new IllegalArgumentException("Unknown operation in mix: " + mixName);
+  }
+}
@@ -0,0 +1,40 @@
+package io.games.poker_tournament_tracker.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/** Latencies and error statuses of one operation, recorded from many worker threads. */
+final class OperationStats {
+
+  /** Microseconds, three significant digits, resized as slower requests come in. */
+  private final ConcurrentHistogram latencies = new ConcurrentHistogram(3);
+
+  private final Map<Integer, LongAdder> errorsByStatus = new ConcurrentHashMap<>();
+
+  void record(final long latencyNanos, final int status) {
+    latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+    if (status < 200 || status >= 300) {
+      errorsByStatus.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+  }
+
+  Histogram latencies() {
+    return latencies;
+  }
+
+  /** Status 0 means the request failed before a response came back. */
+  Map<Integer, Long> errorsByStatus() {
+    final Map<Integer, Long> errors = new TreeMap<>();
+    errorsByStatus.forEach((status, count) -> errors.put(status, count.sum()));
+    return errors;
+  }
+
+  long errors() {
+    return errorsByStatus.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+}
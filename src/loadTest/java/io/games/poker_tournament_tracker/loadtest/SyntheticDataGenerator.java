@@ -0,0 +1,299 @@
+package io.games.poker_tournament_tracker.loadtest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Writes a deterministic tournament history straight into the schema with {@code COPY}, which keeps
+ * millions of rows to seconds. The same config and seed always produce the same rows; IDs start at
+ * the next value of {@code primary_sequence}, which is moved past them afterwards, so the
+ * application keeps allocating from where the data ends.
+ *
+ * <p>Each game's roster comes from its own random stream, so the buy-in, result and participation
+ * passes regenerate it instead of holding every game in memory.
+ */
+final class SyntheticDataGenerator {
+
+  private static final LocalDate FIRST_SEASON_START = LocalDate.of(2024, 1, 1);
+  private static final OffsetDateTime CREATED_AT =
+      FIRST_SEASON_START.atStartOfDay().atOffset(ZoneOffset.UTC);
+  private static final long MIN_BUY_IN_CENTS = 2_000;
+  private static final long ALLOCATED_POT_CENTS = 100_000;
+  private static final int[] PAYOUT_PERCENT = {50, 30, 20};
+
+  private final LoadTestConfig config;
+
+  SyntheticDataGenerator(final LoadTestConfig config) {
+    this.config = config;
+  }
+
+  Dataset generate(final Connection connection) throws SQLException {
+    connection.setAutoCommit(false);
+    final long firstId = queryLong(connection, "SELECT nextval('primary_sequence')");
+    final String namePrefix = "lt" + firstId + "-";
+    final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+    long nextId = firstId;
+
+    final int firstPlayerId = Math.toIntExact(nextId);
+    try (CopyWriter players =
+        new CopyWriter(copyManager, "player", "player_id, name, created_at")) {
+      for (int p = 0; p < config.players(); p++) {
+        players.row(nextId++, namePrefix + "player-" + p, CREATED_AT);
+      }
+    }
+
+    final SplittableRandom enrolmentRandom = new SplittableRandom(config.seed());
+    final List<Dataset.Season> seasons = new ArrayList<>(config.seasons());
+    try (CopyWriter seasonRows =
+        new CopyWriter(
+            copyManager, "season", "season_id, name, start_date, created_at, last_game_number")) {
+      for (int s = 0; s < config.seasons(); s++) {
+        final int seasonId = Math.toIntExact(nextId++);
+        final String name = namePrefix + "season-" + s;
+        seasonRows.row(seasonId, name, seasonStart(s), CREATED_AT, config.gamesPerSeason());
+        seasons.add(
+            new Dataset.Season(
+                seasonId,
+                name,
+                pick(enrolmentRandom, config.players(), config.playersPerSeason()),
+                config.gamesPerSeason()));
+      }
+    }
+
+    final int[][] seasonPlayerIds = new int[config.seasons()][config.playersPerSeason()];
+    final String minBuyIn = money(MIN_BUY_IN_CENTS);
+    final String allocatedPot = money(ALLOCATED_POT_CENTS);
+    try (CopyWriter seasonPlayers =
+        new CopyWriter(
+            copyManager,
+            "season_player",
+            "season_player_id, allocated_pot_size, min_buy_in, current_pot_size, season_id,"
+                + " player_id")) {
+      for (int s = 0; s < config.seasons(); s++) {
+        final Dataset.Season season = seasons.get(s);
+        for (int k = 0; k < config.playersPerSeason(); k++) {
+          seasonPlayerIds[s][k] = Math.toIntExact(nextId++);
+          seasonPlayers.row(
+              seasonPlayerIds[s][k],
+              allocatedPot,
+              minBuyIn,
+              allocatedPot,
+              season.seasonId(),
+              firstPlayerId + season.playerIndexes()[k]);
+        }
+      }
+    }
+
+    final int[][] gameIds = new int[config.seasons()][config.gamesPerSeason()];
+    try (CopyWriter games =
+        new CopyWriter(
+            copyManager, "game", "game_id, game_number, start_time, created_at, season_id")) {
+      for (int s = 0; s < config.seasons(); s++) {
+        for (int g = 0; g < config.gamesPerSeason(); g++) {
+          gameIds[s][g] = Math.toIntExact(nextId++);
+          games.row(gameIds[s][g], g + 1, gameStart(s, g), CREATED_AT, seasons.get(s).seasonId());
+        }
+      }
+    }
+
+    try (CopyWriter buyIns =
+        new CopyWriter(
+            copyManager,
+            "game_buy_in",
+            "game_buy_in_id, buy_in_amount, kind, game_id, season_player_id")) {
+      for (int s = 0; s < config.seasons(); s++) {
+        for (int g = 0; g < config.gamesPerSeason(); g++) {
+          final Roster roster = roster(s, g);
+          for (int seat = 0; seat < roster.seats().length; seat++) {
+            for (int b = 0; b < roster.buyIns()[seat]; b++) {
+              buyIns.row(
+                  nextId++,
+                  minBuyIn,
+                  b == 0 ? "BUY_IN" : "REBUY",
+                  gameIds[s][g],
+                  seasonPlayerIds[s][roster.seats()[seat]]);
+            }
+          }
+        }
+      }
+    }
+
+    try (CopyWriter results =
+        new CopyWriter(
+            copyManager, "game_result", "game_result_id, winnings, game_id, season_player_id")) {
+      for (int s = 0; s < config.seasons(); s++) {
+        for (int g = 0; g < config.gamesPerSeason(); g++) {
+          final Roster roster = roster(s, g);
+          final long[] winnings = roster.winnings();
+          for (int seat = 0; seat < roster.seats().length; seat++) {
+            results.row(
+                nextId++,
+                money(winnings[seat]),
+                gameIds[s][g],
+                seasonPlayerIds[s][roster.seats()[seat]]);
+          }
+        }
+      }
+    }
+
+    try (CopyWriter participations =
+        new CopyWriter(
+            copyManager,
+            "player_participation",
+            "participation_id, participated, participation_time, game_id, season_player_id")) {
+      for (int s = 0; s < config.seasons(); s++) {
+        for (int g = 0; g < config.gamesPerSeason(); g++) {
+          final Roster roster = roster(s, g);
+          final OffsetDateTime start = gameStart(s, g);
+          for (int seat = 0; seat < roster.seats().length; seat++) {
+            participations.row(
+                nextId++, true, start, gameIds[s][g], seasonPlayerIds[s][roster.seats()[seat]]);
+          }
+        }
+      }
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("SELECT setval('primary_sequence', " + nextId + ")");
+    }
+    connection.commit();
+    connection.setAutoCommit(true);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE");
+    }
+    System.out.printf("Generated %,d rows (IDs %d to %d)%n", nextId - firstId, firstId, nextId - 1);
+    return new Dataset(namePrefix, firstPlayerId, config.players(), List.copyOf(seasons));
+  }
+
+  /** Seats and buy-in counts of one game, drawn from a stream seeded by the game alone. */
+  private Roster roster(final int season, final int game) {
+    final SplittableRandom random =
+        new SplittableRandom(config.seed() * 1_000_003L + season * 100_003L + game);
+    final int[] seats = pick(random, config.playersPerSeason(), config.playersPerGame());
+    final int[] buyIns = new int[seats.length];
+    for (int seat = 0; seat < seats.length; seat++) {
+      buyIns[seat] = 1 + random.nextInt(config.maxRebuys() + 1);
+    }
+    return new Roster(seats, buyIns);
+  }
+
+  /** Seats are in finishing order; the top three split the pot, the last of them the remainder. */
+  private record Roster(int[] seats, int[] buyIns) {
+
+    long[] winnings() {
+      long pot = 0;
+      for (final int count : buyIns) {
+        pot += count * MIN_BUY_IN_CENTS;
+      }
+      final long[] winnings = new long[seats.length];
+      final int paid = Math.min(PAYOUT_PERCENT.length, seats.length);
+      long remaining = pot;
+      for (int place = 0; place < paid - 1; place++) {
+        winnings[place] = pot * PAYOUT_PERCENT[place] / 100;
+        remaining -= winnings[place];
+      }
+      winnings[paid - 1] = remaining;
+      return winnings;
+    }
+  }
+
+  /**
+   * Draws {@code count} distinct values from {@code [0, bound)} by a partial Fisher-Yates shuffle.
+   */
+  private static int[] pick(final SplittableRandom random, final int bound, final int count) {
+    final int[] values = new int[bound];
+    for (int i = 0; i < bound; i++) {
+      values[i] = i;
+    }
+    for (int i = 0; i < count; i++) {
+      final int j = i + random.nextInt(bound - i);
+      final int swap = values[i];
+      values[i] = values[j];
+      values[j] = swap;
+    }
+    final int[] picked = new int[count];
+    System.arraycopy(values, 0, picked, 0, count);
+    return picked;
+  }
+
+  private static LocalDate seasonStart(final int season) {
+    return FIRST_SEASON_START.plusMonths(6L * season);
+  }
+
+  private static OffsetDateTime gameStart(final int season, final int game) {
+    return seasonStart(season).plusDays(game).atTime(20, 0).atOffset(ZoneOffset.UTC);
+  }
+
+  private static String money(final long cents) {
+    return BigDecimal.valueOf(cents, 2).toPlainString();
+  }
+
+  private static long queryLong(final Connection connection, final String sql) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(sql)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  /** Streams rows of one table through {@code COPY ... FROM STDIN} in text format. */
+  private static final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_AT = 1 << 16;
+
+    private final String table;
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_AT + 1024);
+    private final long startNanos = System.nanoTime();
+    private long rows;
+
+    CopyWriter(final CopyManager copyManager, final String table, final String columns)
+        throws SQLException {
+      this.table = table;
+      this.copyIn = copyManager.copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+    }
+
+    void row(final Object... values) throws SQLException {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          buffer.append('\t');
+        }
+        buffer.append(values[i] == null ? "\\N" : values[i]);
+      }
+      buffer.append('\n');
+      rows++;
+      if (buffer.length() >= FLUSH_AT) {
+        flush();
+      }
+    }
+
+    private void flush() throws SQLException {
+      final byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+      buffer.setLength(0);
+    }
+
+    @Override
+    public void close() throws SQLException {
+      flush();
+      copyIn.endCopy();
+      System.out.printf(
+          "  %-22s %,12d rows in %,6d ms%n",
+          table, rows, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+  }
+}
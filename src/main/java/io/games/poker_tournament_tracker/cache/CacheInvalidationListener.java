@@ -0,0 +1,197 @@
+package io.games.poker_tournament_tracker.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listens for cache invalidations from other nodes on a dedicated connection outside the pool.
+ * Notifications arriving close together are merged and evicted once. If the connection drops, the
+ * listener reconnects with exponential backoff and clears every local cache, since anything sent
+ * while it was away is lost.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationListener implements SmartLifecycle {
+
+  private static final long INITIAL_BACKOFF_MILLIS = 500;
+
+  private final CacheInvalidator cacheInvalidator;
+  private final CacheInvalidationProperties properties;
+  private final DataSourceProperties dataSourceProperties;
+  private final AtomicInteger listening = new AtomicInteger();
+  private final Timer latency;
+  private final Counter received;
+  private final Counter reconnects;
+
+  private volatile boolean running;
+  private Thread thread;
+
+  public CacheInvalidationListener(
+      CacheInvalidator cacheInvalidator,
+      CacheInvalidationProperties properties,
+      DataSourceProperties dataSourceProperties,
+      MeterRegistry meterRegistry) {
+    this.cacheInvalidator = cacheInvalidator;
+    this.properties = properties;
+    this.dataSourceProperties = dataSourceProperties;
+    this.latency =
+        Timer.builder("cache.invalidation.latency")
+            .description("Time from a remote commit to the local eviction")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    this.received =
+        Counter.builder("cache.invalidation.received")
+            .description("Cache invalidation messages received from other nodes")
+            .register(meterRegistry);
+    this.reconnects =
+        Counter.builder("cache.invalidation.reconnects")
+            .description("Times the LISTEN connection was re-established")
+            .register(meterRegistry);
+    Gauge.builder("cache.invalidation.listening", listening, AtomicInteger::get)
+        .description("1 while the LISTEN connection is up")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled() || !CacheInvalidator.isPostgres(dataSourceProperties)) {
+      return;
+    }
+    running = true;
+    thread = new Thread(this::listen, "cache-invalidation-listener");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (thread != null) {
+      thread.interrupt();
+      try {
+        thread.join(properties.getPollTimeout().toMillis() * 2);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listen() {
+    long backoffMillis = INITIAL_BACKOFF_MILLIS;
+    boolean connectedBefore = false;
+    while (running) {
+      try (Connection connection = connect()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + properties.getChannel());
+        }
+        listening.set(1);
+        if (connectedBefore) {
+          reconnects.increment();
+          cacheInvalidator.clearAll();
+          log.info("Cache invalidation listener reconnected, cleared local caches");
+        }
+        connectedBefore = true;
+        backoffMillis = INITIAL_BACKOFF_MILLIS;
+        receive(connection);
+      } catch (SQLException e) {
+        listening.set(0);
+        if (!running) {
+          return;
+        }
+        log.warn(
+            "Cache invalidation listener lost its connection, retrying in {} ms: {}",
+            backoffMillis,
+            e.getMessage());
+        try {
+          Thread.sleep(backoffMillis);
+        } catch (InterruptedException interrupted) {
+          return;
+        }
+        backoffMillis = Math.min(backoffMillis * 2, properties.getMaxReconnectBackoff().toMillis());
+      }
+    }
+    listening.set(0);
+  }
+
+  private Connection connect() throws SQLException {
+    return DriverManager.getConnection(
+        dataSourceProperties.determineUrl(),
+        dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword());
+  }
+
+  private void receive(Connection connection) throws SQLException {
+    final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+    final int pollMillis = (int) properties.getPollTimeout().toMillis();
+    final long keepAliveNanos = properties.getKeepAlive().toNanos();
+    long lastActivity = System.nanoTime();
+    while (running) {
+      PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+      if (notifications == null || notifications.length == 0) {
+        if (System.nanoTime() - lastActivity > keepAliveNanos) {
+          // a half-open socket never errors on its own; a round trip flushes it out
+          try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+          }
+          lastActivity = System.nanoTime();
+        }
+        continue;
+      }
+      final Set<String> entries = new LinkedHashSet<>();
+      collect(notifications, entries);
+      final long coalesceMillis = properties.getCoalesceWindow().toMillis();
+      if (coalesceMillis > 0) {
+        notifications = pgConnection.getNotifications((int) coalesceMillis);
+        if (notifications != null) {
+          collect(notifications, entries);
+        }
+      }
+      cacheInvalidator.evictLocally(entries);
+      lastActivity = System.nanoTime();
+    }
+  }
+
+  private void collect(PGNotification[] notifications, Set<String> entries) {
+    final long now = System.currentTimeMillis();
+    for (PGNotification notification : notifications) {
+      final CacheInvalidationMessage message;
+      try {
+        message = CacheInvalidationMessage.decode(notification.getParameter());
+      } catch (IllegalArgumentException e) {
+        log.warn("Ignoring cache invalidation: {}", e.getMessage());
+        continue;
+      }
+      if (message.nodeId().equals(cacheInvalidator.getNodeId())) {
+        // our own commit, already evicted locally
+        continue;
+      }
+      received.increment();
+      latency.record(Math.max(0, now - message.sentAtMillis()), TimeUnit.MILLISECONDS);
+      entries.addAll(message.entries());
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package io.games.poker_tournament_tracker.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The NOTIFY payload: {@code node|sentAtMillis|cache:key,cache:*,...}. A {@code *} key clears the
+ * cache. Postgres caps payloads at 8000 bytes, so a large set of entries is split across messages.
+ */
+record CacheInvalidationMessage(String nodeId, long sentAtMillis, Set<String> entries) {
+
+  static final String ALL_KEYS = "*";
+
+  private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+  static String entry(String cacheName, Integer key) {
+    return cacheName + ":" + (key == null ? ALL_KEYS : key);
+  }
+
+  /**
+   * Encodes the entries into as few payloads as fit.
+   *
+   * @param nodeId the sending node
+   * @param sentAtMillis the send time
+   * @param entries the cache entries to evict
+   * @return the payloads
+   */
+  static List<String> encode(String nodeId, long sentAtMillis, Collection<String> entries) {
+    final String header = nodeId + "|" + sentAtMillis + "|";
+    final List<String> payloads = new ArrayList<>();
+    StringBuilder payload = new StringBuilder(header);
+    for (String entry : entries) {
+      if (payload.length() > header.length()
+          && payload.length() + 1 + entry.length() > MAX_PAYLOAD_LENGTH) {
+        payloads.add(payload.toString());
+        payload = new StringBuilder(header);
+      }
+      if (payload.length() > header.length()) {
+        payload.append(',');
+      }
+      payload.append(entry);
+    }
+    payloads.add(payload.toString());
+    return payloads;
+  }
+
+  /**
+   * Decodes a payload.
+   *
+   * @param payload the payload
+   * @return the message
+   * @throws IllegalArgumentException if the payload is malformed
+   */
+  static CacheInvalidationMessage decode(String payload) {
+    final String[] parts = payload.split("\\|", 3);
+    if (parts.length != 3) {
+      throw new IllegalArgumentException("Malformed cache invalidation: " + payload);
+    }
+    final Set<String> entries = new LinkedHashSet<>();
+    for (String entry : parts[2].split(",")) {
+      if (!entry.isEmpty()) {
+        entries.add(entry);
+      }
+    }
+    return new CacheInvalidationMessage(parts[0], Long.parseLong(parts[1]), entries);
+  }
+}
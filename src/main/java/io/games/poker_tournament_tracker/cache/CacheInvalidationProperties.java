@@ -0,0 +1,32 @@
+package io.games.poker_tournament_tracker.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.invalidation")
+public class CacheInvalidationProperties {
+
+  /** Broadcasts evictions to other nodes. Only takes effect on PostgreSQL. */
+  private boolean enabled = true;
+
+  /** The NOTIFY channel shared by all nodes. */
+  private String channel = "cache_invalidation";
+
+  /** How long the listener blocks waiting for notifications before checking it should stop. */
+  private Duration pollTimeout = Duration.ofMillis(500);
+
+  /** Extra time spent collecting a burst of notifications before evicting once. */
+  private Duration coalesceWindow = Duration.ofMillis(20);
+
+  /** An idle listener checks its connection this often. */
+  private Duration keepAlive = Duration.ofSeconds(30);
+
+  /** Longest wait between reconnect attempts; the wait doubles from half a second up to this. */
+  private Duration maxReconnectBackoff = Duration.ofSeconds(30);
+}
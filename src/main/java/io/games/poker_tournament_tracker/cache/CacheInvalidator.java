@@ -0,0 +1,189 @@
+package io.games.poker_tournament_tracker.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts local cache entries once a change commits and tells the other nodes to do the same.
+ * Everything evicted in one transaction is sent as a single NOTIFY, issued inside that transaction:
+ * Postgres only delivers it if and when the transaction commits. Without a transaction the eviction
+ * and the NOTIFY happen straight away.
+ *
+ * <p>Plain cache-aside loses to this: a read that loaded before a commit can put its value after
+ * that commit's eviction, and the stale value then lives until it expires. Caches filled through
+ * {@link #getOrLoad} are safe from that, because every local eviction bumps a generation and a load
+ * that saw the generation move drops what it just put.
+ */
+@Component
+@Slf4j
+public class CacheInvalidator {
+
+  private final CacheManager cacheManager;
+  private final JdbcTemplate jdbcTemplate;
+  private final CacheInvalidationProperties properties;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final AtomicLong generation = new AtomicLong();
+  private final boolean broadcast;
+  private final Counter sent;
+
+  public CacheInvalidator(
+      CacheManager cacheManager,
+      JdbcTemplate jdbcTemplate,
+      CacheInvalidationProperties properties,
+      DataSourceProperties dataSourceProperties,
+      MeterRegistry meterRegistry) {
+    this.cacheManager = cacheManager;
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+    this.broadcast = properties.isEnabled() && isPostgres(dataSourceProperties);
+    this.sent =
+        Counter.builder("cache.invalidation.sent")
+            .description("Cache invalidation NOTIFY messages sent")
+            .register(meterRegistry);
+    if (!broadcast) {
+      log.info("Cache invalidation is local only");
+    }
+  }
+
+  static boolean isPostgres(DataSourceProperties dataSourceProperties) {
+    final String url = dataSourceProperties.determineUrl();
+    return url != null && url.startsWith("jdbc:postgresql:");
+  }
+
+  /**
+   * Evicts an entry on every node once the current transaction commits.
+   *
+   * @param cacheName the cache
+   * @param key the key, or null to clear the whole cache
+   */
+  public void evict(String cacheName, Integer key) {
+    final String entry = CacheInvalidationMessage.entry(cacheName, key);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictLocally(Set.of(entry));
+      notifyOthers(Set.of(entry));
+      return;
+    }
+    PendingEvictions pending =
+        (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingEvictions();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.entries.add(entry);
+  }
+
+  /**
+   * Reads an entry, loading and caching it on a miss. If an eviction lands while the value is being
+   * loaded the value may predate it, so it is returned to the caller but not left in the cache.
+   *
+   * @param cacheName the cache
+   * @param key the key
+   * @param loader loads the value; must not start reading before it is called
+   * @return the cached or loaded value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getOrLoad(String cacheName, Object key, Supplier<T> loader) {
+    final Cache cache = cacheManager.getCache(cacheName);
+    if (cache == null) {
+      throw new IllegalArgumentException("No cache named " + cacheName);
+    }
+    final Cache.ValueWrapper cached = cache.get(key);
+    if (cached != null) {
+      return (T) cached.get();
+    }
+    final long loadedAt = generation.get();
+    final T value = loader.get();
+    cache.put(key, value);
+    if (generation.get() != loadedAt) {
+      cache.evict(key);
+    }
+    return value;
+  }
+
+  String getNodeId() {
+    return nodeId;
+  }
+
+  /** Evicts entries in the form {@code cache:key} or {@code cache:*}. */
+  void evictLocally(Collection<String> entries) {
+    // bumped before evicting, so a load that puts after this point sees it and backs out
+    generation.incrementAndGet();
+    for (String entry : entries) {
+      final int separator = entry.indexOf(':');
+      final Cache cache =
+          separator < 0 ? null : cacheManager.getCache(entry.substring(0, separator));
+      if (cache == null) {
+        continue;
+      }
+      final String key = entry.substring(separator + 1);
+      if (key.equals(CacheInvalidationMessage.ALL_KEYS)) {
+        cache.clear();
+      } else {
+        cache.evict(Integer.valueOf(key));
+      }
+    }
+  }
+
+  /** Clears every cache, for when notifications may have been missed. */
+  void clearAll() {
+    generation.incrementAndGet();
+    for (String cacheName : cacheManager.getCacheNames()) {
+      final Cache cache = cacheManager.getCache(cacheName);
+      if (cache != null) {
+        cache.clear();
+      }
+    }
+  }
+
+  private void notifyOthers(Collection<String> entries) {
+    if (!broadcast) {
+      return;
+    }
+    for (String payload :
+        CacheInvalidationMessage.encode(nodeId, System.currentTimeMillis(), entries)) {
+      jdbcTemplate.query(
+          "SELECT pg_notify(?, ?)", resultSet -> null, properties.getChannel(), payload);
+      sent.increment();
+    }
+  }
+
+  /** The entries evicted by one transaction. */
+  private final class PendingEvictions implements TransactionSynchronization {
+
+    private final Set<String> entries = new LinkedHashSet<>();
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      // same connection as the change, so the notification commits or rolls back with it
+      notifyOthers(entries);
+    }
+
+    @Override
+    public void afterCommit() {
+      evictLocally(entries);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidator.this);
+    }
+  }
+}
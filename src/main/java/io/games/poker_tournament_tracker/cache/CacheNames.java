@@ -0,0 +1,17 @@
+package io.games.poker_tournament_tracker.cache;
+
+/**
+ * Names of the local caches. Each cache is keyed by an Integer ID, except the by-name caches, which
+ * are keyed by name and only ever cleared as a whole.
+ */
+public final class CacheNames {
+
+  public static final String PLAYERS = "players";
+  public static final String PLAYER_IDS_BY_NAME = "playerIdsByName";
+  public static final String SEASONS = "seasons";
+  public static final String SEASON_IDS_BY_NAME = "seasonIdsByName";
+  public static final String SEASON_DETAILS = "seasonDetails";
+  public static final String SEASON_VERSIONS = "seasonVersions";
+
+  private CacheNames() {}
+}
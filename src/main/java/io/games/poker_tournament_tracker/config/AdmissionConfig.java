@@ -0,0 +1,52 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.games.poker_tournament_tracker.cache.CacheNames;
+import io.games.poker_tournament_tracker.rest.AdmissionControlInterceptor;
+import io.games.poker_tournament_tracker.rest.AdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+  private final AdmissionProperties admissionProperties;
+  private final MeterRegistry meterRegistry;
+  private final CacheManager cacheManager;
+
+  public AdmissionConfig(
+      AdmissionProperties admissionProperties,
+      MeterRegistry meterRegistry,
+      CacheManager cacheManager) {
+    this.admissionProperties = admissionProperties;
+    this.meterRegistry = meterRegistry;
+    this.cacheManager = cacheManager;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    if (admissionProperties.isEnabled()) {
+      registry
+          .addInterceptor(
+              new AdmissionControlInterceptor(
+                  admissionProperties, meterRegistry, this::knownSeason))
+          .addPathPatterns("/api/poker/tournament/**");
+    }
+  }
+
+  /**
+   * Whether the season's ID is in the name cache. Only names that resolved are cached, so this
+   * reads the cache and never loads: a real season not looked up since the cache was last cleared
+   * is counted as {@code other} until its first request gets past admission.
+   */
+  private boolean knownSeason(String seasonName) {
+    final Cache seasonIdsByName = cacheManager.getCache(CacheNames.SEASON_IDS_BY_NAME);
+    return seasonIdsByName != null && seasonIdsByName.get(seasonName) != null;
+  }
+}
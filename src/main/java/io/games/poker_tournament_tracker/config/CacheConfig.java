@@ -0,0 +1,12 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+import io.games.poker_tournament_tracker.cache.CacheInvalidationProperties;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+public class CacheConfig {}
@@ -0,0 +1,65 @@
+package io.games.poker_tournament_tracker.config;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import io.games.poker_tournament_tracker.monitoring.AdaptivePoolSizer;
+import io.games.poker_tournament_tracker.monitoring.ConnectionPoolEndpoint;
+import io.games.poker_tournament_tracker.monitoring.ConnectionPoolProperties;
+import io.games.poker_tournament_tracker.rest.PoolTimeoutExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@EnableConfigurationProperties(ConnectionPoolProperties.class)
+public class ConnectionPoolConfig implements SchedulingConfigurer {
+
+  private final ConnectionPoolProperties connectionPoolProperties;
+  private final HikariDataSource dataSource;
+  private final MeterRegistry meterRegistry;
+  private final AdaptivePoolSizer adaptivePoolSizer;
+
+  public ConnectionPoolConfig(
+      ConnectionPoolProperties connectionPoolProperties,
+      DataSource dataSource,
+      MeterRegistry meterRegistry)
+      throws SQLException {
+    this.connectionPoolProperties = connectionPoolProperties;
+    this.dataSource = dataSource.unwrap(HikariDataSource.class);
+    this.meterRegistry = meterRegistry;
+    this.adaptivePoolSizer =
+        connectionPoolProperties.getAdaptive().isEnabled()
+            ? new AdaptivePoolSizer(
+                this.dataSource, meterRegistry, connectionPoolProperties.getAdaptive())
+            : null;
+  }
+
+  @Bean
+  public ConnectionPoolEndpoint connectionPoolEndpoint() {
+    return new ConnectionPoolEndpoint(dataSource, meterRegistry, adaptivePoolSizer);
+  }
+
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public PoolTimeoutExceptionHandler poolTimeoutExceptionHandler() {
+    return new PoolTimeoutExceptionHandler(connectionPoolProperties.getRetryAfter());
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    if (adaptivePoolSizer != null) {
+      taskRegistrar.addFixedRateTask(
+          adaptivePoolSizer::adjust, connectionPoolProperties.getAdaptive().getInterval());
+    }
+  }
+}
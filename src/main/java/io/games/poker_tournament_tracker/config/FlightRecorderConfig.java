@@ -0,0 +1,30 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.games.poker_tournament_tracker.monitoring.ContinuousRecording;
+import io.games.poker_tournament_tracker.monitoring.FlightRecorderProperties;
+import io.games.poker_tournament_tracker.monitoring.FlightRecordingEndpoint;
+
+@Configuration
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+public class FlightRecorderConfig {
+
+  @Bean
+  public ContinuousRecording continuousRecording(
+      FlightRecorderProperties flightRecorderProperties) {
+    return new ContinuousRecording(flightRecorderProperties);
+  }
+
+  /** Only on a separate management port: a dump holds whatever the application was doing. */
+  @Bean
+  @ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+  public FlightRecordingEndpoint flightRecordingEndpoint(
+      ContinuousRecording continuousRecording, FlightRecorderProperties flightRecorderProperties) {
+    return new FlightRecordingEndpoint(continuousRecording, flightRecorderProperties);
+  }
+}
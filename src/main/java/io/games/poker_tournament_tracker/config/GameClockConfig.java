@@ -0,0 +1,36 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.games.poker_tournament_tracker.rest.GameClockSubscribers;
+import io.games.poker_tournament_tracker.service.GameClockProperties;
+import io.games.poker_tournament_tracker.util.TimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(GameClockProperties.class)
+public class GameClockConfig {
+
+  @Bean(destroyMethod = "stop")
+  public TimingWheel gameClockWheel(
+      GameClockProperties gameClockProperties, MeterRegistry meterRegistry) {
+    final TimingWheel timingWheel =
+        new TimingWheel(
+            gameClockProperties.getTick(),
+            gameClockProperties.getWheelSize(),
+            gameClockProperties.getWorkerThreads(),
+            "game-clock");
+    Gauge.builder("game.clock.scheduled", timingWheel, TimingWheel::getPending)
+        .description("Running game clocks waiting for their level to end")
+        .register(meterRegistry);
+    return timingWheel;
+  }
+
+  @Bean
+  public GameClockSubscribers gameClockSubscribers(GameClockProperties gameClockProperties) {
+    return new GameClockSubscribers(gameClockProperties.getSubscriberTimeout());
+  }
+}
@@ -1,15 +1,35 @@
 package io.games.poker_tournament_tracker.config;
 
+import java.util.List;
+
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import io.games.poker_tournament_tracker.model.BatchResult;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
 
 @Configuration
+@Slf4j
 public class JacksonConfig {
 
+  /** Binary JSON for clients that send {@code Accept: application/x-jackson-smile}. */
+  public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
   @Bean
   public Jackson2ObjectMapperBuilderCustomizer jacksonCustomizer() {
     return jacksonObjectMapperBuilder ->
@@ -18,4 +38,54 @@ public class JacksonConfig {
             DeserializationFeature.ACCEPT_FLOAT_AS_INT,
             SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
   }
+
+  /**
+   * Replaces reflective getter calls in bean serializers with generated lambdas. Boot registers
+   * module beans with the builder, so both the JSON and the Smile mapper pick it up.
+   */
+  @Bean
+  public Module blackbirdModule() {
+    // a native image cannot define classes at run time, so serializers stay reflective there
+    return NativeDetector.inNativeImage() ? new SimpleModule() : new BlackbirdModule();
+  }
+
+  /**
+   * Smile converter built from Boot's builder, so it carries the same customizations as JSON; the
+   * default one Spring MVC registers when Smile is on the classpath would not. Repeated short
+   * strings such as amounts are back-referenced as well as property names.
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder jacksonObjectMapperBuilder) {
+    final SmileFactory smileFactory =
+        SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build();
+    return new MappingJackson2SmileHttpMessageConverter(
+        jacksonObjectMapperBuilder.factory(smileFactory).build());
+  }
+
+  /**
+   * Builds the serializer of every type in the model package, for every Jackson converter, before
+   * the first request instead of during it. Serializer construction, including Blackbird's code
+   * generation, otherwise lands on whichever request first returns the type.
+   */
+  @Bean
+  public ApplicationRunner jacksonWarmUp(List<AbstractJackson2HttpMessageConverter> converters) {
+    return args -> {
+      if (NativeDetector.inNativeImage()) {
+        // no class files to scan for the model types
+        return;
+      }
+      final long start = System.nanoTime();
+      final List<Class<?>> modelTypes = PackageTypes.of(BatchResult.class);
+      for (final AbstractJackson2HttpMessageConverter converter : converters) {
+        final ObjectMapper objectMapper = converter.getObjectMapper();
+        modelTypes.forEach(objectMapper::canSerialize);
+      }
+      log.info(
+          "Built serializers for {} model types in {} converters in {} ms",
+          modelTypes.size(),
+          converters.size(),
+          (System.nanoTime() - start) / 1_000_000);
+    };
+  }
 }
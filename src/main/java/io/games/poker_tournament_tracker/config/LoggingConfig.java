@@ -0,0 +1,44 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.games.poker_tournament_tracker.monitoring.CorrelationIdFilter;
+import io.games.poker_tournament_tracker.monitoring.LogRateLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import ch.qos.logback.classic.LoggerContext;
+
+@Configuration
+public class LoggingConfig {
+
+  @Bean
+  public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter() {
+    // first in the chain, so every other filter's log lines carry the ID too
+    final FilterRegistrationBean<CorrelationIdFilter> registration =
+        new FilterRegistrationBean<>(new CorrelationIdFilter());
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  @Bean
+  public MeterBinder logRateLimitMetrics() {
+    return meterRegistry -> {
+      if (LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext) {
+        loggerContext.getTurboFilterList().stream()
+            .filter(LogRateLimitFilter.class::isInstance)
+            .map(LogRateLimitFilter.class::cast)
+            .forEach(
+                filter ->
+                    FunctionCounter.builder(
+                            "logging.events.suppressed", filter, LogRateLimitFilter::getSuppressed)
+                        .description("INFO lines dropped by the per-logger rate limit")
+                        .register(meterRegistry));
+      }
+    };
+  }
+}
@@ -0,0 +1,48 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import io.games.poker_tournament_tracker.domain.Season;
+import io.games.poker_tournament_tracker.model.BatchResult;
+
+/**
+ * Reflection hints for {@code nativeCompile}. AOT processing already covers the entities Hibernate
+ * manages, the repository proxies and the types controllers return; these hints also cover what it
+ * cannot see, such as records built by JPQL constructor expressions and DTOs that only appear
+ * inside outbox payloads.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.ApplicationHints.class)
+public class NativeConfig {
+
+  static class ApplicationHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingHints =
+        new BindingReflectionHintsRegistrar();
+
+    /**
+     * Registers the domain types for Hibernate and the model types for Jackson, the same as {@link
+     * RegisterReflectionForBinding} would for each of them.
+     */
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+      for (final Class<?> domainType : PackageTypes.of(Season.class)) {
+        hints
+            .reflection()
+            .registerType(
+                domainType,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+      }
+      bindingHints.registerReflectionHints(
+          hints.reflection(), PackageTypes.of(BatchResult.class).toArray(Class<?>[]::new));
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import io.games.poker_tournament_tracker.service.OutboxProperties;
+import io.games.poker_tournament_tracker.service.OutboxRelay;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig implements SchedulingConfigurer {
+
+  private final OutboxRelay outboxRelay;
+  private final OutboxProperties outboxProperties;
+
+  public OutboxConfig(OutboxRelay outboxRelay, OutboxProperties outboxProperties) {
+    this.outboxRelay = outboxRelay;
+    this.outboxProperties = outboxProperties;
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.addFixedDelayTask(outboxRelay::relay, outboxProperties.getRelayInterval());
+  }
+}
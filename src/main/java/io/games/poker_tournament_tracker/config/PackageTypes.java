@@ -0,0 +1,30 @@
+package io.games.poker_tournament_tracker.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+/** Finds the classes of an application package by scanning the class path. */
+final class PackageTypes {
+
+  private PackageTypes() {}
+
+  /**
+   * Lists the concrete top-level and static nested classes of a package. A native image has no
+   * class files to scan, so this only works on the JVM, including during AOT processing.
+   *
+   * @param member any type in the package
+   * @return the package's classes
+   */
+  static List<Class<?>> of(final Class<?> member) {
+    final ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+    return scanner.findCandidateComponents(member.getPackageName()).stream()
+        .map(BeanDefinition::getBeanClassName)
+        .<Class<?>>map(name -> ClassUtils.resolveClassName(name, member.getClassLoader()))
+        .toList();
+  }
+}
@@ -0,0 +1,32 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.games.poker_tournament_tracker.monitoring.QueryCountFilter;
+import io.games.poker_tournament_tracker.monitoring.QueryCountInspector;
+import io.games.poker_tournament_tracker.monitoring.QueryCountProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(QueryCountProperties.class)
+public class QueryCountConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer queryCountHibernateCustomizer(
+      QueryCountProperties queryCountProperties) {
+    return hibernateProperties ->
+        hibernateProperties.put(
+            AvailableSettings.STATEMENT_INSPECTOR,
+            new QueryCountInspector(queryCountProperties.getWarnThreshold()));
+  }
+
+  @Bean
+  public QueryCountFilter queryCountFilter(
+      QueryCountProperties queryCountProperties, MeterRegistry meterRegistry) {
+    return new QueryCountFilter(queryCountProperties, meterRegistry);
+  }
+}
@@ -0,0 +1,56 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.games.poker_tournament_tracker.monitoring.QueryStatisticsEndpoint;
+import io.games.poker_tournament_tracker.monitoring.QueryStatisticsProperties;
+import io.games.poker_tournament_tracker.monitoring.SlowQueryLog;
+import io.games.poker_tournament_tracker.monitoring.SlowQueryStatistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Configuration
+@EnableConfigurationProperties(QueryStatisticsProperties.class)
+public class QueryStatisticsConfig {
+
+  @Bean
+  public SlowQueryLog slowQueryLog(QueryStatisticsProperties queryStatisticsProperties) {
+    return new SlowQueryLog(queryStatisticsProperties.getSlowQueryCapacity());
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer queryStatisticsHibernateCustomizer(
+      QueryStatisticsProperties queryStatisticsProperties, SlowQueryLog slowQueryLog) {
+    return hibernateProperties -> {
+      if (!queryStatisticsProperties.isEnabled()) {
+        return;
+      }
+      hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+      hibernateProperties.put(
+          AvailableSettings.LOG_SLOW_QUERY,
+          Math.max(1, queryStatisticsProperties.getSlowThreshold().toMillis()));
+      hibernateProperties.put(
+          AvailableSettings.STATS_BUILDER,
+          (StatisticsFactory)
+              sessionFactory -> new SlowQueryStatistics(sessionFactory, slowQueryLog));
+    };
+  }
+
+  /** Only on a separate management port: it exposes SQL and lets the caller reset the counters. */
+  @Bean
+  @ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+  public QueryStatisticsEndpoint queryStatisticsEndpoint(
+      EntityManagerFactory entityManagerFactory,
+      SlowQueryLog slowQueryLog,
+      QueryStatisticsProperties queryStatisticsProperties) {
+    return new QueryStatisticsEndpoint(
+        entityManagerFactory, slowQueryLog, queryStatisticsProperties);
+  }
+}
@@ -0,0 +1,49 @@
+package io.games.poker_tournament_tracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import io.games.poker_tournament_tracker.monitoring.EndpointLatencyFilter;
+import io.games.poker_tournament_tracker.monitoring.ServiceLatencyAspect;
+import io.games.poker_tournament_tracker.monitoring.SloEndpoint;
+import io.games.poker_tournament_tracker.monitoring.SloProperties;
+import io.games.poker_tournament_tracker.monitoring.SloTracker;
+
+@Configuration
+@EnableConfigurationProperties(SloProperties.class)
+public class SloConfig implements SchedulingConfigurer {
+
+  private final SloTracker sloTracker;
+
+  public SloConfig(SloProperties sloProperties) {
+    this.sloTracker = new SloTracker(sloProperties);
+  }
+
+  @Bean
+  public SloTracker sloTracker() {
+    return sloTracker;
+  }
+
+  @Bean
+  public EndpointLatencyFilter endpointLatencyFilter() {
+    return new EndpointLatencyFilter(sloTracker);
+  }
+
+  @Bean
+  public ServiceLatencyAspect serviceLatencyAspect() {
+    return new ServiceLatencyAspect(sloTracker);
+  }
+
+  @Bean
+  public SloEndpoint sloEndpoint() {
+    return new SloEndpoint(sloTracker);
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.addFixedRateTask(sloTracker::tick, SloTracker.TICK);
+  }
+}
@@ -1,8 +1,10 @@
 package io.games.poker_tournament_tracker.config;
 
+import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springdoc.core.customizers.OperationCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -15,32 +17,41 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 
+/**
+ * Additions to the generated API documentation. Springdoc builds the document on the first request
+ * for it, so these are customizers that run then rather than a prebuilt {@link OpenAPI} bean; the
+ * configuration itself is created only when springdoc collects its customizers.
+ */
+@Lazy
 @Configuration
 public class SwaggerConfig {
 
   @Bean
-  public OpenAPI openApiSpec() {
-    return new OpenAPI()
-        .components(
-            new Components()
-                .addSchemas(
-                    "ApiErrorResponse",
-                    new ObjectSchema()
-                        .addProperty("status", new IntegerSchema())
-                        .addProperty("code", new StringSchema())
-                        .addProperty("message", new StringSchema())
-                        .addProperty(
-                            "fieldErrors",
-                            new ArraySchema()
-                                .items(new Schema<ArraySchema>().$ref("ApiFieldError"))))
-                .addSchemas(
-                    "ApiFieldError",
-                    new ObjectSchema()
-                        .addProperty("code", new StringSchema())
-                        .addProperty("message", new StringSchema())
-                        .addProperty("property", new StringSchema())
-                        .addProperty("rejectedValue", new ObjectSchema())
-                        .addProperty("path", new StringSchema())));
+  public OpenApiCustomizer errorSchemas() {
+    return openApi -> {
+      if (openApi.getComponents() == null) {
+        openApi.components(new Components());
+      }
+      openApi
+          .getComponents()
+          .addSchemas(
+              "ApiErrorResponse",
+              new ObjectSchema()
+                  .addProperty("status", new IntegerSchema())
+                  .addProperty("code", new StringSchema())
+                  .addProperty("message", new StringSchema())
+                  .addProperty(
+                      "fieldErrors",
+                      new ArraySchema().items(new Schema<ArraySchema>().$ref("ApiFieldError"))))
+          .addSchemas(
+              "ApiFieldError",
+              new ObjectSchema()
+                  .addProperty("code", new StringSchema())
+                  .addProperty("message", new StringSchema())
+                  .addProperty("property", new StringSchema())
+                  .addProperty("rejectedValue", new ObjectSchema())
+                  .addProperty("path", new StringSchema()));
+    };
   }
 
   @Bean
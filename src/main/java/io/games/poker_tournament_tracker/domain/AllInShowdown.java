@@ -0,0 +1,60 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+public class AllInShowdown {
+
+  @Id
+  @Column(nullable = false, updatable = false)
+  @SequenceGenerator(
+      name = "primary_sequence",
+      sequenceName = "primary_sequence",
+      allocationSize = 1,
+      initialValue = 10000)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "primary_sequence")
+  private Integer allInShowdownId;
+
+  @Column(nullable = false, length = 4)
+  private String holeCards;
+
+  @Column(nullable = false, length = 110)
+  private String opponentHoleCards;
+
+  @Column(length = 10)
+  private String board;
+
+  @Column(nullable = false, precision = 14, scale = 2)
+  private Money potAmount;
+
+  @Column(nullable = false, precision = 14, scale = 2)
+  private Money amountWon;
+
+  @Column(nullable = false, precision = 7, scale = 6)
+  private BigDecimal equity;
+
+  @Column(nullable = false, precision = 14, scale = 2)
+  private Money expectedWinnings;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "game_id", nullable = false)
+  private Game game;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "season_player_id", nullable = false)
+  private SeasonPlayer seasonPlayer;
+}
@@ -0,0 +1,25 @@
+package io.games.poker_tournament_tracker.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.Setter;
+
+/** One level of a {@link BlindStructure}: the forced bets in chips and how long they last. */
+@Embeddable
+@Getter
+@Setter
+public class BlindLevel {
+
+  @Column(nullable = false)
+  private Integer smallBlind;
+
+  @Column(nullable = false)
+  private Integer bigBlind;
+
+  @Column(nullable = false)
+  private Integer ante;
+
+  @Column(nullable = false)
+  private Integer durationMinutes;
+}
@@ -0,0 +1,47 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import lombok.Getter;
+import lombok.Setter;
+
+/** A named sequence of blind levels a game's clock runs through. */
+@Entity
+@Getter
+@Setter
+public class BlindStructure {
+
+  @Id
+  @Column(nullable = false, updatable = false)
+  @SequenceGenerator(
+      name = "primary_sequence",
+      sequenceName = "primary_sequence",
+      allocationSize = 1,
+      initialValue = 10000)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "primary_sequence")
+  private Integer blindStructureId;
+
+  @Column(nullable = false, unique = true, length = 100)
+  private String name;
+
+  @ElementCollection
+  @CollectionTable(
+      name = "blind_level",
+      joinColumns = @JoinColumn(name = "blind_structure_id", nullable = false))
+  @OrderColumn(name = "level_index")
+  private List<BlindLevel> levels = new ArrayList<>();
+
+  @Column private OffsetDateTime createdAt;
+}
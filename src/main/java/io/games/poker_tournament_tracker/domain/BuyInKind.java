@@ -0,0 +1,8 @@
+package io.games.poker_tournament_tracker.domain;
+
+/** What a buy-in row pays for. A player buys in once per game and may take one add-on. */
+public enum BuyInKind {
+  BUY_IN,
+  REBUY,
+  ADD_ON
+}
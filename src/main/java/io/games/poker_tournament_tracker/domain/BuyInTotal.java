@@ -0,0 +1,18 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * One player's buy-ins of one kind, summed in the database.
+ *
+ * @param kind the kind; rows from before buy-ins had kinds count as {@code BUY_IN}
+ * @param count how many rows there are
+ * @param amount their sum
+ */
+public record BuyInTotal(
+    Integer seasonPlayerId, String playerName, BuyInKind kind, Long count, BigDecimal amount) {
+
+  public BuyInTotal {
+    kind = kind == null ? BuyInKind.BUY_IN : kind;
+  }
+}
@@ -0,0 +1,81 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A player knocked out of a game, numbered by the floor in the order it happened. Events may arrive
+ * out of order, so one is stored as soon as it is received and applied once every event before it
+ * is in: only then are its finishing position and bounty known. IDs come from their own sequence
+ * with a block of 50, like the outbox's, so a burst is inserted in batches.
+ */
+@Entity
+@Table(
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_elimination_game_event_sequence",
+          columnNames = {"game_id", "event_sequence"}),
+      @UniqueConstraint(
+          name = "uk_elimination_game_eliminated",
+          columnNames = {"game_id", "eliminated_id"})
+    })
+@Getter
+@Setter
+public class Elimination {
+
+  @Id
+  @Column(nullable = false, updatable = false)
+  @SequenceGenerator(
+      name = "elimination_sequence",
+      sequenceName = "elimination_sequence",
+      allocationSize = 50,
+      initialValue = 1)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "elimination_sequence")
+  private Long eliminationId;
+
+  /** 1-based and gapless within a game. */
+  @Column(nullable = false)
+  private Integer eventSequence;
+
+  @Column(nullable = false)
+  private OffsetDateTime eliminatedAt;
+
+  /** Null until the event is applied. */
+  @Column private Integer finishingPosition;
+
+  /** What the eliminator collected; null without a bounty or eliminator. */
+  @Column(precision = 14, scale = 2)
+  private Money bountyPaid;
+
+  /** The part of a progressive bounty added to the eliminator's own head. */
+  @Column(precision = 14, scale = 2)
+  private Money bountyAdded;
+
+  @Column(nullable = false)
+  private OffsetDateTime createdAt;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "game_id", nullable = false)
+  private Game game;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "eliminated_id", nullable = false)
+  private SeasonPlayer eliminated;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "eliminator_id")
+  private SeasonPlayer eliminator;
+}
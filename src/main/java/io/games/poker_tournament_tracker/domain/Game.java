@@ -13,10 +13,17 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Table(
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_game_season_game_number",
+            columnNames = {"season_id", "game_number"}))
 @Getter
 @Setter
 public class Game {
@@ -40,6 +47,22 @@ public class Game {
 
   @Column private OffsetDateTime createdAt;
 
+  /** Seats per table, set when the seats are drawn. */
+  @Column private Integer tableSize;
+
+  /** The bounty on each player's head; null for a game without bounties. */
+  @Column(precision = 14, scale = 2)
+  private Money bounty;
+
+  /**
+   * Whether the bounty is progressive: half of a head is paid out, the other half is added to the
+   * eliminator's head.
+   */
+  @Column private Boolean progressiveBounty;
+
+  /** The sequence of the last elimination applied; every event up to it is in. */
+  @Column private Integer lastEliminationSequence;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "season_id", nullable = false)
   private Season season;
@@ -52,4 +75,7 @@ public class Game {
 
   @OneToMany(mappedBy = "game")
   private Set<PlayerParticipation> gamePlayerParticipations;
+
+  @OneToMany(mappedBy = "game")
+  private Set<AllInShowdown> gameAllInShowdowns;
 }
@@ -1,20 +1,31 @@
 package io.games.poker_tournament_tracker.domain;
 
-import java.math.BigDecimal;
-
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
+/**
+ * Money a player put into a game. A player has one buy-in per game, plus any rebuys and at most one
+ * add-on, each its own row; totals are summed in the database per game and player.
+ */
 @Entity
+@Table(
+    indexes =
+        @Index(
+            name = "idx_game_buy_in_game_season_player",
+            columnList = "game_id, season_player_id"))
 @Getter
 @Setter
 public class GameBuyIn {
@@ -30,7 +41,12 @@ public class GameBuyIn {
   private Integer gameBuyInId;
 
   @Column(nullable = false, precision = 14, scale = 2)
-  private BigDecimal buyInAmount;
+  private Money buyInAmount;
+
+  /** Null on rows written before buy-ins had kinds, which are buy-ins. */
+  @Enumerated(EnumType.STRING)
+  @Column(length = 10)
+  private BuyInKind kind = BuyInKind.BUY_IN;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "game_id", nullable = false)
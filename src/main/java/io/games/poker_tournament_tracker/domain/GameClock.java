@@ -0,0 +1,59 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The blind clock of a game, written on every transition so a restarted instance can pick it up
+ * where it was. A running clock stores when its level ends rather than how long is left, so the
+ * time spent down counts against the level; a paused one stores the time left instead. On the last
+ * level {@code levelEndsAt} is null and the clock runs until it is stopped.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_game_clock_status", columnList = "status"))
+@Getter
+@Setter
+public class GameClock {
+
+  @Id private Integer gameId;
+
+  @MapsId
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "game_id")
+  private Game game;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "blind_structure_id", nullable = false)
+  private BlindStructure blindStructure;
+
+  @Column(nullable = false)
+  private Integer levelIndex;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private GameClockStatus status;
+
+  @Column private OffsetDateTime levelEndsAt;
+
+  @Column private Long remainingMillis;
+
+  @Column(nullable = false)
+  private OffsetDateTime updatedAt;
+
+  @Version private Integer version;
+}
@@ -0,0 +1,7 @@
+package io.games.poker_tournament_tracker.domain;
+
+public enum GameClockStatus {
+  RUNNING,
+  PAUSED,
+  STOPPED
+}
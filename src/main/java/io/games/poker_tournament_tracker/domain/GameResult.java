@@ -1,7 +1,5 @@
 package io.games.poker_tournament_tracker.domain;
 
-import java.math.BigDecimal;
-
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -30,7 +28,7 @@ public class GameResult {
   private Integer gameResultId;
 
   @Column(nullable = false, precision = 14, scale = 2)
-  private BigDecimal winnings;
+  private Money winnings;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "game_id", nullable = false)
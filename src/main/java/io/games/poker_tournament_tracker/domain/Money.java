@@ -0,0 +1,165 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.Function;
+
+import io.games.poker_tournament_tracker.util.ValidationException;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * An amount of money held as a count of minor units (cents), matching the {@code precision = 14,
+ * scale = 2} columns it is stored in. Arithmetic is exact and overflow-checked, and the summing
+ * helpers work on the raw {@code long} so totals don't allocate per row.
+ */
+@EqualsAndHashCode
+public final class Money implements Comparable<Money> {
+
+  public static final int SCALE = 2;
+
+  public static final Money ZERO = new Money(0);
+
+  private final long cents;
+
+  private Money(long cents) {
+    this.cents = cents;
+  }
+
+  public static Money ofCents(long cents) {
+    return cents == 0 ? ZERO : new Money(cents);
+  }
+
+  /**
+   * Converts an exact decimal amount.
+   *
+   * @param amount the amount, with at most two decimal places
+   * @return the money, or null when the amount is null
+   * @throws ValidationException if the amount has more than two decimal places or is out of range
+   */
+  public static Money of(BigDecimal amount) {
+    if (amount == null) {
+      return null;
+    }
+    try {
+      return ofCents(
+          amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    } catch (ArithmeticException e) {
+      throw new ValidationException("Invalid amount: " + amount.toPlainString());
+    }
+  }
+
+  /**
+   * Converts a decimal amount, rounding half-even to whole cents.
+   *
+   * @param amount the amount
+   * @return the money, or null when the amount is null
+   */
+  public static Money ofRounded(BigDecimal amount) {
+    return amount == null ? null : of(amount.setScale(SCALE, RoundingMode.HALF_EVEN));
+  }
+
+  public long getCents() {
+    return cents;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  public Money plus(Money other) {
+    return ofCents(Math.addExact(cents, other.cents));
+  }
+
+  public Money minus(Money other) {
+    return ofCents(Math.subtractExact(cents, other.cents));
+  }
+
+  public boolean isNegative() {
+    return cents < 0;
+  }
+
+  /**
+   * Sums an amount taken from each item. Only the result is allocated.
+   *
+   * @param items the items
+   * @param amount reads the amount of an item; null amounts are skipped
+   * @return the total
+   */
+  public static <T> Money sum(Iterable<T> items, Function<? super T, Money> amount) {
+    long total = 0;
+    for (T item : items) {
+      final Money money = amount.apply(item);
+      if (money != null) {
+        total = Math.addExact(total, money.cents);
+      }
+    }
+    return ofCents(total);
+  }
+
+  /**
+   * Sums raw cent amounts.
+   *
+   * @param cents the amounts in cents
+   * @return the total in cents
+   */
+  public static long sumCents(long[] cents) {
+    long total = 0;
+    for (long amount : cents) {
+      total = Math.addExact(total, amount);
+    }
+    return total;
+  }
+
+  /**
+   * Averages an amount taken from each item, rounding half-even to whole cents.
+   *
+   * @param items the items
+   * @param amount reads the amount of an item; null amounts are skipped
+   * @return the average, or zero when there are no amounts
+   */
+  public static <T> Money average(Iterable<T> items, Function<? super T, Money> amount) {
+    long total = 0;
+    long count = 0;
+    for (T item : items) {
+      final Money money = amount.apply(item);
+      if (money != null) {
+        total = Math.addExact(total, money.cents);
+        count++;
+      }
+    }
+    return ofCents(divideHalfEven(total, count));
+  }
+
+  /**
+   * Averages raw cent amounts, rounding half-even.
+   *
+   * @param cents the amounts in cents
+   * @return the average in cents, or zero when there are none
+   */
+  public static long averageCents(long[] cents) {
+    return divideHalfEven(sumCents(cents), cents.length);
+  }
+
+  private static long divideHalfEven(long dividend, long divisor) {
+    if (divisor == 0) {
+      return 0;
+    }
+    final long quotient = Math.floorDiv(dividend, divisor);
+    final long twiceRemainder = 2 * Math.floorMod(dividend, divisor);
+    if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) != 0)) {
+      return quotient + 1;
+    }
+    return quotient;
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,21 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/** Maps {@link Money} onto the existing {@code numeric(14, 2)} amount columns. */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+  @Override
+  public BigDecimal convertToDatabaseColumn(final Money money) {
+    return money == null ? null : money.toBigDecimal();
+  }
+
+  @Override
+  public Money convertToEntityAttribute(final BigDecimal amount) {
+    return Money.of(amount);
+  }
+}
@@ -0,0 +1,59 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A change written in the same transaction as the row it describes. The relay later gives it a
+ * {@code position}, which is the order consumers read in: IDs come from a sequence and can commit
+ * out of order, positions are handed out one by one after commit and never leave a gap. Pending
+ * events are claimed in ID order, so IDs are taken from the sequence one at a time; a pooled block
+ * would let one node's later events sort ahead of another node's earlier ones.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_event_position", columnList = "position", unique = true))
+@Getter
+@Setter
+public class OutboxEvent {
+
+  @Id
+  @Column(nullable = false, updatable = false)
+  @SequenceGenerator(
+      name = "outbox_sequence",
+      sequenceName = "outbox_sequence",
+      allocationSize = 1,
+      initialValue = 1)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_sequence")
+  private Long eventId;
+
+  @Column private Long position;
+
+  @Column(nullable = false, length = 50)
+  private String eventType;
+
+  @Column(nullable = false, length = 50)
+  private String aggregateType;
+
+  @Column(nullable = false)
+  private Integer aggregateId;
+
+  @Column private Integer seasonId;
+
+  @Column(nullable = false, columnDefinition = "text")
+  private String payload;
+
+  @Column(nullable = false)
+  private OffsetDateTime createdAt;
+
+  @Column private OffsetDateTime publishedAt;
+}
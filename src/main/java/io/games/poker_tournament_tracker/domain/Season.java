@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.Set;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -39,6 +41,19 @@ public class Season {
 
   @Column private OffsetDateTime createdAt;
 
+  /** Highest game number handed out in this season; bumped in place so allocation is atomic. */
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  private Integer lastGameNumber = 0;
+
+  /** Bumped by every write to the season's data; HTTP reads derive their ETag from it. */
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("0")
+  private Long dataVersion = 0L;
+
+  @Column(updatable = false)
+  private OffsetDateTime dataModifiedAt;
+
   @OneToMany(mappedBy = "season")
   private Set<SeasonPlayer> seasonSeasonPlayers;
 
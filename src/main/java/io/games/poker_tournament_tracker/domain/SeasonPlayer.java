@@ -1,6 +1,5 @@
 package io.games.poker_tournament_tracker.domain;
 
-import java.math.BigDecimal;
 import java.util.Set;
 
 import jakarta.persistence.Column;
@@ -32,13 +31,13 @@ public class SeasonPlayer {
   private Integer seasonPlayerId;
 
   @Column(nullable = false, precision = 14, scale = 2)
-  private BigDecimal allocatedPotSize;
+  private Money allocatedPotSize;
 
   @Column(nullable = false, precision = 14, scale = 2)
-  private BigDecimal minBuyIn;
+  private Money minBuyIn;
 
   @Column(nullable = false, precision = 14, scale = 2)
-  private BigDecimal currentPotSize;
+  private Money currentPotSize;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "season_id", nullable = false)
@@ -56,4 +55,7 @@ public class SeasonPlayer {
 
   @OneToMany(mappedBy = "seasonPlayer")
   private Set<PlayerParticipation> seasonPlayerPlayerParticipations;
+
+  @OneToMany(mappedBy = "seasonPlayer")
+  private Set<AllInShowdown> seasonPlayerAllInShowdowns;
 }
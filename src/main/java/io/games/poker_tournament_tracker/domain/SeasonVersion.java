@@ -0,0 +1,30 @@
+package io.games.poker_tournament_tracker.domain;
+
+import java.time.OffsetDateTime;
+
+/**
+ * How many times a season's data has been written, and when it last was. Cheap to cache and to
+ * compare, so conditional reads can be answered without building the response.
+ *
+ * @param seasonId the season
+ * @param version bumped by every write to the season or anything in it
+ * @param modifiedAt when the version was last bumped, null if it never was
+ */
+public record SeasonVersion(Integer seasonId, Long version, OffsetDateTime modifiedAt) {
+
+  /**
+   * A weak validator, since the same version can be served compressed or in another format.
+   *
+   * @return the quoted ETag value
+   */
+  public String eTag() {
+    return "W/\"" + seasonId + "-" + version + "\"";
+  }
+
+  /**
+   * @return the last modification in epoch millis, or -1 when unknown
+   */
+  public long lastModifiedMillis() {
+    return modifiedAt == null ? -1 : modifiedAt.toInstant().toEpochMilli();
+  }
+}
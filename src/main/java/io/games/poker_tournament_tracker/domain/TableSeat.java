@@ -0,0 +1,55 @@
+package io.games.poker_tournament_tracker.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Where a player still in a game sits. The row goes when the player is eliminated. Seats aren't
+ * unique in the database, as a rebalance can hand a seat on within one flush; {@code SeatingChart}
+ * keeps them apart.
+ */
+@Entity
+@Table(
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_table_seat_game_season_player",
+            columnNames = {"game_id", "season_player_id"}))
+@Getter
+@Setter
+public class TableSeat {
+
+  @Id
+  @Column(nullable = false, updatable = false)
+  @SequenceGenerator(
+      name = "primary_sequence",
+      sequenceName = "primary_sequence",
+      allocationSize = 1,
+      initialValue = 10000)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "primary_sequence")
+  private Integer tableSeatId;
+
+  @Column(nullable = false)
+  private Integer tableNumber;
+
+  @Column(nullable = false)
+  private Integer seatNumber;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "game_id", nullable = false)
+  private Game game;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "season_player_id", nullable = false)
+  private SeasonPlayer seasonPlayer;
+}
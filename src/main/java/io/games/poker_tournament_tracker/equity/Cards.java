@@ -0,0 +1,79 @@
+package io.games.poker_tournament_tracker.equity;
+
+/**
+ * Card encoding shared by the evaluator and the equity calculator. A card is an int from 0 to 51
+ * laid out as {@code rank * 4 + suit}, with rank 0 being a deuce and rank 12 an ace.
+ */
+public final class Cards {
+
+  public static final int DECK_SIZE = 52;
+
+  private static final String RANKS = "23456789TJQKA";
+  private static final String SUITS = "cdhs";
+
+  private Cards() {}
+
+  /**
+   * Builds a card from its rank and suit indices.
+   *
+   * @param rank the rank, 0 (deuce) to 12 (ace)
+   * @param suit the suit, 0 to 3
+   * @return the encoded card
+   */
+  public static int of(int rank, int suit) {
+    return (rank << 2) | suit;
+  }
+
+  public static int rank(int card) {
+    return card >>> 2;
+  }
+
+  public static int suit(int card) {
+    return card & 3;
+  }
+
+  /**
+   * Parses a run of two-character cards such as {@code "AsKd"} or {@code "2c7h9d"}.
+   *
+   * @param text the cards, may be empty or null
+   * @return the encoded cards in input order
+   */
+  public static int[] parse(String text) {
+    if (text == null || text.isBlank()) {
+      return new int[0];
+    }
+    final String trimmed = text.trim();
+    if (trimmed.length() % 2 != 0) {
+      throw new IllegalArgumentException("Invalid cards: " + text);
+    }
+    final int[] cards = new int[trimmed.length() / 2];
+    long seen = 0;
+    for (int i = 0; i < cards.length; i++) {
+      final int rank = RANKS.indexOf(Character.toUpperCase(trimmed.charAt(2 * i)));
+      final int suit = SUITS.indexOf(Character.toLowerCase(trimmed.charAt(2 * i + 1)));
+      if (rank < 0 || suit < 0) {
+        throw new IllegalArgumentException("Invalid cards: " + text);
+      }
+      cards[i] = of(rank, suit);
+      if ((seen & (1L << cards[i])) != 0) {
+        throw new IllegalArgumentException("Duplicate card in: " + text);
+      }
+      seen |= 1L << cards[i];
+    }
+    return cards;
+  }
+
+  /**
+   * Formats cards back to their two-character text form.
+   *
+   * @param cards the encoded cards
+   * @return the text form, e.g. {@code "AsKd"}
+   */
+  public static String format(int... cards) {
+    final StringBuilder text = new StringBuilder(cards.length * 2);
+    for (int card : cards) {
+      text.append(RANKS.charAt(rank(card))).append(SUITS.charAt(suit(card)));
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,212 @@
+package io.games.poker_tournament_tracker.equity;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * All-in equity calculator. Heads-up spots enumerate every remaining board exactly; multiway spots
+ * are sampled by Monte Carlo. Both split the work across the common fork-join pool.
+ */
+@Component
+public class EquityCalculator {
+
+  private static final int BOARD_SIZE = 5;
+  private static final int CHUNKS_PER_CORE = 4;
+
+  private final int monteCarloTrials;
+
+  public EquityCalculator(@Value("${equity.monte-carlo-trials:200000}") int monteCarloTrials) {
+    this.monteCarloTrials = monteCarloTrials;
+  }
+
+  /**
+   * Calculates the equity of each hand, exhaustively when heads-up and by sampling otherwise.
+   *
+   * @param hands the hole cards of each player still in the hand
+   * @param board the known board cards, zero to five
+   * @return the equity of each hand
+   */
+  public EquityResult calculate(int[][] hands, int[] board) {
+    return hands.length == 2
+        ? exhaustive(hands, board)
+        : monteCarlo(hands, board, monteCarloTrials, System.nanoTime());
+  }
+
+  /**
+   * Enumerates every completion of the board. Preflop heads-up this is 1,712,304 boards.
+   *
+   * @param hands the hole cards of each player
+   * @param board the known board cards
+   * @return the exact equity of each hand
+   */
+  public EquityResult exhaustive(int[][] hands, int[] board) {
+    final int[] deck = remainingDeck(hands, board);
+    final int missing = BOARD_SIZE - board.length;
+    if (missing == 0) {
+      final double[] shares = new double[hands.length];
+      award(hands, board, shares);
+      return new EquityResult(shares, 1, true);
+    }
+    // fan out on the first missing card; each task enumerates the rest above it
+    final Tally total =
+        IntStream.range(0, deck.length - missing + 1)
+            .parallel()
+            .mapToObj(
+                first -> {
+                  final Tally tally = new Tally(hands.length);
+                  final int[] full = new int[BOARD_SIZE];
+                  System.arraycopy(board, 0, full, 0, board.length);
+                  full[board.length] = deck[first];
+                  enumerate(hands, deck, full, board.length + 1, first + 1, tally);
+                  return tally;
+                })
+            .reduce(new Tally(hands.length), Tally::merge);
+    return total.toResult(true);
+  }
+
+  /**
+   * Samples random completions of the board.
+   *
+   * @param hands the hole cards of each player
+   * @param board the known board cards
+   * @param trials the number of boards to sample
+   * @param seed the seed, so a given spot can be reproduced
+   * @return the estimated equity of each hand
+   */
+  public EquityResult monteCarlo(int[][] hands, int[] board, int trials, long seed) {
+    final int[] deck = remainingDeck(hands, board);
+    final int missing = BOARD_SIZE - board.length;
+    final int chunks =
+        Math.max(1, Math.min(trials, Runtime.getRuntime().availableProcessors() * CHUNKS_PER_CORE));
+    final Tally total =
+        IntStream.range(0, chunks)
+            .parallel()
+            .mapToObj(
+                chunk -> {
+                  final SplittableRandom random = new SplittableRandom(seed + chunk);
+                  final Tally tally = new Tally(hands.length);
+                  final int[] cards = deck.clone();
+                  final int[] full = new int[BOARD_SIZE];
+                  System.arraycopy(board, 0, full, 0, board.length);
+                  final int chunkTrials = trials / chunks + (chunk < trials % chunks ? 1 : 0);
+                  for (int trial = 0; trial < chunkTrials; trial++) {
+                    // partial Fisher-Yates: only the cards we deal need shuffling
+                    for (int i = 0; i < missing; i++) {
+                      final int j = i + random.nextInt(cards.length - i);
+                      final int card = cards[j];
+                      cards[j] = cards[i];
+                      cards[i] = card;
+                      full[board.length + i] = card;
+                    }
+                    award(hands, full, tally.shares);
+                    tally.boards++;
+                  }
+                  return tally;
+                })
+            .reduce(new Tally(hands.length), Tally::merge);
+    return total.toResult(false);
+  }
+
+  private static void enumerate(
+      int[][] hands, int[] deck, int[] full, int filled, int from, Tally tally) {
+    if (filled == BOARD_SIZE) {
+      award(hands, full, tally.shares);
+      tally.boards++;
+      return;
+    }
+    for (int i = from; i <= deck.length - (BOARD_SIZE - filled); i++) {
+      full[filled] = deck[i];
+      enumerate(hands, deck, full, filled + 1, i + 1, tally);
+    }
+  }
+
+  /** Splits one pot between the best hands on a complete board. */
+  private static void award(int[][] hands, int[] board, double[] shares) {
+    int best = -1;
+    int winners = 0;
+    long winnerMask = 0;
+    for (int player = 0; player < hands.length; player++) {
+      final int value = HandEvaluator.evaluate(hands[player], board);
+      if (value > best) {
+        best = value;
+        winners = 1;
+        winnerMask = 1L << player;
+      } else if (value == best) {
+        winners++;
+        winnerMask |= 1L << player;
+      }
+    }
+    final double share = 1.0 / winners;
+    for (int player = 0; player < hands.length; player++) {
+      if ((winnerMask & (1L << player)) != 0) {
+        shares[player] += share;
+      }
+    }
+  }
+
+  private static int[] remainingDeck(int[][] hands, int[] board) {
+    if (hands.length < 2 || hands.length > 23) {
+      throw new IllegalArgumentException("Equity needs between 2 and 23 hands");
+    }
+    if (board.length > BOARD_SIZE) {
+      throw new IllegalArgumentException("A board has at most " + BOARD_SIZE + " cards");
+    }
+    long used = 0;
+    int count = 0;
+    for (int[] hand : hands) {
+      if (hand.length != 2) {
+        throw new IllegalArgumentException("Each hand needs exactly two hole cards");
+      }
+      for (int card : hand) {
+        used |= 1L << card;
+        count++;
+      }
+    }
+    for (int card : board) {
+      used |= 1L << card;
+      count++;
+    }
+    if (Long.bitCount(used) != count) {
+      throw new IllegalArgumentException("The same card appears more than once");
+    }
+    final int[] deck = new int[Cards.DECK_SIZE - count];
+    int next = 0;
+    for (int card = 0; card < Cards.DECK_SIZE; card++) {
+      if ((used & (1L << card)) == 0) {
+        deck[next++] = card;
+      }
+    }
+    return deck;
+  }
+
+  /** Per-task accumulator, merged once at the end so the hot loop never shares state. */
+  private static final class Tally {
+
+    private final double[] shares;
+    private long boards;
+
+    private Tally(int players) {
+      this.shares = new double[players];
+    }
+
+    private Tally merge(Tally other) {
+      final Tally merged = new Tally(shares.length);
+      for (int player = 0; player < shares.length; player++) {
+        merged.shares[player] = shares[player] + other.shares[player];
+      }
+      merged.boards = boards + other.boards;
+      return merged;
+    }
+
+    private EquityResult toResult(boolean exhaustive) {
+      final double[] equities = new double[shares.length];
+      for (int player = 0; player < shares.length; player++) {
+        equities[player] = boards == 0 ? 0 : shares[player] / boards;
+      }
+      return new EquityResult(equities, boards, exhaustive);
+    }
+  }
+}
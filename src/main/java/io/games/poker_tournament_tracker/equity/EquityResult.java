@@ -0,0 +1,22 @@
+package io.games.poker_tournament_tracker.equity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** Share of the pot each hand is expected to win, in the order the hands were given. */
+@Getter
+@RequiredArgsConstructor
+public class EquityResult {
+
+  private final double[] equities;
+
+  /** Number of boards evaluated. */
+  private final long boards;
+
+  /** Whether every remaining board was enumerated rather than sampled. */
+  private final boolean exhaustive;
+
+  public double getEquity(int player) {
+    return equities[player];
+  }
+}
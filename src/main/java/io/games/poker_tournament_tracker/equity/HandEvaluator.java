@@ -0,0 +1,260 @@
+package io.games.poker_tournament_tracker.equity;
+
+/**
+ * Table driven 7-card hand evaluator.
+ *
+ * <p>Hands are split into two cases. When five or more cards share a suit the hand is a flush or a
+ * straight flush (seven cards can't also make quads or a full house), so the 13-bit rank mask of
+ * that suit indexes {@link #FLUSH}. Otherwise only the rank multiset matters: the per-rank counts
+ * are ranked into a minimal perfect hash over the 49,205 possible 7-card multisets and looked up in
+ * {@link #NO_FLUSH}. Both tables are built once at class load (well under a second) and take about
+ * 230 KB.
+ *
+ * <p>Values compare directly: a higher value is a stronger hand. The category sits in bits 20-23
+ * and the deciding ranks in the five nibbles below it.
+ */
+public final class HandEvaluator {
+
+  public static final int HIGH_CARD = 0;
+  public static final int PAIR = 1;
+  public static final int TWO_PAIR = 2;
+  public static final int TRIPS = 3;
+  public static final int STRAIGHT = 4;
+  public static final int FLUSH_CATEGORY = 5;
+  public static final int FULL_HOUSE = 6;
+  public static final int QUADS = 7;
+  public static final int STRAIGHT_FLUSH = 8;
+
+  private static final int RANKS = 13;
+  private static final int HAND_SIZE = 7;
+  private static final int MAX_PER_RANK = 4;
+  private static final int CATEGORY_SHIFT = 20;
+
+  /** Number of rank multisets of {@code k} cards spread over {@code i} ranks. */
+  private static final int[][] MULTISETS = new int[RANKS + 1][HAND_SIZE + 1];
+
+  /** Hash contribution of a rank, indexed by {@code (rank * 8 + cardsLeft) * 5 + count}. */
+  private static final int[] OFFSET = new int[RANKS * (HAND_SIZE + 1) * (MAX_PER_RANK + 1)];
+
+  private static final int[] FLUSH = new int[1 << RANKS];
+  private static final int[] NO_FLUSH;
+
+  private static final long[] RANK_KEY = new long[Cards.DECK_SIZE];
+  private static final int[] SUIT_COUNT = new int[Cards.DECK_SIZE];
+  private static final long[] SUIT_MASK = new long[Cards.DECK_SIZE];
+
+  static {
+    MULTISETS[0][0] = 1;
+    for (int i = 1; i <= RANKS; i++) {
+      for (int k = 0; k <= HAND_SIZE; k++) {
+        for (int c = 0; c <= Math.min(k, MAX_PER_RANK); c++) {
+          MULTISETS[i][k] += MULTISETS[i - 1][k - c];
+        }
+      }
+    }
+    for (int rank = 0; rank < RANKS; rank++) {
+      final int ranksAfter = RANKS - 1 - rank;
+      for (int left = 0; left <= HAND_SIZE; left++) {
+        int offset = 0;
+        for (int c = 0; c <= MAX_PER_RANK; c++) {
+          OFFSET[offsetIndex(rank, left, c)] = offset;
+          if (c <= left) {
+            offset += MULTISETS[ranksAfter][left - c];
+          }
+        }
+      }
+    }
+    for (int card = 0; card < Cards.DECK_SIZE; card++) {
+      RANK_KEY[card] = 1L << (3 * Cards.rank(card));
+      SUIT_COUNT[card] = 1 << (Cards.suit(card) << 2);
+      SUIT_MASK[card] = 1L << ((Cards.suit(card) << 4) + Cards.rank(card));
+    }
+    for (int mask = 0; mask < FLUSH.length; mask++) {
+      if (Integer.bitCount(mask) >= 5) {
+        final int straightHigh = straightHigh(mask);
+        FLUSH[mask] =
+            straightHigh >= 0
+                ? value(STRAIGHT_FLUSH, straightHigh, 1)
+                : value(FLUSH_CATEGORY, topRanks(mask, 5), 5);
+      }
+    }
+    NO_FLUSH = new int[MULTISETS[RANKS][HAND_SIZE]];
+    fillNoFlush(new int[RANKS], 0, HAND_SIZE);
+  }
+
+  private HandEvaluator() {}
+
+  /**
+   * Evaluates seven distinct cards.
+   *
+   * @return the hand value, higher is stronger
+   */
+  public static int evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+    final long key =
+        RANK_KEY[c1]
+            + RANK_KEY[c2]
+            + RANK_KEY[c3]
+            + RANK_KEY[c4]
+            + RANK_KEY[c5]
+            + RANK_KEY[c6]
+            + RANK_KEY[c7];
+    final int suits =
+        SUIT_COUNT[c1]
+            + SUIT_COUNT[c2]
+            + SUIT_COUNT[c3]
+            + SUIT_COUNT[c4]
+            + SUIT_COUNT[c5]
+            + SUIT_COUNT[c6]
+            + SUIT_COUNT[c7];
+    if (((suits + 0x3333) & 0x8888) != 0) {
+      final long masks =
+          SUIT_MASK[c1]
+              | SUIT_MASK[c2]
+              | SUIT_MASK[c3]
+              | SUIT_MASK[c4]
+              | SUIT_MASK[c5]
+              | SUIT_MASK[c6]
+              | SUIT_MASK[c7];
+      // adding 3 to a 4-bit suit count sets its high bit exactly when the count is 5 or more
+      final int suit = Integer.numberOfTrailingZeros((suits + 0x3333) & 0x8888) >>> 2;
+      return FLUSH[(int) (masks >>> (suit << 4)) & 0x1FFF];
+    }
+    return NO_FLUSH[hash(key)];
+  }
+
+  /**
+   * Evaluates the two hole cards plus a five-card board.
+   *
+   * @param hole the hole cards
+   * @param board the five board cards
+   * @return the hand value, higher is stronger
+   */
+  public static int evaluate(int[] hole, int[] board) {
+    return evaluate(hole[0], hole[1], board[0], board[1], board[2], board[3], board[4]);
+  }
+
+  /**
+   * Extracts the hand category from a value.
+   *
+   * @param value a value returned by {@link #evaluate}
+   * @return one of the category constants, {@link #HIGH_CARD} to {@link #STRAIGHT_FLUSH}
+   */
+  public static int category(int value) {
+    return value >>> CATEGORY_SHIFT;
+  }
+
+  private static int hash(long key) {
+    int hash = 0;
+    int left = HAND_SIZE;
+    for (int rank = 0; left > 0; rank++) {
+      final int count = (int) (key >>> (3 * rank)) & 7;
+      hash += OFFSET[offsetIndex(rank, left, count)];
+      left -= count;
+    }
+    return hash;
+  }
+
+  private static int offsetIndex(int rank, int left, int count) {
+    return ((rank << 3) + left) * (MAX_PER_RANK + 1) + count;
+  }
+
+  private static void fillNoFlush(int[] counts, int rank, int left) {
+    if (rank == RANKS) {
+      if (left == 0) {
+        long key = 0;
+        for (int r = 0; r < RANKS; r++) {
+          key += (long) counts[r] << (3 * r);
+        }
+        NO_FLUSH[hash(key)] = evaluateCounts(counts);
+      }
+      return;
+    }
+    for (int c = 0; c <= Math.min(left, MAX_PER_RANK); c++) {
+      counts[rank] = c;
+      fillNoFlush(counts, rank + 1, left - c);
+    }
+    counts[rank] = 0;
+  }
+
+  /** Scores a rank multiset that contains no flush; only used to build the tables. */
+  private static int evaluateCounts(int[] counts) {
+    int present = 0;
+    int quads = -1;
+    int trips = -1;
+    int secondTrips = -1;
+    int pair = -1;
+    int secondPair = -1;
+    for (int rank = RANKS - 1; rank >= 0; rank--) {
+      final int count = counts[rank];
+      if (count > 0) {
+        present |= 1 << rank;
+      }
+      if (count == 4) {
+        quads = rank;
+      } else if (count == 3) {
+        if (trips < 0) {
+          trips = rank;
+        } else if (secondTrips < 0) {
+          secondTrips = rank;
+        }
+      } else if (count == 2) {
+        if (pair < 0) {
+          pair = rank;
+        } else if (secondPair < 0) {
+          secondPair = rank;
+        }
+      }
+    }
+    if (quads >= 0) {
+      return value(QUADS, (quads << 4) | topRanks(present & ~(1 << quads), 1), 2);
+    }
+    if (trips >= 0 && (secondTrips >= 0 || pair >= 0)) {
+      return value(FULL_HOUSE, (trips << 4) | Math.max(secondTrips, pair), 2);
+    }
+    final int straightHigh = straightHigh(present);
+    if (straightHigh >= 0) {
+      return value(STRAIGHT, straightHigh, 1);
+    }
+    if (trips >= 0) {
+      return value(TRIPS, (trips << 8) | topRanks(present & ~(1 << trips), 2), 3);
+    }
+    if (secondPair >= 0) {
+      final int kickers = present & ~(1 << pair) & ~(1 << secondPair);
+      return value(TWO_PAIR, (pair << 8) | (secondPair << 4) | topRanks(kickers, 1), 3);
+    }
+    if (pair >= 0) {
+      return value(PAIR, (pair << 12) | topRanks(present & ~(1 << pair), 3), 4);
+    }
+    return value(HIGH_CARD, topRanks(present, 5), 5);
+  }
+
+  /** Returns the rank of the highest card of a straight within the mask, or -1. */
+  private static int straightHigh(int mask) {
+    for (int high = RANKS - 1; high >= 4; high--) {
+      final int run = 0x1F << (high - 4);
+      if ((mask & run) == run) {
+        return high;
+      }
+    }
+    // the wheel, A-2-3-4-5
+    final int wheel = 0x100F;
+    return (mask & wheel) == wheel ? 3 : -1;
+  }
+
+  /** Packs the highest {@code n} ranks of the mask into consecutive nibbles, highest first. */
+  private static int topRanks(int mask, int n) {
+    int packed = 0;
+    for (int rank = RANKS - 1; rank >= 0 && n > 0; rank--) {
+      if ((mask & (1 << rank)) != 0) {
+        packed = (packed << 4) | rank;
+        n--;
+      }
+    }
+    return packed;
+  }
+
+  /** Combines a category with {@code nibbles} deciding ranks, left aligned in five nibbles. */
+  private static int value(int category, int ranks, int nibbles) {
+    return (category << CATEGORY_SHIFT) | (ranks << ((5 - nibbles) * 4));
+  }
+}
@@ -0,0 +1,59 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AllInShowdownDTO {
+
+  private Integer allInShowdownId;
+
+  @NotNull
+  @Size(min = 4, max = 4)
+  @Schema(example = "AsKd")
+  private String holeCards;
+
+  @NotNull
+  @Size(max = 110)
+  @Schema(example = "QhQc,7s7d")
+  private String opponentHoleCards;
+
+  @Size(max = 10)
+  @Schema(example = "2c5h9d")
+  private String board;
+
+  @NotNull
+  @Digits(integer = 14, fraction = 2)
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  @Schema(type = "string", example = "150.00")
+  private BigDecimal potAmount;
+
+  @NotNull
+  @Digits(integer = 14, fraction = 2)
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  @Schema(type = "string", example = "0.00")
+  private BigDecimal amountWon;
+
+  @Digits(integer = 1, fraction = 6)
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  @Schema(type = "string", example = "0.435412")
+  private BigDecimal equity;
+
+  @Digits(integer = 14, fraction = 2)
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
+  @Schema(type = "string", example = "65.31")
+  private BigDecimal expectedWinnings;
+
+  @NotNull private Integer game;
+
+  @NotNull private Integer seasonPlayer;
+}
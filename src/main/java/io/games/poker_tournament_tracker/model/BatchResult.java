@@ -0,0 +1,13 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a multi-get: the entities that were found, in request order, and the requested IDs
+ * that matched nothing.
+ *
+ * @param items the found DTOs
+ * @param missingIds the requested IDs that matched nothing
+ * @param <T> the DTO type
+ */
+public record BatchResult<T>(List<T> items, List<Integer> missingIds) {}
@@ -0,0 +1,20 @@
+package io.games.poker_tournament_tracker.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BlindLevelDTO {
+
+  @NotNull @Positive private Integer smallBlind;
+
+  @NotNull @Positive private Integer bigBlind;
+
+  @PositiveOrZero private Integer ante;
+
+  @NotNull @Positive private Integer durationMinutes;
+}
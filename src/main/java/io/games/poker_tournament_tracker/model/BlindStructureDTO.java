@@ -0,0 +1,23 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BlindStructureDTO {
+
+  private Integer blindStructureId;
+
+  @NotBlank
+  @Size(max = 100)
+  private String name;
+
+  @NotEmpty private List<@Valid BlindLevelDTO> levels;
+}
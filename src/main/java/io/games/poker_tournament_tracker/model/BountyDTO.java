@@ -0,0 +1,19 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * A player's bounty winnings in a game.
+ *
+ * @param won the bounties collected, plus the winner's own head under a progressive bounty
+ */
+public record BountyDTO(
+    Integer seasonPlayer,
+    String playerName,
+    int knockouts,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "37.50")
+        BigDecimal won) {}
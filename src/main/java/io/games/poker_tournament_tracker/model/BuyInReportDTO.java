@@ -0,0 +1,24 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * The money put into a game, or into every game of a season.
+ *
+ * @param game null for a season
+ * @param players one per player with any buy-in, by name
+ */
+public record BuyInReportDTO(
+    Integer season,
+    Integer game,
+    int buyIns,
+    int rebuys,
+    int addOns,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "1250.00")
+        BigDecimal total,
+    List<BuyInTotalsDTO> players) {}
@@ -0,0 +1,23 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/** A player's buy-ins, rebuys and add-ons, counted and summed. */
+public record BuyInTotalsDTO(
+    Integer seasonPlayer,
+    String playerName,
+    int buyIns,
+    int rebuys,
+    int addOns,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "20.00")
+        BigDecimal buyInAmount,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "40.00")
+        BigDecimal rebuyAmount,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "10.00")
+        BigDecimal addOnAmount,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "70.00")
+        BigDecimal total) {}
@@ -0,0 +1,18 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EliminationBatchDTO {
+
+  @NotEmpty
+  @Size(max = 1000)
+  private List<@Valid EliminationEventDTO> events;
+}
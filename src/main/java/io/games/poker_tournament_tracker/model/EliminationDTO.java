@@ -0,0 +1,23 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * An applied elimination.
+ *
+ * @param bountyPaid what the eliminator collected, null without a bounty
+ */
+public record EliminationDTO(
+    int sequence,
+    int finishingPosition,
+    Integer seasonPlayer,
+    String playerName,
+    String eliminatorName,
+    OffsetDateTime eliminatedAt,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "12.50")
+        BigDecimal bountyPaid) {}
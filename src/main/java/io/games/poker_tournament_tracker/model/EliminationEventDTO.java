@@ -0,0 +1,30 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.time.OffsetDateTime;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/** A knockout as reported from the floor. */
+@Getter
+@Setter
+public class EliminationEventDTO {
+
+  /** The order of the knockout within the game, from 1; resending a sequence is a no-op. */
+  @NotNull @Positive private Integer sequence;
+
+  @NotBlank
+  @Size(max = 100)
+  private String playerName;
+
+  /** Null when nobody collects the knockout. */
+  @Size(max = 100)
+  private String eliminatorName;
+
+  /** When the player went out; defaults to when the event is received. */
+  private OffsetDateTime eliminatedAt;
+}
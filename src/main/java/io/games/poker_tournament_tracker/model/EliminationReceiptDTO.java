@@ -0,0 +1,13 @@
+package io.games.poker_tournament_tracker.model;
+
+/**
+ * What came of a batch of elimination events.
+ *
+ * @param duplicates events whose sequence was already recorded, which are skipped
+ * @param applied events given a finishing position by this batch, including earlier ones it
+ *     unblocked
+ * @param lastApplied the sequence every event up to which is applied
+ * @param pending recorded events waiting on an earlier sequence
+ */
+public record EliminationReceiptDTO(
+    Integer game, int received, int duplicates, int applied, int lastApplied, int pending) {}
@@ -0,0 +1,29 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * A game's knockouts so far.
+ *
+ * @param remaining players not yet eliminated, counting only applied events
+ * @param winner the last player standing, once there is one
+ * @param pending recorded events waiting on an earlier sequence
+ * @param eliminations applied eliminations, first out first
+ * @param bounties one per player who won a bounty, most won first
+ */
+public record EliminationsDTO(
+    Integer game,
+    int entrants,
+    int remaining,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "25.00")
+        BigDecimal bounty,
+    boolean progressiveBounty,
+    String winner,
+    int pending,
+    List<EliminationDTO> eliminations,
+    List<BountyDTO> bounties) {}
@@ -2,6 +2,7 @@ package io.games.poker_tournament_tracker.model;
 
 import java.math.BigDecimal;
 
+import io.games.poker_tournament_tracker.domain.BuyInKind;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -22,6 +23,9 @@ public class GameBuyInDTO {
   @Schema(type = "string", example = "29.08")
   private BigDecimal buyInAmount;
 
+  /** Defaults to {@code BUY_IN}. */
+  private BuyInKind kind;
+
   @NotNull private Integer game;
 
   @NotNull private Integer seasonPlayer;
@@ -0,0 +1,42 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.time.OffsetDateTime;
+
+import io.games.poker_tournament_tracker.domain.GameClockStatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A game's blind clock as of {@code asOf}. Clients count down to {@code levelEndsAt} themselves;
+ * {@code remainingMillis} is the time left at {@code asOf}, and is the only countdown a paused
+ * clock has.
+ */
+@Getter
+@Setter
+public class GameClockDTO {
+
+  private Integer gameId;
+
+  private Integer season;
+
+  private Integer gameNumber;
+
+  private String blindStructure;
+
+  private GameClockStatus status;
+
+  /** 1-based. */
+  private Integer level;
+
+  private BlindLevelDTO currentLevel;
+
+  /** Null on the last level. */
+  private BlindLevelDTO nextLevel;
+
+  private OffsetDateTime levelEndsAt;
+
+  private Long remainingMillis;
+
+  private OffsetDateTime asOf;
+}
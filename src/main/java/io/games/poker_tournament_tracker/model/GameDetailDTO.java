@@ -0,0 +1,9 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.util.List;
+
+public record GameDetailDTO(
+    GameDTO game,
+    List<GameBuyInDTO> gameBuyIns,
+    List<GameResultDTO> gameResults,
+    List<PlayerParticipationDTO> playerParticipations) {}
@@ -0,0 +1,16 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record LuckStatsDTO(
+    Integer seasonPlayer,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "-40.00")
+        BigDecimal net,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "-65.31")
+        BigDecimal allInLuck,
+    @JsonFormat(shape = JsonFormat.Shape.STRING) @Schema(type = "string", example = "25.31")
+        BigDecimal luckAdjustedNet) {}
@@ -0,0 +1,15 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.time.OffsetDateTime;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+public record OutboxEventDTO(
+    Long position,
+    String eventType,
+    String aggregateType,
+    Integer aggregateId,
+    Integer seasonId,
+    @JsonRawValue String payload,
+    OffsetDateTime createdAt,
+    OffsetDateTime publishedAt) {}
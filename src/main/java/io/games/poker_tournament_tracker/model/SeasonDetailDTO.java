@@ -0,0 +1,9 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.util.List;
+
+public record SeasonDetailDTO(
+    SeasonDTO season,
+    List<PlayerDTO> players,
+    List<SeasonPlayerDTO> seasonPlayers,
+    List<GameDetailDTO> games) {}
@@ -0,0 +1,9 @@
+package io.games.poker_tournament_tracker.model;
+
+public record SeatMoveDTO(
+    Integer seasonPlayer,
+    String playerName,
+    int fromTable,
+    int fromSeat,
+    int toTable,
+    int toSeat) {}
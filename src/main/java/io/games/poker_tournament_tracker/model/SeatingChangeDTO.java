@@ -0,0 +1,10 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.util.List;
+
+/**
+ * The seat an eliminated player left and the moves that rebalance the tables after it.
+ *
+ * @param moves in the order the floor should make them; empty when the tables are still balanced
+ */
+public record SeatingChangeDTO(Integer game, TableSeatDTO eliminated, List<SeatMoveDTO> moves) {}
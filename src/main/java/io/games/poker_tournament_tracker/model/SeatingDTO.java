@@ -0,0 +1,10 @@
+package io.games.poker_tournament_tracker.model;
+
+import java.util.List;
+
+/**
+ * A game's seating chart.
+ *
+ * @param seed the seed of the draw, only set in the draw's own response
+ */
+public record SeatingDTO(Integer game, int tableSize, Long seed, List<TableSeatDTO> seats) {}
@@ -0,0 +1,3 @@
+package io.games.poker_tournament_tracker.model;
+
+public record TableSeatDTO(Integer seasonPlayer, String playerName, int table, int seat) {}
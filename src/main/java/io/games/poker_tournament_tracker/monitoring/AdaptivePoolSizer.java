@@ -0,0 +1,160 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resizes the Hikari pool from what its own metrics report over each interval: the mean wait for a
+ * connection and the mean time a connection is held, which is the database's response time as the
+ * application sees it. The pool grows while requests wait and the database keeps up, shrinks when
+ * the database slows down under the extra load, and gives back a connection after a minute of
+ * connections sitting idle. Call {@link #adjust()} once per {@code
+ * connection-pool.adaptive.interval}.
+ */
+@Slf4j
+public class AdaptivePoolSizer {
+
+  private static final int IDLE_INTERVALS_BEFORE_SHRINK = 6;
+  private static final double BASELINE_WEIGHT = 0.2;
+
+  private final HikariDataSource dataSource;
+  private final MeterRegistry meterRegistry;
+  private final ConnectionPoolProperties.Adaptive properties;
+
+  private long acquireCount;
+  private double acquireNanos;
+  private long usageCount;
+  private double usageMillis;
+  private double baselineUsageMillis;
+  private int idleIntervals;
+  private volatile Decision lastDecision;
+
+  public AdaptivePoolSizer(
+      HikariDataSource dataSource,
+      MeterRegistry meterRegistry,
+      ConnectionPoolProperties.Adaptive properties) {
+    this.dataSource = dataSource;
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+  }
+
+  public void adjust() {
+    final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    final Timer acquire = timer("hikaricp.connections.acquire");
+    final Timer usage = timer("hikaricp.connections.usage");
+    if (pool == null || acquire == null || usage == null) {
+      // the pool starts on first use
+      return;
+    }
+    final long acquires = acquire.count() - acquireCount;
+    final double waitMillis =
+        acquires == 0
+            ? 0
+            : (acquire.totalTime(TimeUnit.NANOSECONDS) - acquireNanos) / acquires / 1e6;
+    final long uses = usage.count() - usageCount;
+    final double heldMillis =
+        uses == 0 ? 0 : (usage.totalTime(TimeUnit.MILLISECONDS) - usageMillis) / uses;
+    acquireCount = acquire.count();
+    acquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+    usageCount = usage.count();
+    usageMillis = usage.totalTime(TimeUnit.MILLISECONDS);
+
+    final int pending = pool.getThreadsAwaitingConnection();
+    final boolean saturated =
+        pending > 0 || waitMillis > properties.getTargetWait().toNanos() / 1e6;
+    final boolean databaseSlowing =
+        baselineUsageMillis > 0
+            && heldMillis > baselineUsageMillis * properties.getMaxUsageGrowth();
+    if (uses > 0 && (baselineUsageMillis == 0 || !saturated)) {
+      baselineUsageMillis =
+          baselineUsageMillis == 0
+              ? heldMillis
+              : (1 - BASELINE_WEIGHT) * baselineUsageMillis + BASELINE_WEIGHT * heldMillis;
+    }
+
+    final HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+    final int size = config.getMaximumPoolSize();
+    int target = size;
+    String reason = "steady";
+    if (saturated && databaseSlowing) {
+      target = size - properties.getStep();
+      reason = "database slowing under load";
+    } else if (saturated) {
+      target = size + properties.getStep();
+      reason = "requests waiting for connections";
+    } else if (pool.getIdleConnections() > properties.getStep()) {
+      if (++idleIntervals >= IDLE_INTERVALS_BEFORE_SHRINK) {
+        idleIntervals = 0;
+        target = size - 1;
+        reason = "connections idle";
+      }
+    } else {
+      idleIntervals = 0;
+    }
+    target = Math.max(properties.getMinSize(), Math.min(properties.getMaxSize(), target));
+    if (target != size) {
+      resize(config, target);
+      log.info(
+          "Resized connection pool {} -> {}: {} (wait {} ms, held {} ms, baseline {} ms, {} pending)",
+          size,
+          target,
+          reason,
+          String.format("%.2f", waitMillis),
+          String.format("%.2f", heldMillis),
+          String.format("%.2f", baselineUsageMillis),
+          pending);
+    }
+    lastDecision =
+        new Decision(
+            Instant.now(),
+            size,
+            target,
+            reason,
+            waitMillis,
+            heldMillis,
+            baselineUsageMillis,
+            pending);
+  }
+
+  public Decision getLastDecision() {
+    return lastDecision;
+  }
+
+  private static void resize(HikariConfigMXBean config, int size) {
+    // a fixed-size pool, as Hikari recommends; order the two so minimum idle never exceeds maximum
+    if (size > config.getMaximumPoolSize()) {
+      config.setMaximumPoolSize(size);
+      config.setMinimumIdle(size);
+    } else {
+      config.setMinimumIdle(size);
+      config.setMaximumPoolSize(size);
+    }
+  }
+
+  private Timer timer(String name) {
+    return meterRegistry.find(name).tag("pool", dataSource.getPoolName()).timer();
+  }
+
+  /**
+   * @param waitMillis mean wait for a connection over the last interval
+   * @param heldMillis mean time a connection was held over the last interval
+   * @param baselineHeldMillis moving average of {@code heldMillis} while the pool was not saturated
+   */
+  public record Decision(
+      Instant at,
+      int fromSize,
+      int toSize,
+      String reason,
+      double waitMillis,
+      double heldMillis,
+      double baselineHeldMillis,
+      int pending) {}
+}
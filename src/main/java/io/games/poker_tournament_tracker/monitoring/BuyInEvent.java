@@ -0,0 +1,68 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.math.BigDecimal;
+
+import org.slf4j.MDC;
+
+import io.games.poker_tournament_tracker.domain.BuyInKind;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the recording of one buy-in in the service layer, from name resolution to the
+ * outbox append. The transaction commits after it ends; buy-ins that fail are not recorded.
+ */
+@Name("io.games.poker.BuyIn")
+@Label("Buy-In Recorded")
+@Category({"Poker Tournament Tracker", "Service"})
+@Description("A buy-in recorded through the service layer")
+@StackTrace(false)
+public class BuyInEvent extends Event {
+
+  @Label("Season")
+  String seasonName;
+
+  @Label("Game Number")
+  int gameNumber;
+
+  @Label("Player")
+  String playerName;
+
+  @Label("Kind")
+  String kind;
+
+  @Label("Amount")
+  String amount;
+
+  @Label("Correlation ID")
+  @Description("Matches the correlationId of the request's log lines")
+  String correlationId;
+
+  /**
+   * Ends the event and commits it if it passed the recording's threshold.
+   *
+   * @param seasonName the season of the buy-in
+   * @param gameNumber the game within the season
+   * @param playerName the player buying in
+   * @param kind buy-in, rebuy or add-on
+   * @param amount the amount
+   */
+  public void commit(
+      String seasonName, int gameNumber, String playerName, BuyInKind kind, BigDecimal amount) {
+    end();
+    if (shouldCommit()) {
+      this.seasonName = seasonName;
+      this.gameNumber = gameNumber;
+      this.playerName = playerName;
+      this.kind = kind.name();
+      this.amount = amount == null ? null : amount.toPlainString();
+      this.correlationId = MDC.get(CorrelationIdFilter.MDC_KEY);
+      commit();
+    }
+  }
+}
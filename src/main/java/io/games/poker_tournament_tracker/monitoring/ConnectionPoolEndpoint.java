@@ -0,0 +1,93 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * {@code GET /actuator/connectionpool}: the pool's size and occupancy, how many requests are
+ * waiting for a connection and how many gave up, the connection wait percentiles, and what the
+ * {@link AdaptivePoolSizer} last decided when it is on. The same numbers are under {@code
+ * /actuator/metrics/hikaricp.connections.*}.
+ */
+@Endpoint(id = "connectionpool")
+public class ConnectionPoolEndpoint {
+
+  private final HikariDataSource dataSource;
+  private final MeterRegistry meterRegistry;
+  private final AdaptivePoolSizer adaptivePoolSizer;
+
+  public ConnectionPoolEndpoint(
+      HikariDataSource dataSource,
+      MeterRegistry meterRegistry,
+      @Nullable AdaptivePoolSizer adaptivePoolSizer) {
+    this.dataSource = dataSource;
+    this.meterRegistry = meterRegistry;
+    this.adaptivePoolSizer = adaptivePoolSizer;
+  }
+
+  @ReadOperation
+  public Report report() {
+    final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    final Counter timeouts =
+        meterRegistry
+            .find("hikaricp.connections.timeout")
+            .tag("pool", dataSource.getPoolName())
+            .counter();
+    final Timer acquire =
+        meterRegistry
+            .find("hikaricp.connections.acquire")
+            .tag("pool", dataSource.getPoolName())
+            .timer();
+    return new Report(
+        dataSource.getHikariConfigMXBean().getMaximumPoolSize(),
+        pool == null ? 0 : pool.getActiveConnections(),
+        pool == null ? 0 : pool.getIdleConnections(),
+        pool == null ? 0 : pool.getThreadsAwaitingConnection(),
+        timeouts == null ? 0 : (long) timeouts.count(),
+        acquire == null ? Map.of() : waitMillis(acquire.takeSnapshot()),
+        adaptivePoolSizer == null ? null : adaptivePoolSizer.getLastDecision());
+  }
+
+  /** The percentiles set under {@code management.metrics.distribution.percentiles}, and the max. */
+  private static Map<String, Double> waitMillis(HistogramSnapshot snapshot) {
+    final Map<String, Double> waits = new LinkedHashMap<>();
+    Arrays.stream(snapshot.percentileValues())
+        .forEach(
+            value ->
+                waits.put(
+                    "p" + Math.round(value.percentile() * 100),
+                    value.value(TimeUnit.MILLISECONDS)));
+    waits.put("max", snapshot.max(TimeUnit.MILLISECONDS));
+    return waits;
+  }
+
+  /**
+   * @param size the pool's current maximum size
+   * @param pending requests waiting for a connection right now
+   * @param timeouts requests that gave up waiting since startup
+   * @param waitMillis connection wait percentiles over the last couple of minutes
+   * @param adaptive the sizer's last decision, or null when it is off
+   */
+  public record Report(
+      int size,
+      int active,
+      int idle,
+      int pending,
+      long timeouts,
+      Map<String, Double> waitMillis,
+      AdaptivePoolSizer.Decision adaptive) {}
+}
@@ -0,0 +1,50 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "connection-pool")
+public class ConnectionPoolProperties {
+
+  /**
+   * {@code Retry-After} sent with the 503 a request gets when it times out waiting for a
+   * connection.
+   */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  private Adaptive adaptive = new Adaptive();
+
+  @Getter
+  @Setter
+  public static class Adaptive {
+
+    /** Resizes the pool between the bounds below instead of keeping it at its configured size. */
+    private boolean enabled = false;
+
+    private int minSize = 5;
+
+    private int maxSize = 30;
+
+    /** How often wait and usage times are sampled and the size reconsidered. */
+    private Duration interval = Duration.ofSeconds(10);
+
+    /** Mean wait for a connection above which the pool counts as saturated. */
+    private Duration targetWait = Duration.ofMillis(5);
+
+    /** Connections added or removed per adjustment. */
+    private int step = 2;
+
+    /**
+     * How far the mean time a connection is held may rise over its unsaturated baseline before the
+     * database, not the pool, is taken to be the bottleneck. The pool then shrinks instead of
+     * growing, since more concurrent statements would only queue inside the database.
+     */
+    private double maxUsageGrowth = 1.5;
+  }
+}
@@ -0,0 +1,112 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.SmartLifecycle;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A Java Flight Recorder recording that runs for the life of the application, keeping the last
+ * {@code max-age} of events in a rolling buffer on disk. Dumping copies the buffer, so the
+ * recording carries on. The events that copy out the environment and system properties are always
+ * off, since those carry the database credentials.
+ */
+@Slf4j
+public class ContinuousRecording implements SmartLifecycle {
+
+  private static final List<String> SECRET_EVENTS =
+      List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+
+  private final FlightRecorderProperties properties;
+
+  private volatile Recording recording;
+
+  public ContinuousRecording(FlightRecorderProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled() || !FlightRecorder.isAvailable()) {
+      log.info("Continuous flight recording is off");
+      return;
+    }
+    try {
+      final Recording continuous = new Recording(settings());
+      continuous.setName("continuous");
+      continuous.setToDisk(true);
+      continuous.setMaxAge(properties.getMaxAge());
+      continuous.setMaxSize(properties.getMaxSize().toBytes());
+      continuous.start();
+      recording = continuous;
+      log.info(
+          "Continuous flight recording started with '{}' settings, keeping {}",
+          properties.getSettings(),
+          properties.getMaxAge());
+    } catch (IOException | ParseException e) {
+      log.warn("Could not start continuous flight recording: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void stop() {
+    final Recording continuous = recording;
+    recording = null;
+    if (continuous != null) {
+      continuous.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return recording != null;
+  }
+
+  /**
+   * Writes the most recent part of the buffer to a new temporary file.
+   *
+   * @param lastAge how far back to go; capped by what the buffer holds
+   * @return the {@code .jfr} file, which the caller deletes
+   * @throws IllegalStateException if no recording is running
+   * @throws IOException if the file cannot be written
+   */
+  public Path dump(Duration lastAge) throws IOException {
+    final Recording continuous = recording;
+    if (continuous == null) {
+      throw new IllegalStateException("No flight recording is running");
+    }
+    final Path file = Files.createTempFile("flight-recording-", ".jfr");
+    try (Recording snapshot = continuous.copy(true)) {
+      snapshot.setMaxAge(lastAge);
+      snapshot.dump(file);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    return file;
+  }
+
+  private Map<String, String> settings() throws IOException, ParseException {
+    final String settings = properties.getSettings();
+    final Configuration configuration =
+        settings.endsWith(".jfc")
+            ? Configuration.create(Path.of(settings))
+            : Configuration.getConfiguration(settings);
+    final Map<String, String> values = new HashMap<>(configuration.getSettings());
+    for (String event : SECRET_EVENTS) {
+      values.put(event + "#enabled", "false");
+    }
+    return values;
+  }
+}
@@ -0,0 +1,58 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tags every log line of a request with a correlation ID. A well-formed {@code X-Correlation-Id}
+ * from the caller is kept, anything else is replaced, and the ID is echoed on the response.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Correlation-Id";
+  public static final String MDC_KEY = "correlationId";
+
+  private static final int MAX_LENGTH = 64;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String correlationId = request.getHeader(HEADER);
+    if (!isWellFormed(correlationId)) {
+      // ThreadLocalRandom rather than UUID.randomUUID(), which contends on a shared SecureRandom
+      final ThreadLocalRandom random = ThreadLocalRandom.current();
+      correlationId = new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+    MDC.put(MDC_KEY, correlationId);
+    response.setHeader(HEADER, correlationId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+
+  /** Only short IDs of letters, digits, dashes and underscores are trusted into the logs. */
+  private static boolean isWellFormed(String correlationId) {
+    if (correlationId == null || correlationId.isEmpty() || correlationId.length() > MAX_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < correlationId.length(); i++) {
+      final char c = correlationId.charAt(i);
+      if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
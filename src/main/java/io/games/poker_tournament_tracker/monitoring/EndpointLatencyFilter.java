@@ -0,0 +1,45 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records each request's latency in the {@link SloTracker} under {@code METHOD /route}. Requests no
+ * handler matched share the {@code UNMATCHED} key and non-standard methods aren't recorded, so
+ * clients can't mint new keys; see {@link RequestTags}.
+ */
+public class EndpointLatencyFilter extends OncePerRequestFilter {
+
+  private final SloTracker sloTracker;
+
+  public EndpointLatencyFilter(SloTracker sloTracker) {
+    this.sloTracker = sloTracker;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    final long start = System.nanoTime();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (RequestTags.isStandardMethod(request)) {
+        sloTracker.record(key(request), System.nanoTime() - start);
+      }
+    }
+  }
+
+  static String key(HttpServletRequest request) {
+    final String route = RequestTags.route(request);
+    return RequestTags.UNMATCHED.equals(route)
+        ? RequestTags.UNMATCHED
+        : request.getMethod() + " " + route;
+  }
+}
@@ -0,0 +1,30 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "flight-recorder")
+public class FlightRecorderProperties {
+
+  /** Keeps a JFR recording running from startup, so a slow period can be dumped afterwards. */
+  private boolean enabled = true;
+
+  /**
+   * JFR settings to record with: {@code default} costs about 1% CPU, {@code profile} more. A name
+   * from {@code $JAVA_HOME/lib/jfr} or a path to a {@code .jfc} file.
+   */
+  private String settings = "default";
+
+  /** How far back the rolling buffer reaches. */
+  private Duration maxAge = Duration.ofMinutes(30);
+
+  /** Disk the rolling buffer may use; the oldest chunks go first when it is full. */
+  private DataSize maxSize = DataSize.ofMegabytes(250);
+}
@@ -0,0 +1,74 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code GET /actuator/flightrecording?minutes=10} downloads the last minutes of the continuous
+ * recording as a {@code .jfr} file for JDK Mission Control or {@code jfr print}. Without {@code
+ * minutes} it returns the whole buffer.
+ */
+@WebEndpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+  private final ContinuousRecording continuousRecording;
+  private final FlightRecorderProperties properties;
+
+  public FlightRecordingEndpoint(
+      ContinuousRecording continuousRecording, FlightRecorderProperties properties) {
+    this.continuousRecording = continuousRecording;
+    this.properties = properties;
+  }
+
+  @ReadOperation(produces = "application/octet-stream")
+  public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) throws IOException {
+    if (minutes != null && minutes < 1) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+    if (!continuousRecording.isRunning()) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+    final Duration lastAge = minutes == null ? properties.getMaxAge() : Duration.ofMinutes(minutes);
+    return new WebEndpointResponse<>(
+        new TemporaryFileResource(continuousRecording.dump(lastAge).toFile()));
+  }
+
+  /** Deletes the dump once it has been streamed to the client. */
+  private static final class TemporaryFileResource extends FileSystemResource {
+
+    TemporaryFileResource(File file) {
+      super(file);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+      return new FilterInputStream(super.getInputStream()) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            Files.deleteIfExists(getFile().toPath());
+          }
+        }
+      };
+    }
+
+    /** Not a file as far as the converters go, so the body is streamed through the above. */
+    @Override
+    public boolean isFile() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Caps the INFO lines each logger under {@link #setLoggerPrefix prefix} may write per second. Past
+ * the cap only every {@link #setSampleEvery n-th} line gets through, so a busy path still shows up
+ * without flooding the appender. WARN and above are never touched. Turbo filters run before the
+ * logging event is built, so a dropped line costs a map lookup and an increment.
+ */
+public class LogRateLimitFilter extends TurboFilter {
+
+  private final Map<Logger, Window> windows = new ConcurrentHashMap<>();
+  private final LongAdder suppressed = new LongAdder();
+
+  private String loggerPrefix = "";
+  private int permitsPerSecond = 50;
+  private int sampleEvery = 100;
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // a null format is an isInfoEnabled() check, not a line
+    if (format == null
+        || level == null
+        || level.levelInt != Level.INFO_INT
+        || !logger.getName().startsWith(loggerPrefix)) {
+      return FilterReply.NEUTRAL;
+    }
+    final int count =
+        windows
+            .computeIfAbsent(logger, key -> new Window())
+            .increment(System.currentTimeMillis() / 1000);
+    if (count <= permitsPerSecond
+        || (sampleEvery > 0 && (count - permitsPerSecond) % sampleEvery == 0)) {
+      return FilterReply.NEUTRAL;
+    }
+    suppressed.increment();
+    return FilterReply.DENY;
+  }
+
+  /** INFO lines dropped since start-up. */
+  public long getSuppressed() {
+    return suppressed.sum();
+  }
+
+  public void setLoggerPrefix(String loggerPrefix) {
+    this.loggerPrefix = loggerPrefix;
+  }
+
+  public void setPermitsPerSecond(int permitsPerSecond) {
+    this.permitsPerSecond = permitsPerSecond;
+  }
+
+  /** Lets one line in this many through once the cap is hit; zero drops them all. */
+  public void setSampleEvery(int sampleEvery) {
+    this.sampleEvery = sampleEvery;
+  }
+
+  /** A one-second counting window for a single logger. */
+  private static final class Window {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private volatile long second;
+
+    private int increment(long now) {
+      if (second != now) {
+        synchronized (this) {
+          if (second != now) {
+            count.set(0);
+            second = now;
+          }
+        }
+      }
+      return count.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a name resolved to an ID by a database query. Lookups answered from the cache never
+ * reach the query, so they do not appear.
+ */
+@Name("io.games.poker.NameLookup")
+@Label("Name Lookup")
+@Category({"Poker Tournament Tracker", "Service"})
+@Description("A season, player or game resolved to its ID by a database query")
+@StackTrace(false)
+public class NameLookupEvent extends Event {
+
+  @Label("Kind")
+  String kind;
+
+  @Label("Name")
+  String name;
+
+  @Label("Found")
+  boolean found;
+
+  @Label("Correlation ID")
+  @Description("Matches the correlationId of the request's log lines")
+  String correlationId;
+
+  /**
+   * Runs a lookup inside a {@code NameLookup} event.
+   *
+   * @param kind what is being looked up, such as {@code season}
+   * @param name the name being resolved
+   * @param lookup the query
+   * @param <T> the ID type
+   * @return the query's result
+   */
+  public static <T> Optional<T> time(String kind, String name, Supplier<Optional<T>> lookup) {
+    final NameLookupEvent event = new NameLookupEvent();
+    event.begin();
+    final Optional<T> result = lookup.get();
+    event.end();
+    if (event.shouldCommit()) {
+      event.kind = kind;
+      event.name = name;
+      event.found = result.isPresent();
+      event.correlationId = MDC.get(CorrelationIdFilter.MDC_KEY);
+      event.commit();
+    }
+    return result;
+  }
+}
@@ -0,0 +1,78 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opens a {@link QueryCounter} scope for each sampled request and publishes the statement count as
+ * the {@code db.statements.per.request} distribution, tagged by route.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Query-Count";
+
+  private final QueryCountProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public QueryCountFilter(QueryCountProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (properties.getSampleRate() < 1.0
+        && ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    // the header has to go on before the body is written, so buffer the body when it's wanted;
+    // an event stream never ends, so it is left unbuffered and goes without the header
+    final HttpServletResponse countedResponse =
+        properties.isResponseHeader() && !isEventStream(request)
+            ? new ContentCachingResponseWrapper(response)
+            : response;
+    try (QueryCounter.Scope scope = QueryCounter.open(false)) {
+      try {
+        filterChain.doFilter(request, countedResponse);
+      } finally {
+        final String uri = RequestTags.route(request);
+        DistributionSummary.builder("db.statements.per.request")
+            .description("SQL statements issued per HTTP request")
+            .tag("method", RequestTags.method(request))
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(scope.getCount());
+        if (scope.getCount() > properties.getWarnThreshold()) {
+          log.warn("{} {} issued {} statements", request.getMethod(), uri, scope.getCount());
+        }
+        if (countedResponse instanceof ContentCachingResponseWrapper wrapper) {
+          wrapper.setHeader(HEADER, Integer.toString(scope.getCount()));
+          wrapper.copyBodyToResponse();
+        }
+      }
+    }
+  }
+
+  private static boolean isEventStream(HttpServletRequest request) {
+    final String accept = request.getHeader(HttpHeaders.ACCEPT);
+    return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+  }
+}
@@ -0,0 +1,51 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.Optional;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate hook that counts each prepared statement against the open {@link QueryCounter} scope.
+ * When a scope goes over the warning threshold the application frame that issued the statement is
+ * logged, which is usually the loop doing the lazy loading.
+ */
+@Slf4j
+public class QueryCountInspector implements StatementInspector {
+
+  private static final String APPLICATION_PACKAGE = "io.games.poker_tournament_tracker.";
+  private static final String MONITORING_PACKAGE = APPLICATION_PACKAGE + "monitoring.";
+
+  private final int warnThreshold;
+
+  public QueryCountInspector(int warnThreshold) {
+    this.warnThreshold = warnThreshold;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    QueryCounter.record(sql);
+    final QueryCounter.Scope scope = QueryCounter.current();
+    if (scope != null && scope.getCount() > warnThreshold && scope.markWarned()) {
+      log.warn(
+          "Statement count passed {} at {}: {}", warnThreshold, callSite().orElse("unknown"), sql);
+    }
+    return sql;
+  }
+
+  private static Optional<String> callSite() {
+    return StackWalker.getInstance()
+        .walk(
+            frames ->
+                frames
+                    .filter(
+                        frame ->
+                            frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                                && !frame.getClassName().startsWith(MONITORING_PACKAGE)
+                                && !frame.getClassName().contains("$$"))
+                    .findFirst()
+                    .map(StackWalker.StackFrame::toStackTraceElement)
+                    .map(StackTraceElement::toString));
+  }
+}
@@ -0,0 +1,21 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query-count")
+public class QueryCountProperties {
+
+  /** Adds an {@code X-Query-Count} header to every response. Buffers bodies, so not for prod. */
+  private boolean responseHeader = false;
+
+  /** Statements per request above which the offending call site is logged. */
+  private int warnThreshold = 20;
+
+  /** Fraction of requests that are counted, from 0.0 to 1.0. */
+  private double sampleRate = 1.0;
+}
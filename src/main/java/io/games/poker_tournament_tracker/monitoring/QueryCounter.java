@@ -0,0 +1,76 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thread-bound SQL statement counter. A scope is opened around a unit of work (a request, a
+ * statement budget) and every statement Hibernate prepares on that thread is counted against it and
+ * against any enclosing scope. Nothing is counted when no scope is open.
+ */
+public final class QueryCounter {
+
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+  private QueryCounter() {}
+
+  /**
+   * Opens a scope nested in whatever scope is already open on this thread.
+   *
+   * @param recordStatements whether to keep the SQL of each statement, for budget failures
+   * @return the new scope, to be closed by the caller
+   */
+  public static Scope open(boolean recordStatements) {
+    final Scope scope = new Scope(CURRENT.get(), recordStatements);
+    CURRENT.set(scope);
+    return scope;
+  }
+
+  static Scope current() {
+    return CURRENT.get();
+  }
+
+  static void record(String sql) {
+    for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+      scope.count++;
+      if (scope.statements != null) {
+        scope.statements.add(sql);
+      }
+    }
+  }
+
+  /** An open counting scope. */
+  public static final class Scope implements AutoCloseable {
+
+    private final Scope parent;
+    private final List<String> statements;
+    private int count;
+    private boolean warned;
+
+    private Scope(Scope parent, boolean recordStatements) {
+      this.parent = parent;
+      this.statements = recordStatements ? new ArrayList<>() : null;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public List<String> getStatements() {
+      return statements == null ? List.of() : Collections.unmodifiableList(statements);
+    }
+
+    /** Returns true the first time it's called, so a scope warns only once. */
+    boolean markWarned() {
+      final boolean first = !warned;
+      warned = true;
+      return first;
+    }
+
+    @Override
+    public void close() {
+      CURRENT.set(parent);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * {@code GET /actuator/querystatistics}: Hibernate's counters since startup or the last reset,
+ * every query with its execution count, rows and timings, most total time first, and the slowest
+ * recent statements from the {@link SlowQueryLog}. {@code DELETE} resets all three. Answers 503
+ * unless {@code query-statistics.enabled} is set.
+ */
+@WebEndpoint(id = "querystatistics")
+public class QueryStatisticsEndpoint {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final SlowQueryLog slowQueryLog;
+  private final QueryStatisticsProperties properties;
+
+  public QueryStatisticsEndpoint(
+      EntityManagerFactory entityManagerFactory,
+      SlowQueryLog slowQueryLog,
+      QueryStatisticsProperties properties) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.slowQueryLog = slowQueryLog;
+    this.properties = properties;
+  }
+
+  @ReadOperation
+  public WebEndpointResponse<Report> report() {
+    if (!properties.isEnabled()) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+    final Statistics statistics = statistics();
+    final List<QueryReport> queries =
+        Arrays.stream(statistics.getQueries())
+            .map(query -> QueryReport.of(query, statistics.getQueryStatistics(query)))
+            .sorted(Comparator.comparingLong(QueryReport::totalMillis).reversed())
+            .toList();
+    return new WebEndpointResponse<>(
+        new Report(Totals.of(statistics), queries, slowQueryLog.worst()));
+  }
+
+  @DeleteOperation
+  public WebEndpointResponse<Void> reset() {
+    if (!properties.isEnabled()) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+    statistics().clear();
+    slowQueryLog.clear();
+    return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  public record Report(
+      Totals totals, List<QueryReport> queries, List<SlowQueryLog.SlowQuery> slowQueries) {}
+
+  /**
+   * @param statementsPrepared JDBC statements, including those for entity loads and flushes
+   * @param queryPlanCacheHits queries whose compiled plan was reused
+   */
+  public record Totals(
+      long queryExecutions,
+      long queryMaxMillis,
+      String slowestQuery,
+      long statementsPrepared,
+      long entityLoads,
+      long entityFetches,
+      long collectionFetches,
+      long queryPlanCacheHits,
+      long queryPlanCacheMisses,
+      long queryCacheHits,
+      long queryCacheMisses,
+      long secondLevelCacheHits,
+      long secondLevelCacheMisses,
+      long transactions) {
+
+    static Totals of(Statistics statistics) {
+      return new Totals(
+          statistics.getQueryExecutionCount(),
+          statistics.getQueryExecutionMaxTime(),
+          statistics.getQueryExecutionMaxTimeQueryString(),
+          statistics.getPrepareStatementCount(),
+          statistics.getEntityLoadCount(),
+          statistics.getEntityFetchCount(),
+          statistics.getCollectionFetchCount(),
+          statistics.getQueryPlanCacheHitCount(),
+          statistics.getQueryPlanCacheMissCount(),
+          statistics.getQueryCacheHitCount(),
+          statistics.getQueryCacheMissCount(),
+          statistics.getSecondLevelCacheHitCount(),
+          statistics.getSecondLevelCacheMissCount(),
+          statistics.getTransactionCount());
+    }
+  }
+
+  /** One JPQL or native query; criteria queries from derived repository methods are included. */
+  public record QueryReport(
+      String query,
+      long executions,
+      long rows,
+      double avgMillis,
+      long maxMillis,
+      long totalMillis,
+      long cacheHits,
+      long cacheMisses,
+      long planCacheHits) {
+
+    static QueryReport of(String query, QueryStatistics statistics) {
+      return new QueryReport(
+          query,
+          statistics.getExecutionCount(),
+          statistics.getExecutionRowCount(),
+          statistics.getExecutionAvgTimeAsDouble(),
+          statistics.getExecutionMaxTime(),
+          statistics.getExecutionTotalTime(),
+          statistics.getCacheHitCount(),
+          statistics.getCacheMissCount(),
+          statistics.getPlanCacheHitCount());
+    }
+  }
+}
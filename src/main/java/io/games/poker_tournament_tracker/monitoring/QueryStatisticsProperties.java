@@ -0,0 +1,26 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query-statistics")
+public class QueryStatisticsProperties {
+
+  /**
+   * Turns on Hibernate statistics and the slow query log behind {@code /actuator/querystatistics}.
+   * Every query then updates shared counters, so leave it off unless you are looking for something.
+   */
+  private boolean enabled = false;
+
+  /** Statements running longer than this are logged with their JPQL and calling service. */
+  private Duration slowThreshold = Duration.ofMillis(100);
+
+  /** How many of the most recent slow statements are kept for the endpoint. */
+  private int slowQueryCapacity = 50;
+}
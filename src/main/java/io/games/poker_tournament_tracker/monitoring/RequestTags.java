@@ -0,0 +1,37 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.Set;
+
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Names a request by method and route for metrics and latency keys, from a fixed set of values so
+ * clients can't add new ones. Requests no handler matched, including those only the catch-all
+ * resource handler took, are {@value #UNMATCHED}.
+ */
+final class RequestTags {
+
+  static final String UNMATCHED = "UNMATCHED";
+
+  private static final Set<String> METHODS =
+      Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+  private RequestTags() {}
+
+  static boolean isStandardMethod(HttpServletRequest request) {
+    return METHODS.contains(request.getMethod());
+  }
+
+  /** The request method, or {@code OTHER} for anything non-standard. */
+  static String method(HttpServletRequest request) {
+    return isStandardMethod(request) ? request.getMethod() : "OTHER";
+  }
+
+  /** The matched route pattern, or {@value #UNMATCHED}. */
+  static String route(HttpServletRequest request) {
+    final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern == null || "/**".equals(pattern) ? UNMATCHED : pattern.toString();
+  }
+}
@@ -0,0 +1,93 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies of one endpoint or service method over the last minute, five minutes and hour.
+ *
+ * <p>Recording goes into an HdrHistogram {@link Recorder}, which is wait-free for writers. Its
+ * range is fixed, up to {@link #MAX_MICROS}: an auto-resizing recorder resizes inside the writer's
+ * critical section and can livelock against the tick's phase flip under concurrent load. Every
+ * {@link SloTracker#TICK} the tick copies the interval histogram into a ring of ten-second slots,
+ * which cover the one- and five-minute windows, and adds it to the current minute; whole minutes go
+ * into a second ring that covers the hour. Windows therefore trail by up to one tick. Empty slots
+ * hold nothing, and stored histograms are packed, so an idle key costs next to no memory.
+ */
+final class RollingLatency {
+
+  private static final int SIGNIFICANT_DIGITS = 2;
+  private static final int TICKS_PER_MINUTE = (int) (60 / SloTracker.TICK.toSeconds());
+  private static final int TICK_SLOTS = 5 * TICKS_PER_MINUTE;
+  private static final int MINUTE_SLOTS = 60;
+
+  /** Longer calls are recorded as taking this long. */
+  private static final long MAX_MICROS = 60_000_000;
+
+  private final Recorder recorder = new Recorder(MAX_MICROS, SIGNIFICANT_DIGITS);
+  private Histogram intervalHistogram;
+  private final AbstractHistogram[] ticks = new AbstractHistogram[TICK_SLOTS];
+  private final AbstractHistogram[] minutes = new AbstractHistogram[MINUTE_SLOTS];
+  private AbstractHistogram currentMinute;
+  private long tickCount;
+  private long minuteCount;
+
+  void record(long nanos) {
+    recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, nanos / 1_000)));
+  }
+
+  synchronized void tick() {
+    intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+    final boolean empty = intervalHistogram.getTotalCount() == 0;
+    AbstractHistogram slot = null;
+    if (!empty) {
+      slot = new PackedHistogram(SIGNIFICANT_DIGITS);
+      slot.add(intervalHistogram);
+      if (currentMinute == null) {
+        currentMinute = new PackedHistogram(SIGNIFICANT_DIGITS);
+      }
+      currentMinute.add(intervalHistogram);
+    }
+    ticks[(int) (tickCount++ % TICK_SLOTS)] = slot;
+    if (tickCount % TICKS_PER_MINUTE == 0) {
+      minutes[(int) (minuteCount++ % MINUTE_SLOTS)] = currentMinute;
+      currentMinute = null;
+    }
+  }
+
+  /**
+   * Merges the slots that make up a window.
+   *
+   * @param window the window
+   * @return latencies in microseconds; a new histogram the caller owns
+   */
+  synchronized Histogram window(SloTracker.Window window) {
+    final Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+    switch (window) {
+      case ONE_MINUTE -> addTicks(merged, TICKS_PER_MINUTE);
+      case FIVE_MINUTES -> addTicks(merged, TICK_SLOTS);
+      case ONE_HOUR -> {
+        // the minute in progress plus the 59 before it
+        addIfPresent(merged, currentMinute);
+        for (int i = 1; i < MINUTE_SLOTS && i <= minuteCount; i++) {
+          addIfPresent(merged, minutes[(int) ((minuteCount - i) % MINUTE_SLOTS)]);
+        }
+      }
+    }
+    return merged;
+  }
+
+  private void addTicks(Histogram merged, int count) {
+    for (int i = 1; i <= count && i <= tickCount; i++) {
+      addIfPresent(merged, ticks[(int) ((tickCount - i) % TICK_SLOTS)]);
+    }
+  }
+
+  private static void addIfPresent(Histogram merged, AbstractHistogram slot) {
+    if (slot != null) {
+      merged.add(slot);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Records the latency of every public method of a {@code @Service} in the {@link SloTracker} under
+ * {@code ClassName.method}. Calls a service makes on itself bypass the proxy and are not recorded.
+ */
+@Aspect
+public class ServiceLatencyAspect {
+
+  private final SloTracker sloTracker;
+  private final ConcurrentMap<Method, RollingLatency> latencies = new ConcurrentHashMap<>();
+
+  public ServiceLatencyAspect(SloTracker sloTracker) {
+    this.sloTracker = sloTracker;
+  }
+
+  @Around(
+      "within(io.games.poker_tournament_tracker.service..*)"
+          + " && @within(org.springframework.stereotype.Service)"
+          + " && execution(public * *(..))")
+  public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+    final long start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      latency(((MethodSignature) joinPoint.getSignature()).getMethod())
+          .record(System.nanoTime() - start);
+    }
+  }
+
+  private RollingLatency latency(Method method) {
+    final RollingLatency latency = latencies.get(method);
+    return latency != null
+        ? latency
+        : latencies.computeIfAbsent(
+            method,
+            m -> sloTracker.latency(m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+  }
+}
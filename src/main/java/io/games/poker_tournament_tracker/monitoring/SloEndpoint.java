@@ -0,0 +1,23 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * {@code GET /actuator/slo}: compliance of each configured objective over the last minute, five
+ * minutes and hour, and the latency percentiles of every endpoint and service method seen.
+ */
+@Endpoint(id = "slo")
+public class SloEndpoint {
+
+  private final SloTracker sloTracker;
+
+  public SloEndpoint(SloTracker sloTracker) {
+    this.sloTracker = sloTracker;
+  }
+
+  @ReadOperation
+  public SloTracker.Report report() {
+    return sloTracker.report();
+  }
+}
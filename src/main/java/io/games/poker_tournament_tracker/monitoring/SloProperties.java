@@ -0,0 +1,48 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "slo")
+public class SloProperties {
+
+  /** Latency objectives reported by {@code /actuator/slo}. */
+  private List<Objective> objectives = new ArrayList<>();
+
+  /**
+   * Burn rate above which an objective is flagged when both the five-minute and the hour window
+   * exceed it. 14.4 spends 2% of a 30-day error budget in an hour.
+   */
+  private double fastBurnRate = 14.4;
+
+  /**
+   * Most endpoints and service methods tracked separately; latencies of any beyond that are
+   * reported together under {@code OVERFLOW}.
+   */
+  private int maxKeys = 256;
+
+  @Getter
+  @Setter
+  public static class Objective {
+
+    /**
+     * What is measured: an endpoint as {@code METHOD /path/pattern}, or a service method as {@code
+     * ClassName.method}.
+     */
+    private String key;
+
+    /** Latency a call must finish within to count as good. */
+    private Duration threshold;
+
+    /** Fraction of calls that must be good; 0.99 reads as "p99 within the threshold". */
+    private double target = 0.99;
+  }
+}
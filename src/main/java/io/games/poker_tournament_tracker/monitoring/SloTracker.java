@@ -0,0 +1,150 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Rolling latency histograms per endpoint and service method, and the SLO compliance computed from
+ * them. Recording is wait-free; the work of merging windows happens only when a report is asked
+ * for.
+ */
+public class SloTracker {
+
+  /**
+   * How often recorded latencies move into the rolling windows; call {@link #tick()} this often.
+   */
+  public static final Duration TICK = Duration.ofSeconds(10);
+
+  /** Where latencies go once {@code slo.max-keys} keys are tracked. */
+  public static final String OVERFLOW = "OVERFLOW";
+
+  public enum Window {
+    ONE_MINUTE("1m"),
+    FIVE_MINUTES("5m"),
+    ONE_HOUR("1h");
+
+    private final String label;
+
+    Window(String label) {
+      this.label = label;
+    }
+  }
+
+  private final SloProperties properties;
+  private final ConcurrentMap<String, RollingLatency> latencies = new ConcurrentHashMap<>();
+
+  public SloTracker(SloProperties properties) {
+    this.properties = properties;
+  }
+
+  public void record(String key, long nanos) {
+    latency(key).record(nanos);
+  }
+
+  RollingLatency latency(String key) {
+    final RollingLatency latency = latencies.get(key);
+    if (latency != null) {
+      return latency;
+    }
+    // each key holds a few histograms for good, so past the cap new keys share one
+    final String tracked = latencies.size() < properties.getMaxKeys() ? key : OVERFLOW;
+    return latencies.computeIfAbsent(tracked, k -> new RollingLatency());
+  }
+
+  public void tick() {
+    latencies.values().forEach(RollingLatency::tick);
+  }
+
+  public Report report() {
+    final List<ObjectiveStatus> objectives =
+        properties.getObjectives().stream().map(this::status).toList();
+    final Map<String, Map<String, WindowLatency>> windows = new TreeMap<>();
+    latencies.forEach(
+        (key, latency) -> {
+          final Map<String, WindowLatency> byWindow = new LinkedHashMap<>();
+          for (final Window window : Window.values()) {
+            byWindow.put(window.label, WindowLatency.of(latency.window(window)));
+          }
+          windows.put(key, byWindow);
+        });
+    return new Report(objectives, windows);
+  }
+
+  private ObjectiveStatus status(SloProperties.Objective objective) {
+    final long thresholdMicros = objective.getThreshold().toNanos() / 1_000;
+    final double errorBudget = 1 - objective.getTarget();
+    final RollingLatency latency = latencies.get(objective.getKey());
+    final Map<String, Compliance> byWindow = new LinkedHashMap<>();
+    for (final Window window : Window.values()) {
+      final Histogram histogram = latency == null ? new Histogram(2) : latency.window(window);
+      final long count = histogram.getTotalCount();
+      final long good = count == 0 ? 0 : histogram.getCountBetweenValues(0, thresholdMicros);
+      final double badRatio = count == 0 ? 0 : (double) (count - good) / count;
+      byWindow.put(
+          window.label,
+          new Compliance(
+              count,
+              millis(histogram.getValueAtPercentile(objective.getTarget() * 100)),
+              badRatio,
+              badRatio / errorBudget,
+              badRatio <= errorBudget));
+    }
+    final boolean fastBurn =
+        byWindow.get(Window.FIVE_MINUTES.label).burnRate() > properties.getFastBurnRate()
+            && byWindow.get(Window.ONE_HOUR.label).burnRate() > properties.getFastBurnRate();
+    return new ObjectiveStatus(
+        objective.getKey(),
+        objective.getThreshold().toMillis(),
+        objective.getTarget(),
+        fastBurn,
+        byWindow);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1_000.0;
+  }
+
+  public record Report(
+      List<ObjectiveStatus> objectives, Map<String, Map<String, WindowLatency>> latencies) {}
+
+  /**
+   * @param fastBurn whether the five-minute and hour burn rates both exceed {@code
+   *     slo.fast-burn-rate}
+   */
+  public record ObjectiveStatus(
+      String key,
+      long thresholdMillis,
+      double target,
+      boolean fastBurn,
+      Map<String, Compliance> windows) {}
+
+  /**
+   * @param count calls in the window
+   * @param observedMillis latency at the target percentile
+   * @param badRatio fraction of calls slower than the threshold
+   * @param burnRate how fast the error budget is being spent; 1 spends it exactly
+   * @param met whether the window is within the objective
+   */
+  public record Compliance(
+      long count, double observedMillis, double badRatio, double burnRate, boolean met) {}
+
+  public record WindowLatency(
+      long count, double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+    static WindowLatency of(Histogram histogram) {
+      return new WindowLatency(
+          histogram.getTotalCount(),
+          millis(histogram.getValueAtPercentile(50)),
+          millis(histogram.getValueAtPercentile(90)),
+          millis(histogram.getValueAtPercentile(99)),
+          millis(histogram.getMaxValue()));
+    }
+  }
+}
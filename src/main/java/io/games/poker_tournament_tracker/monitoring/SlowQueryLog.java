@@ -0,0 +1,153 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs statements that ran over the slow threshold and keeps the most recent ones in a fixed-size
+ * ring. Each entry carries the JPQL behind the SQL when there was one, the shape of the bind
+ * parameters (how many, and how long each {@code IN} list was) but never their values, and the
+ * repository and service methods that issued it.
+ */
+@Slf4j
+public class SlowQueryLog {
+
+  private static final String APPLICATION_PACKAGE = "io.games.poker_tournament_tracker.";
+  private static final String SERVICE_PACKAGE = APPLICATION_PACKAGE + "service.";
+  private static final String REPOSITORY_PACKAGE = APPLICATION_PACKAGE + "repos.";
+  private static final Pattern IN_LIST =
+      Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+  private final SlowQuery[] ring;
+  private int next;
+
+  public SlowQueryLog(int capacity) {
+    this.ring = new SlowQuery[capacity];
+  }
+
+  /**
+   * Records a statement that went over the threshold. Runs on the thread that executed it, so the
+   * calling methods can be read off the stack.
+   *
+   * @param jpql the query the statement was generated from, or null for loads, flushes and native
+   *     SQL
+   */
+  public void record(String sql, String jpql, long millis) {
+    final SlowQuery slowQuery =
+        new SlowQuery(
+            Instant.now(),
+            millis,
+            sql,
+            jpql,
+            bindCount(sql),
+            inListSizes(sql),
+            repositoryMethod().orElse(null),
+            serviceMethod().orElse(null));
+    log.warn(
+        "Slow query took {} ms in {} via {}: {}",
+        millis,
+        slowQuery.service(),
+        slowQuery.repository(),
+        jpql == null ? sql : jpql);
+    synchronized (this) {
+      ring[next] = slowQuery;
+      next = (next + 1) % ring.length;
+    }
+  }
+
+  /** The slow statements still in the ring, slowest first. */
+  public synchronized List<SlowQuery> worst() {
+    return Arrays.stream(ring)
+        .filter(Objects::nonNull)
+        .sorted(Comparator.comparingLong(SlowQuery::millis).reversed())
+        .toList();
+  }
+
+  public synchronized void clear() {
+    Arrays.fill(ring, null);
+    next = 0;
+  }
+
+  private static int bindCount(String sql) {
+    int count = 0;
+    boolean quoted = false;
+    for (int i = 0; i < sql.length(); i++) {
+      final char c = sql.charAt(i);
+      if (c == '\'') {
+        quoted = !quoted;
+      } else if (c == '?' && !quoted) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static List<Integer> inListSizes(String sql) {
+    final List<Integer> sizes = new ArrayList<>();
+    final Matcher matcher = IN_LIST.matcher(sql);
+    while (matcher.find()) {
+      sizes.add(bindCount(matcher.group()));
+    }
+    return sizes;
+  }
+
+  /** The repository interface method on the stack; the frame itself belongs to its JDK proxy. */
+  private static Optional<String> repositoryMethod() {
+    return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+        .walk(
+            frames ->
+                frames
+                    .filter(frame -> Proxy.isProxyClass(frame.getDeclaringClass()))
+                    .flatMap(
+                        frame ->
+                            Arrays.stream(frame.getDeclaringClass().getInterfaces())
+                                .filter(type -> type.getName().startsWith(REPOSITORY_PACKAGE))
+                                .map(type -> type.getSimpleName() + "." + frame.getMethodName()))
+                    .findFirst());
+  }
+
+  /** Named like the service keys in {@code /actuator/slo}, so the two can be read side by side. */
+  private static Optional<String> serviceMethod() {
+    return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+        .walk(
+            frames ->
+                frames
+                    .filter(
+                        frame ->
+                            frame.getClassName().startsWith(SERVICE_PACKAGE)
+                                && !frame.getClassName().contains("$$"))
+                    .findFirst()
+                    .map(
+                        frame ->
+                            frame.getDeclaringClass().getSimpleName()
+                                + "."
+                                + frame.getMethodName()));
+  }
+
+  /**
+   * @param jpql the query the SQL was generated from, or null
+   * @param bindCount number of bind parameters in the SQL
+   * @param inListSizes parameters in each {@code IN} list, in order
+   * @param repository {@code Repository.method} that issued it, or null
+   * @param service {@code Service.method} that issued it, or null
+   */
+  public record SlowQuery(
+      Instant at,
+      long millis,
+      String sql,
+      String jpql,
+      int bindCount,
+      List<Integer> inListSizes,
+      String repository,
+      String service) {}
+}
@@ -0,0 +1,46 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate's statistics with slow statements also passed to the {@link SlowQueryLog}. Hibernate
+ * reports a slow statement with its SQL only, so the JPQL is remembered per thread from the plan
+ * lookup that precedes every query execution and forgotten once the query has run. A statement
+ * issued in between, such as an auto-flush, is attributed to that query.
+ */
+public class SlowQueryStatistics extends StatisticsImpl {
+
+  private static final ThreadLocal<String> CURRENT_QUERY = new ThreadLocal<>();
+
+  private final SlowQueryLog slowQueryLog;
+
+  public SlowQueryStatistics(SessionFactoryImplementor sessionFactory, SlowQueryLog slowQueryLog) {
+    super(sessionFactory);
+    this.slowQueryLog = slowQueryLog;
+  }
+
+  @Override
+  public void queryPlanCacheHit(String query) {
+    super.queryPlanCacheHit(query);
+    CURRENT_QUERY.set(query);
+  }
+
+  @Override
+  public void queryPlanCacheMiss(String query) {
+    super.queryPlanCacheMiss(query);
+    CURRENT_QUERY.set(query);
+  }
+
+  @Override
+  public void queryExecuted(String query, int rows, long time) {
+    super.queryExecuted(query, rows, time);
+    CURRENT_QUERY.remove();
+  }
+
+  @Override
+  public void slowQuery(String sql, long executionTime) {
+    super.slowQuery(sql, executionTime);
+    slowQueryLog.record(sql, CURRENT_QUERY.get(), executionTime);
+  }
+}
@@ -0,0 +1,28 @@
+package io.games.poker_tournament_tracker.repos;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import io.games.poker_tournament_tracker.domain.AllInShowdown;
+import io.games.poker_tournament_tracker.domain.Game;
+import io.games.poker_tournament_tracker.domain.SeasonPlayer;
+
+public interface AllInShowdownRepository extends JpaRepository<AllInShowdown, Integer> {
+
+  AllInShowdown findFirstByGame(Game game);
+
+  AllInShowdown findFirstBySeasonPlayer(SeasonPlayer seasonPlayer);
+
+  @Query(
+      "SELECT COALESCE(SUM(a.amountWon), 0) FROM AllInShowdown a "
+          + "WHERE a.seasonPlayer.seasonPlayerId = :seasonPlayerId")
+  BigDecimal sumAmountWonBySeasonPlayerId(@Param("seasonPlayerId") Integer seasonPlayerId);
+
+  @Query(
+      "SELECT COALESCE(SUM(a.expectedWinnings), 0) FROM AllInShowdown a "
+          + "WHERE a.seasonPlayer.seasonPlayerId = :seasonPlayerId")
+  BigDecimal sumExpectedWinningsBySeasonPlayerId(@Param("seasonPlayerId") Integer seasonPlayerId);
+}
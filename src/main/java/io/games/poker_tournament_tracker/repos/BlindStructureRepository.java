@@ -0,0 +1,14 @@
+package io.games.poker_tournament_tracker.repos;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import io.games.poker_tournament_tracker.domain.BlindStructure;
+
+public interface BlindStructureRepository extends JpaRepository<BlindStructure, Integer> {
+
+  Optional<BlindStructure> findByName(String name);
+
+  boolean existsByName(String name);
+}
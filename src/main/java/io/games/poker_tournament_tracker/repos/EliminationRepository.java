@@ -0,0 +1,18 @@
+package io.games.poker_tournament_tracker.repos;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import io.games.poker_tournament_tracker.domain.Elimination;
+
+public interface EliminationRepository extends JpaRepository<Elimination, Long> {
+
+  @Query(
+      "SELECT e FROM Elimination e JOIN FETCH e.eliminated ed JOIN FETCH ed.player"
+          + " LEFT JOIN FETCH e.eliminator er LEFT JOIN FETCH er.player"
+          + " WHERE e.game.gameId = :gameId ORDER BY e.eventSequence")
+  List<Elimination> findAllByGameId(@Param("gameId") Integer gameId);
+}
@@ -1,11 +1,13 @@
 package io.games.poker_tournament_tracker.repos;
 
-import java.util.Optional;
+import java.math.BigDecimal;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import io.games.poker_tournament_tracker.domain.BuyInTotal;
 import io.games.poker_tournament_tracker.domain.Game;
 import io.games.poker_tournament_tracker.domain.GameBuyIn;
 import io.games.poker_tournament_tracker.domain.SeasonPlayer;
@@ -17,12 +19,37 @@ public interface GameBuyInRepository extends JpaRepository<GameBuyIn, Integer> {
   GameBuyIn findFirstBySeasonPlayer(SeasonPlayer seasonPlayer);
 
   @Query(
-      "SELECT gbi FROM GameBuyIn gbi "
-          + "JOIN gbi.game g "
-          + "JOIN g.season s "
-          + "JOIN gbi.seasonPlayer sp "
-          + "JOIN sp.player p "
-          + "WHERE p.name = :playerName AND g.gameNumber = :gameNumber")
-  Optional<GameBuyIn> findGameBuyInByPlayerNameAndGameNumber(
-      @Param("playerName") String playerName, @Param("gameNumber") int gameNumber);
+      "SELECT new io.games.poker_tournament_tracker.domain.BuyInTotal("
+          + "sp.seasonPlayerId, p.name, gbi.kind, COUNT(gbi), SUM(gbi.buyInAmount))"
+          + " FROM GameBuyIn gbi JOIN gbi.seasonPlayer sp JOIN sp.player p"
+          + " WHERE gbi.game.gameId = :gameId AND sp.seasonPlayerId = :seasonPlayerId"
+          + " GROUP BY sp.seasonPlayerId, p.name, gbi.kind")
+  List<BuyInTotal> sumByGameIdAndSeasonPlayerId(
+      @Param("gameId") Integer gameId, @Param("seasonPlayerId") Integer seasonPlayerId);
+
+  @Query(
+      "SELECT new io.games.poker_tournament_tracker.domain.BuyInTotal("
+          + "sp.seasonPlayerId, p.name, gbi.kind, COUNT(gbi), SUM(gbi.buyInAmount))"
+          + " FROM GameBuyIn gbi JOIN gbi.seasonPlayer sp JOIN sp.player p"
+          + " WHERE gbi.game.gameId = :gameId"
+          + " GROUP BY sp.seasonPlayerId, p.name, gbi.kind")
+  List<BuyInTotal> sumByGameId(@Param("gameId") Integer gameId);
+
+  @Query(
+      "SELECT new io.games.poker_tournament_tracker.domain.BuyInTotal("
+          + "sp.seasonPlayerId, p.name, gbi.kind, COUNT(gbi), SUM(gbi.buyInAmount))"
+          + " FROM GameBuyIn gbi JOIN gbi.seasonPlayer sp JOIN sp.player p"
+          + " WHERE sp.season.seasonId = :seasonId"
+          + " GROUP BY sp.seasonPlayerId, p.name, gbi.kind")
+  List<BuyInTotal> sumBySeasonId(@Param("seasonId") Integer seasonId);
+
+  @Query(
+      "SELECT COALESCE(SUM(gbi.buyInAmount), 0) FROM GameBuyIn gbi "
+          + "WHERE gbi.seasonPlayer.seasonPlayerId = :seasonPlayerId")
+  BigDecimal sumBuyInAmountBySeasonPlayerId(@Param("seasonPlayerId") Integer seasonPlayerId);
+
+  @Query(
+      "SELECT gbi FROM GameBuyIn gbi WHERE gbi.game.season.seasonId = :seasonId "
+          + "ORDER BY gbi.gameBuyInId")
+  List<GameBuyIn> findAllBySeasonId(@Param("seasonId") Integer seasonId);
 }
@@ -0,0 +1,31 @@
+package io.games.poker_tournament_tracker.repos;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import io.games.poker_tournament_tracker.domain.GameClock;
+import io.games.poker_tournament_tracker.domain.GameClockStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface GameClockRepository extends JpaRepository<GameClock, Integer> {
+
+  List<GameClock> findAllByStatusAndLevelEndsAtNotNull(GameClockStatus status);
+
+  /**
+   * Locks the clock row until the transaction ends, or finds nothing if another transaction holds
+   * it, so only one node moves a clock at a time. A lock timeout of -2 is Hibernate's {@code SKIP
+   * LOCKED}.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT c FROM GameClock c WHERE c.gameId = :gameId")
+  Optional<GameClock> findByIdForUpdateSkipLocked(@Param("gameId") Integer gameId);
+}
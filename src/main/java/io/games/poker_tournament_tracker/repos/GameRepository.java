@@ -1,19 +1,33 @@
 package io.games.poker_tournament_tracker.repos;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.games.poker_tournament_tracker.domain.Game;
 import io.games.poker_tournament_tracker.domain.Season;
 
+import jakarta.persistence.LockModeType;
+
 public interface GameRepository extends JpaRepository<Game, Integer> {
 
   Game findFirstBySeason(Season season);
 
-  @Query("SELECT g.gameId FROM Game g WHERE g.gameNumber = :gameNumber")
-  int findGameIdByGameNumber(int gameNumber);
+  @Query(
+      "SELECT g.gameId FROM Game g"
+          + " WHERE g.season.seasonId = :seasonId AND g.gameNumber = :gameNumber")
+  Optional<Integer> findGameIdBySeasonIdAndGameNumber(
+      @Param("seasonId") Integer seasonId, @Param("gameNumber") Integer gameNumber);
+
+  @Query("SELECT g FROM Game g WHERE g.season.seasonId = :seasonId ORDER BY g.gameNumber")
+  List<Game> findAllBySeasonId(@Param("seasonId") Integer seasonId);
 
-  Optional<Game> findByGameNumber(int gameNumber);
+  /** Locks the game row until the transaction ends, to serialize changes to the game's seating. */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT g FROM Game g WHERE g.gameId = :gameId")
+  Optional<Game> findByIdForUpdate(@Param("gameId") Integer gameId);
 }
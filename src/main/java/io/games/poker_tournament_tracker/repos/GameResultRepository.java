@@ -1,6 +1,11 @@
 package io.games.poker_tournament_tracker.repos;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.games.poker_tournament_tracker.domain.Game;
 import io.games.poker_tournament_tracker.domain.GameResult;
@@ -11,4 +16,14 @@ public interface GameResultRepository extends JpaRepository<GameResult, Integer>
   GameResult findFirstByGame(Game game);
 
   GameResult findFirstBySeasonPlayer(SeasonPlayer seasonPlayer);
+
+  @Query(
+      "SELECT COALESCE(SUM(gr.winnings), 0) FROM GameResult gr "
+          + "WHERE gr.seasonPlayer.seasonPlayerId = :seasonPlayerId")
+  BigDecimal sumWinningsBySeasonPlayerId(@Param("seasonPlayerId") Integer seasonPlayerId);
+
+  @Query(
+      "SELECT gr FROM GameResult gr WHERE gr.game.season.seasonId = :seasonId "
+          + "ORDER BY gr.gameResultId")
+  List<GameResult> findAllBySeasonId(@Param("seasonId") Integer seasonId);
 }
@@ -0,0 +1,32 @@
+package io.games.poker_tournament_tracker.repos;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import io.games.poker_tournament_tracker.domain.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Locks the oldest unpublished events until the transaction ends, skipping rows another relay
+   * already holds, so two relays never claim the same event. A lock timeout of -2 is Hibernate's
+   * {@code SKIP LOCKED}.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("SELECT e FROM OutboxEvent e WHERE e.position IS NULL ORDER BY e.eventId")
+  List<OutboxEvent> findPendingForUpdate(Limit limit);
+
+  List<OutboxEvent> findByPositionGreaterThanOrderByPosition(Long position, Limit limit);
+
+  @Query("SELECT COALESCE(MAX(e.position), 0) FROM OutboxEvent e")
+  long findMaxPosition();
+}
@@ -1,6 +1,10 @@
 package io.games.poker_tournament_tracker.repos;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.games.poker_tournament_tracker.domain.Game;
 import io.games.poker_tournament_tracker.domain.PlayerParticipation;
@@ -11,4 +15,15 @@ public interface PlayerParticipationRepository extends JpaRepository<PlayerParti
   PlayerParticipation findFirstByGame(Game game);
 
   PlayerParticipation findFirstBySeasonPlayer(SeasonPlayer seasonPlayer);
+
+  @Query(
+      "SELECT pp FROM PlayerParticipation pp WHERE pp.game.season.seasonId = :seasonId "
+          + "ORDER BY pp.participationId")
+  List<PlayerParticipation> findAllBySeasonId(@Param("seasonId") Integer seasonId);
+
+  @Query(
+      "SELECT DISTINCT pp.seasonPlayer.seasonPlayerId FROM PlayerParticipation pp"
+          + " WHERE pp.game.gameId = :gameId AND pp.participated = true"
+          + " ORDER BY pp.seasonPlayer.seasonPlayerId")
+  List<Integer> findParticipantIdsByGameId(@Param("gameId") Integer gameId);
 }
@@ -11,7 +11,7 @@ import io.games.poker_tournament_tracker.domain.Player;
 public interface PlayerRepository extends JpaRepository<Player, Integer> {
 
   @Query("SELECT p.playerId FROM Player p WHERE p.name = :name")
-  int findPlayerIdByName(@Param("name") String name);
+  Optional<Integer> findPlayerIdByName(@Param("name") String name);
 
   Optional<Player> findByName(String name);
 }
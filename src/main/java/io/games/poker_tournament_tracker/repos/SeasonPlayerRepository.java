@@ -1,8 +1,11 @@
 package io.games.poker_tournament_tracker.repos;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.games.poker_tournament_tracker.domain.Player;
 import io.games.poker_tournament_tracker.domain.Season;
@@ -15,4 +18,9 @@ public interface SeasonPlayerRepository extends JpaRepository<SeasonPlayer, Inte
   SeasonPlayer findFirstByPlayer(Player player);
 
   Optional<SeasonPlayer> findByPlayerAndSeason(Player player, Season season);
+
+  @Query(
+      "SELECT sp FROM SeasonPlayer sp JOIN FETCH sp.player "
+          + "WHERE sp.season.seasonId = :seasonId ORDER BY sp.seasonPlayerId")
+  List<SeasonPlayer> findAllBySeasonIdWithPlayer(@Param("seasonId") Integer seasonId);
 }
@@ -1,17 +1,56 @@
 package io.games.poker_tournament_tracker.repos;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import io.games.poker_tournament_tracker.domain.Season;
+import io.games.poker_tournament_tracker.domain.SeasonVersion;
 
 public interface SeasonRepository extends JpaRepository<Season, Integer> {
 
   @Query("SELECT s.seasonId FROM Season s WHERE s.name = :name")
-  int findSeasonIdByName(@Param("name") String name);
+  Optional<Integer> findSeasonIdByName(@Param("name") String name);
 
   Optional<Season> findByName(String name);
+
+  /**
+   * Bumps the season's game counter. The row lock taken by the update serialises concurrent
+   * allocations on every node until the caller commits; seeding from the season's highest game
+   * number covers games created before the counter existed.
+   *
+   * @return the number of seasons updated, zero if the season does not exist
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(
+      "UPDATE Season s SET s.lastGameNumber = GREATEST(s.lastGameNumber,"
+          + " COALESCE((SELECT MAX(g.gameNumber) FROM Game g WHERE g.season.seasonId = :seasonId),"
+          + " 0)) + 1 WHERE s.seasonId = :seasonId")
+  int incrementLastGameNumber(@Param("seasonId") Integer seasonId);
+
+  @Query("SELECT s.lastGameNumber FROM Season s WHERE s.seasonId = :seasonId")
+  int findLastGameNumber(@Param("seasonId") Integer seasonId);
+
+  @Modifying(flushAutomatically = true)
+  @Query(
+      "UPDATE Season s SET s.dataVersion = s.dataVersion + 1, s.dataModifiedAt = :now"
+          + " WHERE s.seasonId = :seasonId")
+  int incrementDataVersion(@Param("seasonId") Integer seasonId, @Param("now") OffsetDateTime now);
+
+  @Modifying(flushAutomatically = true)
+  @Query(
+      "UPDATE Season s SET s.dataVersion = s.dataVersion + 1, s.dataModifiedAt = :now"
+          + " WHERE s.seasonId IN"
+          + " (SELECT sp.season.seasonId FROM SeasonPlayer sp WHERE sp.player.playerId = :playerId)")
+  int incrementDataVersionByPlayerId(
+      @Param("playerId") Integer playerId, @Param("now") OffsetDateTime now);
+
+  @Query(
+      "SELECT new io.games.poker_tournament_tracker.domain.SeasonVersion("
+          + "s.seasonId, s.dataVersion, s.dataModifiedAt) FROM Season s WHERE s.seasonId = :seasonId")
+  Optional<SeasonVersion> findSeasonVersion(@Param("seasonId") Integer seasonId);
 }
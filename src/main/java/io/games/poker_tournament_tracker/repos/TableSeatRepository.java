@@ -0,0 +1,20 @@
+package io.games.poker_tournament_tracker.repos;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import io.games.poker_tournament_tracker.domain.TableSeat;
+
+public interface TableSeatRepository extends JpaRepository<TableSeat, Integer> {
+
+  @Query(
+      "SELECT ts FROM TableSeat ts JOIN FETCH ts.seasonPlayer sp JOIN FETCH sp.player"
+          + " WHERE ts.game.gameId = :gameId ORDER BY ts.tableNumber, ts.seatNumber")
+  List<TableSeat> findAllByGameId(@Param("gameId") Integer gameId);
+
+  @Query("SELECT COUNT(ts) > 0 FROM TableSeat ts WHERE ts.game.gameId = :gameId")
+  boolean existsByGameId(@Param("gameId") Integer gameId);
+}
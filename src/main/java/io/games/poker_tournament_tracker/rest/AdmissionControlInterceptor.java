@@ -0,0 +1,130 @@
+package io.games.poker_tournament_tracker.rest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.games.poker_tournament_tracker.util.ServiceUnavailableException;
+import io.games.poker_tournament_tracker.util.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control for the POST endpoints. A write first takes one of its season's permits, so no
+ * season can have more than {@code admission.per-season-limit} writes in flight (429 otherwise),
+ * then a permit from the adaptive global limit (503 otherwise). Rejected requests carry {@code
+ * Retry-After} and are counted in {@code admission.requests} by season and outcome. Only seasons
+ * the application already knows get their own tag; any other name is counted as {@code other}, so
+ * clients can't add series to the counter. Telling them apart never queries the database, not even
+ * on the rejection paths.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+  private static final String SEASON_PARAMETER = "seasonName";
+  private static final String NO_SEASON = "none";
+  private static final String OTHER_SEASON = "other";
+  private static final String ADMITTED_AT = AdmissionControlInterceptor.class.getName() + ".at";
+  private static final String ADMITTED_SEASON =
+      AdmissionControlInterceptor.class.getName() + ".season";
+
+  private final AdmissionProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Predicate<String> knownSeason;
+  private final AimdLimit globalLimit;
+  private final ConcurrentMap<String, Integer> inFlightBySeason = new ConcurrentHashMap<>();
+  private final String retryAfterSeconds;
+
+  public AdmissionControlInterceptor(
+      AdmissionProperties properties, MeterRegistry meterRegistry, Predicate<String> knownSeason) {
+    if (properties.getPerSeasonLimit() >= properties.getGlobal().getMinLimit()) {
+      throw new IllegalStateException(
+          "admission.per-season-limit must be below admission.global.min-limit");
+    }
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.knownSeason = knownSeason;
+    this.globalLimit = new AimdLimit(properties.getGlobal());
+    this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+    Gauge.builder("admission.global.limit", globalLimit, AimdLimit::getLimit)
+        .description("Current adaptive limit on concurrent writes")
+        .register(meterRegistry);
+    Gauge.builder("admission.global.in.flight", globalLimit, AimdLimit::getInFlight)
+        .description("Writes holding a global permit")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!HttpMethod.POST.matches(request.getMethod())) {
+      return true;
+    }
+    final String seasonParameter = request.getParameter(SEASON_PARAMETER);
+    final String season = seasonParameter == null ? NO_SEASON : seasonParameter;
+    if (!tryAcquire(season)) {
+      count(season, "season_limit");
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+      throw new TooManyRequestsException("Too many writes in flight for season " + season);
+    }
+    if (!globalLimit.tryAcquire()) {
+      release(season);
+      count(season, "global_limit");
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+      throw new ServiceUnavailableException("Too many writes in flight");
+    }
+    count(season, "admitted");
+    request.setAttribute(ADMITTED_SEASON, season);
+    request.setAttribute(ADMITTED_AT, System.nanoTime());
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    final Object season = request.getAttribute(ADMITTED_SEASON);
+    if (season == null) {
+      return;
+    }
+    release((String) season);
+    globalLimit.release(
+        System.nanoTime() - (long) request.getAttribute(ADMITTED_AT),
+        response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+  }
+
+  private boolean tryAcquire(String season) {
+    final boolean[] acquired = new boolean[1];
+    inFlightBySeason.compute(
+        season,
+        (key, inFlight) -> {
+          final int current = inFlight == null ? 0 : inFlight;
+          acquired[0] = current < properties.getPerSeasonLimit();
+          return acquired[0] ? current + 1 : inFlight;
+        });
+    return acquired[0];
+  }
+
+  private void release(String season) {
+    // drop the entry at zero so the map only holds seasons with writes in flight
+    inFlightBySeason.computeIfPresent(
+        season, (key, inFlight) -> inFlight > 1 ? inFlight - 1 : null);
+  }
+
+  private void count(String season, String outcome) {
+    final String tag = season.equals(NO_SEASON) || knownSeason.test(season) ? season : OTHER_SEASON;
+    Counter.builder("admission.requests")
+        .description("POST requests by season and admission outcome")
+        .tag("season", tag)
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .increment();
+  }
+}
@@ -0,0 +1,50 @@
+package io.games.poker_tournament_tracker.rest;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+  /** Limits how many POST requests run at once, per season and overall. */
+  private boolean enabled = true;
+
+  /**
+   * Writes one season may have in flight; more get a 429, so a client replaying requests for one
+   * season cannot take the capacity every other season needs.
+   */
+  private int perSeasonLimit = 4;
+
+  /** {@code Retry-After} sent with a 429 or 503. */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  private Global global = new Global();
+
+  /**
+   * The overall limit, which adapts AIMD style: it grows by one while requests finish within the
+   * latency threshold and the limit is being used, and is multiplied by the backoff ratio when one
+   * doesn't or the pool ran out of connections. Requests over it get a 503.
+   */
+  @Getter
+  @Setter
+  public static class Global {
+
+    private int initialLimit = 20;
+
+    /** Kept above {@code per-season-limit}, so one season can never hold every permit. */
+    private int minLimit = 8;
+
+    private int maxLimit = 100;
+
+    /** A write slower than this counts as a sign of overload. */
+    private Duration latencyThreshold = Duration.ofMillis(250);
+
+    private double backoffRatio = 0.9;
+  }
+}
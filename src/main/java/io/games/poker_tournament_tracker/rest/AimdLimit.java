@@ -0,0 +1,61 @@
+package io.games.poker_tournament_tracker.rest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit that finds its own level: additive increase while requests complete quickly
+ * and the limit is actually being reached, multiplicative decrease on a slow or dropped request.
+ */
+class AimdLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final double backoffRatio;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+
+  AimdLimit(AdmissionProperties.Global properties) {
+    this.minLimit = properties.getMinLimit();
+    this.maxLimit = properties.getMaxLimit();
+    this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+    this.backoffRatio = properties.getBackoffRatio();
+    this.limit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+  }
+
+  boolean tryAcquire() {
+    while (true) {
+      final int current = inFlight.get();
+      if (current >= limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @param latencyNanos how long the request held its permit
+   * @param dropped whether it failed in a way that signals overload
+   */
+  void release(long latencyNanos, boolean dropped) {
+    final int current = inFlight.getAndDecrement();
+    synchronized (this) {
+      if (dropped || latencyNanos > latencyThresholdNanos) {
+        limit = Math.max(minLimit, (int) (limit * backoffRatio));
+      } else if (current * 2 >= limit) {
+        // only grow a limit that is being used, or an idle period would inflate it without bound
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    }
+  }
+
+  int getLimit() {
+    return limit;
+  }
+
+  int getInFlight() {
+    return inFlight.get();
+  }
+}
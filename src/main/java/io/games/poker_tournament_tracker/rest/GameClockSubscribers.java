@@ -0,0 +1,83 @@
+package io.games.poker_tournament_tracker.rest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.games.poker_tournament_tracker.model.GameClockDTO;
+import io.games.poker_tournament_tracker.model.OutboxEventDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-sent event streams of game clocks. A subscriber first gets the clock as it is, as a {@code
+ * GameClock} event, then every {@code GameClock} outbox event for its game as it is relayed, named
+ * after the event type and with the outbox position as its ID. The relay publishes events from all
+ * nodes, so a subscriber hears about level changes whichever node made them.
+ */
+@Slf4j
+public class GameClockSubscribers {
+
+  private final long timeoutMillis;
+  private final ConcurrentMap<Integer, Set<SseEmitter>> subscribersByGame =
+      new ConcurrentHashMap<>();
+
+  public GameClockSubscribers(Duration subscriberTimeout) {
+    this.timeoutMillis = subscriberTimeout.toMillis();
+  }
+
+  public SseEmitter subscribe(GameClockDTO gameClock) {
+    final Integer gameId = gameClock.getGameId();
+    final SseEmitter emitter = new SseEmitter(timeoutMillis);
+    subscribersByGame.computeIfAbsent(gameId, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+    emitter.onCompletion(() -> unsubscribe(gameId, emitter));
+    emitter.onTimeout(() -> unsubscribe(gameId, emitter));
+    emitter.onError(e -> unsubscribe(gameId, emitter));
+    try {
+      emitter.send(
+          SseEmitter.event().name("GameClock").data(gameClock, MediaType.APPLICATION_JSON));
+    } catch (IOException e) {
+      emitter.completeWithError(e);
+    }
+    return emitter;
+  }
+
+  @EventListener
+  public void onOutboxEvent(OutboxEventDTO outboxEvent) {
+    if (!"GameClock".equals(outboxEvent.aggregateType())) {
+      return;
+    }
+    final Set<SseEmitter> subscribers = subscribersByGame.get(outboxEvent.aggregateId());
+    if (subscribers == null) {
+      return;
+    }
+    for (final SseEmitter emitter : subscribers) {
+      try {
+        // a builder cannot be sent twice; the payload is already JSON and is written as is
+        emitter.send(
+            SseEmitter.event()
+                .id(String.valueOf(outboxEvent.position()))
+                .name(outboxEvent.eventType())
+                .data(outboxEvent.payload(), MediaType.APPLICATION_JSON));
+      } catch (IOException | IllegalStateException e) {
+        log.debug("Dropping clock subscriber of game {}", outboxEvent.aggregateId(), e);
+        unsubscribe(outboxEvent.aggregateId(), emitter);
+      }
+    }
+  }
+
+  private void unsubscribe(Integer gameId, SseEmitter emitter) {
+    subscribersByGame.computeIfPresent(
+        gameId,
+        (key, subscribers) -> {
+          subscribers.remove(emitter);
+          return subscribers.isEmpty() ? null : subscribers;
+        });
+  }
+}
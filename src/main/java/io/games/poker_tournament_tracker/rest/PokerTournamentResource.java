@@ -1,23 +1,61 @@
 package io.games.poker_tournament_tracker.rest;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import io.games.poker_tournament_tracker.config.JacksonConfig;
+import io.games.poker_tournament_tracker.domain.BuyInKind;
+import io.games.poker_tournament_tracker.domain.SeasonVersion;
+import io.games.poker_tournament_tracker.model.BatchResult;
+import io.games.poker_tournament_tracker.model.BlindStructureDTO;
+import io.games.poker_tournament_tracker.model.BuyInReportDTO;
+import io.games.poker_tournament_tracker.model.BuyInTotalsDTO;
+import io.games.poker_tournament_tracker.model.EliminationBatchDTO;
+import io.games.poker_tournament_tracker.model.EliminationReceiptDTO;
+import io.games.poker_tournament_tracker.model.EliminationsDTO;
+import io.games.poker_tournament_tracker.model.GameClockDTO;
+import io.games.poker_tournament_tracker.model.GameDTO;
+import io.games.poker_tournament_tracker.model.LuckStatsDTO;
+import io.games.poker_tournament_tracker.model.OutboxEventDTO;
+import io.games.poker_tournament_tracker.model.PlayerDTO;
+import io.games.poker_tournament_tracker.model.SeasonDetailDTO;
+import io.games.poker_tournament_tracker.model.SeasonPlayerDTO;
+import io.games.poker_tournament_tracker.model.SeatingChangeDTO;
+import io.games.poker_tournament_tracker.model.SeatingDTO;
 import io.games.poker_tournament_tracker.service.*;
 import io.games.poker_tournament_tracker.service.impl.*;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+
 @RestController
-@RequestMapping(value = "/api/poker/tournament", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(
+    value = "/api/poker/tournament",
+    produces = {MediaType.APPLICATION_JSON_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
 public class PokerTournamentResource {
 
   @Autowired private SeasonService seasonService;
 
+  @Autowired private PlayerService playerService;
+
   @Autowired private SeasonPlayerService seasonPlayerService;
 
   @Autowired private GameService gameService;
@@ -28,54 +66,278 @@ public class PokerTournamentResource {
 
   @Autowired GameResultService gameResultService;
 
+  @Autowired AllInShowdownService allInShowdownService;
+
+  @Autowired SeasonDetailService seasonDetailService;
+
+  @Autowired OutboxService outboxService;
+
+  @Autowired SeasonVersionService seasonVersionService;
+
+  @Autowired GameClockService gameClockService;
+
+  @Autowired GameClockSubscribers gameClockSubscribers;
+
+  @Autowired SeatingService seatingService;
+
+  @Autowired EliminationService eliminationService;
+
   @PostMapping("/create-season")
   public ResponseEntity<Void> createSeason(@RequestParam String seasonName) {
     seasonService.createSeason(seasonName);
     return new ResponseEntity<>(HttpStatus.CREATED);
   }
 
+  @GetMapping("/seasons/{seasonId}/detail")
+  public ResponseEntity<SeasonDetailDTO> getSeasonDetail(
+      @PathVariable Integer seasonId, WebRequest request) {
+    // the version comes with the body rather than from SeasonVersionService, so they always agree
+    final SeasonDetailService.Versioned seasonDetail = seasonDetailService.get(seasonId);
+    return conditional(request, seasonDetail.version(), seasonDetail::detail);
+  }
+
+  @GetMapping("/players")
+  public ResponseEntity<BatchResult<PlayerDTO>> getPlayers(@RequestParam List<Integer> ids) {
+    return ResponseEntity.ok(playerService.getAll(ids));
+  }
+
+  @GetMapping("/season-players")
+  public ResponseEntity<BatchResult<SeasonPlayerDTO>> getSeasonPlayers(
+      @RequestParam List<Integer> ids) {
+    return ResponseEntity.ok(seasonPlayerService.getAll(ids));
+  }
+
   @PostMapping("/create-season-player")
   public ResponseEntity<Void> createSeasonPlayers(
       @RequestParam String seasonName,
       @RequestParam String playerName,
-      @RequestParam Double minBuyIn,
-      @RequestParam Double allocatedPotSize) {
+      @RequestParam BigDecimal minBuyIn,
+      @RequestParam BigDecimal allocatedPotSize) {
     seasonPlayerService.createSeasonPlayers(seasonName, playerName, minBuyIn, allocatedPotSize);
     return new ResponseEntity<>(HttpStatus.CREATED);
   }
 
   @PostMapping("/games")
-  public ResponseEntity<Void> createGame(
-      @RequestParam String seasonName, @RequestParam int gameNumber) {
-    gameService.createGame(seasonName, gameNumber);
-    return new ResponseEntity<>(HttpStatus.CREATED);
+  public ResponseEntity<Integer> createGame(@RequestParam String seasonName) {
+    return new ResponseEntity<>(gameService.createGame(seasonName), HttpStatus.CREATED);
+  }
+
+  @GetMapping("/games")
+  public ResponseEntity<BatchResult<GameDTO>> getGames(@RequestParam List<Integer> ids) {
+    return ResponseEntity.ok(gameService.getAll(ids));
   }
 
   @PostMapping("/player-participation")
   public ResponseEntity<Void> createPlayerParticipation(
       @RequestParam String playerName,
       @RequestParam PlayerParticipation playerParticipation,
+      @RequestParam String seasonName,
       @RequestParam int gameNumber) {
     playerParticipationService.createPlayerParticipation(
-        playerName, playerParticipation, gameNumber);
+        playerName, playerParticipation, seasonName, gameNumber);
     return new ResponseEntity<>(HttpStatus.CREATED);
   }
 
   @PostMapping("/create-game-buy-in")
   public ResponseEntity<Void> createGameBuyIn(
+      @RequestParam String seasonName,
       @RequestParam int gameNumber,
       @RequestParam String playerName,
-      @RequestParam double buyInAmount) {
-    gameBuyInService.createGameBuyIn(gameNumber, playerName, buyInAmount);
+      @RequestParam BigDecimal buyInAmount,
+      @RequestParam(defaultValue = "BUY_IN") BuyInKind kind) {
+    gameBuyInService.createGameBuyIn(seasonName, gameNumber, playerName, kind, buyInAmount);
     return new ResponseEntity<>(HttpStatus.CREATED);
   }
 
+  /** A game's totals with {@code gameNumber}, otherwise the whole season's. */
+  @GetMapping("/buy-in-totals")
+  public ResponseEntity<BuyInReportDTO> getBuyInTotals(
+      @RequestParam String seasonName,
+      @RequestParam(required = false) Integer gameNumber,
+      WebRequest request) {
+    return conditional(
+        request,
+        seasonVersionService.get(seasonService.getSeasonIdByName(seasonName)),
+        () ->
+            gameNumber == null
+                ? gameBuyInService.getSeasonBuyInTotals(seasonName)
+                : gameBuyInService.getGameBuyInTotals(seasonName, gameNumber));
+  }
+
+  @GetMapping("/buy-in-totals/player")
+  public ResponseEntity<BuyInTotalsDTO> getPlayerBuyInTotals(
+      @RequestParam String seasonName,
+      @RequestParam int gameNumber,
+      @RequestParam String playerName,
+      WebRequest request) {
+    return conditional(
+        request,
+        seasonVersionService.get(seasonService.getSeasonIdByName(seasonName)),
+        () -> gameBuyInService.getBuyInTotals(seasonName, gameNumber, playerName));
+  }
+
   @PostMapping("/create-game-result")
   public ResponseEntity<Void> createGameResult(
+      @RequestParam String seasonName,
+      @RequestParam int gameNumber,
+      @RequestParam String playerName,
+      @RequestParam BigDecimal winnings) {
+    gameResultService.createGameResult(seasonName, gameNumber, playerName, winnings);
+    return new ResponseEntity<>(HttpStatus.CREATED);
+  }
+
+  @PostMapping("/create-all-in-showdown")
+  public ResponseEntity<Void> createAllInShowdown(
+      @RequestParam String seasonName,
       @RequestParam int gameNumber,
       @RequestParam String playerName,
-      @RequestParam double winnings) {
-    gameResultService.createGameResult(gameNumber, playerName, winnings);
+      @RequestParam String holeCards,
+      @RequestParam String opponentHoleCards,
+      @RequestParam(required = false) String board,
+      @RequestParam BigDecimal potAmount,
+      @RequestParam BigDecimal amountWon) {
+    allInShowdownService.createAllInShowdown(
+        seasonName,
+        gameNumber,
+        playerName,
+        holeCards,
+        opponentHoleCards,
+        board,
+        potAmount,
+        amountWon);
     return new ResponseEntity<>(HttpStatus.CREATED);
   }
+
+  @GetMapping("/luck-stats")
+  public ResponseEntity<LuckStatsDTO> getLuckStats(
+      @RequestParam String seasonName, @RequestParam String playerName, WebRequest request) {
+    return conditional(
+        request,
+        seasonVersionService.get(seasonService.getSeasonIdByName(seasonName)),
+        () -> allInShowdownService.getLuckStats(seasonName, playerName));
+  }
+
+  @PostMapping(value = "/blind-structures", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<Integer> createBlindStructure(
+      @RequestBody @Valid BlindStructureDTO blindStructureDTO) {
+    return new ResponseEntity<>(
+        gameClockService.createBlindStructure(blindStructureDTO), HttpStatus.CREATED);
+  }
+
+  @PostMapping("/game-clock/start")
+  public ResponseEntity<GameClockDTO> startGameClock(
+      @RequestParam String seasonName,
+      @RequestParam int gameNumber,
+      @RequestParam String blindStructureName) {
+    return new ResponseEntity<>(
+        gameClockService.start(seasonName, gameNumber, blindStructureName), HttpStatus.CREATED);
+  }
+
+  @PostMapping("/game-clock/pause")
+  public ResponseEntity<GameClockDTO> pauseGameClock(
+      @RequestParam String seasonName, @RequestParam int gameNumber) {
+    return ResponseEntity.ok(gameClockService.pause(seasonName, gameNumber));
+  }
+
+  @PostMapping("/game-clock/resume")
+  public ResponseEntity<GameClockDTO> resumeGameClock(
+      @RequestParam String seasonName, @RequestParam int gameNumber) {
+    return ResponseEntity.ok(gameClockService.resume(seasonName, gameNumber));
+  }
+
+  @PostMapping("/game-clock/stop")
+  public ResponseEntity<GameClockDTO> stopGameClock(
+      @RequestParam String seasonName, @RequestParam int gameNumber) {
+    return ResponseEntity.ok(gameClockService.stop(seasonName, gameNumber));
+  }
+
+  @GetMapping("/game-clock")
+  public ResponseEntity<GameClockDTO> getGameClock(
+      @RequestParam String seasonName, @RequestParam int gameNumber) {
+    return ResponseEntity.ok(gameClockService.get(seasonName, gameNumber));
+  }
+
+  /** The clock now, then every change to it, as server-sent events. */
+  @GetMapping(value = "/game-clock/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeGameClock(
+      @RequestParam String seasonName, @RequestParam int gameNumber) {
+    return gameClockSubscribers.subscribe(gameClockService.get(seasonName, gameNumber));
+  }
+
+  @PostMapping("/seating/draw")
+  public ResponseEntity<SeatingDTO> drawSeats(
+      @RequestParam String seasonName,
+      @RequestParam int gameNumber,
+      @RequestParam(defaultValue = "9") int tableSize,
+      @RequestParam(required = false) Long seed) {
+    return new ResponseEntity<>(
+        seatingService.draw(seasonName, gameNumber, tableSize, seed), HttpStatus.CREATED);
+  }
+
+  @PostMapping("/seating/eliminate")
+  public ResponseEntity<SeatingChangeDTO> eliminateSeat(
+      @RequestParam String seasonName,
+      @RequestParam int gameNumber,
+      @RequestParam String playerName) {
+    return ResponseEntity.ok(seatingService.eliminate(seasonName, gameNumber, playerName));
+  }
+
+  @GetMapping("/seating")
+  public ResponseEntity<SeatingDTO> getSeats(
+      @RequestParam String seasonName, @RequestParam int gameNumber) {
+    return ResponseEntity.ok(seatingService.get(seasonName, gameNumber));
+  }
+
+  @PostMapping("/games/bounty")
+  public ResponseEntity<Void> setBounty(
+      @RequestParam String seasonName,
+      @RequestParam int gameNumber,
+      @RequestParam BigDecimal bounty,
+      @RequestParam(defaultValue = "false") boolean progressive) {
+    eliminationService.setBounty(seasonName, gameNumber, bounty, progressive);
+    return ResponseEntity.ok().build();
+  }
+
+  @PostMapping(value = "/eliminations", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<EliminationReceiptDTO> recordEliminations(
+      @RequestParam String seasonName,
+      @RequestParam int gameNumber,
+      @RequestBody @Valid EliminationBatchDTO eliminationBatchDTO) {
+    return ResponseEntity.ok(
+        eliminationService.record(seasonName, gameNumber, eliminationBatchDTO.getEvents()));
+  }
+
+  @GetMapping("/eliminations")
+  public ResponseEntity<EliminationsDTO> getEliminations(
+      @RequestParam String seasonName, @RequestParam int gameNumber) {
+    return ResponseEntity.ok(eliminationService.get(seasonName, gameNumber));
+  }
+
+  /** JSON only: payloads are stored as JSON and passed through raw, which Smile cannot do. */
+  @GetMapping(value = "/events", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<OutboxEventDTO>> getEvents(
+      @RequestParam(defaultValue = "0") long after, @RequestParam(defaultValue = "500") int limit) {
+    return ResponseEntity.ok(outboxService.findAfter(after, limit));
+  }
+
+  /**
+   * Answers a season-scoped read with 304 when the client's ETag or Last-Modified still matches the
+   * season's data version; only otherwise is the body built. Clients may store the response but
+   * must revalidate it. JSON and Smile bodies share the ETag, so both the 200 and the 304 say they
+   * vary by {@code Accept}.
+   */
+  private <T> ResponseEntity<T> conditional(
+      WebRequest request, SeasonVersion seasonVersion, Supplier<T> body) {
+    if (request instanceof NativeWebRequest nativeRequest) {
+      final HttpServletResponse response =
+          nativeRequest.getNativeResponse(HttpServletResponse.class);
+      if (response != null) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+      }
+    }
+    if (request.checkNotModified(seasonVersion.eTag(), seasonVersion.lastModifiedMillis())) {
+      return null;
+    }
+    return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.get());
+  }
 }
@@ -0,0 +1,54 @@
+package io.games.poker_tournament_tracker.rest;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiExceptionHandler;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers a request that timed out waiting for a pooled connection with 503 and a {@code
+ * Retry-After}, whichever Spring or Hibernate exception the timeout arrived wrapped in. The error
+ * handling starter only sets status and body, so the header goes straight onto the response.
+ */
+public class PoolTimeoutExceptionHandler implements ApiExceptionHandler {
+
+  private final String retryAfterSeconds;
+
+  public PoolTimeoutExceptionHandler(Duration retryAfter) {
+    this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+  }
+
+  @Override
+  public boolean canHandle(Throwable exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      // what Hikari throws when connection-timeout passes without a free connection
+      if (cause instanceof SQLTransientConnectionException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public ApiErrorResponse handle(Throwable exception) {
+    if (RequestContextHolder.getRequestAttributes()
+        instanceof ServletRequestAttributes attributes) {
+      final HttpServletResponse response = attributes.getResponse();
+      if (response != null) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+      }
+    }
+    return new ApiErrorResponse(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        "CONNECTION_POOL_EXHAUSTED",
+        "No database connection became free in time; retry shortly");
+  }
+}
@@ -0,0 +1,254 @@
+package io.games.poker_tournament_tracker.seating;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Who sits where across a game's tables. The draw spreads players at random so no two tables differ
+ * by more than one player; after that, each elimination is followed by the fewest moves that keep
+ * it so. A table is broken as soon as the players left fit in one table fewer, the smallest going
+ * first, and its players are sent one at a time to the shortest table. Otherwise at most one player
+ * moves, from the longest table to the shortest. Tables and seats are numbered from 1.
+ *
+ * <p>Only the draw is random, and it is reproducible from its seed; rebalancing picks the same
+ * moves for the same chart every time. Finding the longest and shortest tables is a scan of the
+ * tables, about a hundred for a thousand entrants, so a decision takes microseconds.
+ */
+public class SeatingChart {
+
+  private final int tableSize;
+  private final List<Table> tables = new ArrayList<>();
+  private final Map<Integer, Table> tableByPlayer = new HashMap<>();
+
+  private SeatingChart(int tableSize) {
+    if (tableSize < 2) {
+      throw new IllegalArgumentException("A table needs at least two seats: " + tableSize);
+    }
+    this.tableSize = tableSize;
+  }
+
+  /**
+   * Seats players at random over as few tables as hold them.
+   *
+   * @param players the IDs of the players to seat
+   * @param tableSize seats per table
+   * @param seed the seed of the draw; the same players and seed give the same chart
+   * @return the chart
+   */
+  public static SeatingChart draw(List<Integer> players, int tableSize, long seed) {
+    final SeatingChart chart = new SeatingChart(tableSize);
+    final SplittableRandom random = new SplittableRandom(seed);
+    final int[] order = players.stream().mapToInt(Integer::intValue).toArray();
+    shuffle(order, random);
+    final int tableCount = Math.max(1, (order.length + tableSize - 1) / tableSize);
+    for (int number = 1; number <= tableCount; number++) {
+      chart.tables.add(new Table(number, tableSize));
+    }
+    // deal players round the tables, then scatter each table's players over its seats
+    final int[] seats = new int[tableSize];
+    for (final Table table : chart.tables) {
+      for (int seat = 0; seat < tableSize; seat++) {
+        seats[seat] = seat + 1;
+      }
+      shuffle(seats, random);
+      int next = 0;
+      for (int i = table.number - 1; i < order.length; i += tableCount) {
+        chart.sit(order[i], table, seats[next++]);
+      }
+    }
+    return chart;
+  }
+
+  /**
+   * Rebuilds a chart from its seats, as stored.
+   *
+   * @param seats every occupied seat
+   * @param tableSize seats per table
+   * @return the chart
+   */
+  public static SeatingChart of(Collection<Seat> seats, int tableSize) {
+    final SeatingChart chart = new SeatingChart(tableSize);
+    final Map<Integer, Table> tablesByNumber = new HashMap<>();
+    for (final Seat seat : seats) {
+      final Table table =
+          tablesByNumber.computeIfAbsent(seat.table(), number -> new Table(number, tableSize));
+      chart.sit(seat.player(), table, seat.seat());
+    }
+    chart.tables.addAll(tablesByNumber.values());
+    chart.tables.sort((a, b) -> Integer.compare(a.number, b.number));
+    return chart;
+  }
+
+  /**
+   * Takes a player out and rebalances.
+   *
+   * @param player the ID of the eliminated player
+   * @return the moves to make, in order
+   */
+  public List<Move> eliminate(int player) {
+    final Table table = tableByPlayer.remove(player);
+    if (table == null) {
+      throw new IllegalArgumentException("Player is not seated: " + player);
+    }
+    table.stand(player);
+    return rebalance();
+  }
+
+  /** The seat of a player, or null if the player isn't seated. */
+  public Seat seatOf(int player) {
+    final Table table = tableByPlayer.get(player);
+    return table == null ? null : new Seat(player, table.number, table.seatOf(player));
+  }
+
+  /** Every occupied seat, by table and seat. */
+  public List<Seat> seats() {
+    final List<Seat> seats = new ArrayList<>(tableByPlayer.size());
+    for (final Table table : tables) {
+      for (int seat = 1; seat <= tableSize; seat++) {
+        final int player = table.players[seat - 1];
+        if (player != Table.EMPTY) {
+          seats.add(new Seat(player, table.number, seat));
+        }
+      }
+    }
+    return seats;
+  }
+
+  public int getTableCount() {
+    return tables.size();
+  }
+
+  public int getPlayerCount() {
+    return tableByPlayer.size();
+  }
+
+  private List<Move> rebalance() {
+    final List<Move> moves = new ArrayList<>();
+    if (tables.size() > 1 && tableByPlayer.size() <= (tables.size() - 1) * tableSize) {
+      final Table broken = shortest(null);
+      tables.remove(broken);
+      for (int seat = 1; seat <= tableSize; seat++) {
+        final int player = broken.players[seat - 1];
+        if (player != Table.EMPTY) {
+          moves.add(move(player, broken, seat, shortest(null)));
+        }
+      }
+    }
+    while (true) {
+      final Table longest = longest();
+      final Table shortest = shortest(longest);
+      if (shortest == null || longest.count - shortest.count <= 1) {
+        return moves;
+      }
+      final int seat = longest.firstOccupiedSeat();
+      moves.add(move(longest.players[seat - 1], longest, seat, shortest));
+    }
+  }
+
+  private Move move(int player, Table from, int fromSeat, Table to) {
+    from.stand(player);
+    tableByPlayer.remove(player);
+    final int toSeat = to.firstEmptySeat();
+    sit(player, to, toSeat);
+    return new Move(
+        player, new Seat(player, from.number, fromSeat), new Seat(player, to.number, toSeat));
+  }
+
+  private void sit(int player, Table table, int seat) {
+    if (player == Table.EMPTY || tableByPlayer.containsKey(player)) {
+      throw new IllegalArgumentException("Cannot seat player " + player);
+    }
+    table.sit(player, seat);
+    tableByPlayer.put(player, table);
+  }
+
+  /** The table with most players, the lowest numbered of equals. */
+  private Table longest() {
+    Table longest = null;
+    for (final Table table : tables) {
+      if (longest == null || table.count > longest.count) {
+        longest = table;
+      }
+    }
+    return longest;
+  }
+
+  /** The table with fewest players, the highest numbered of equals, other than {@code except}. */
+  private Table shortest(Table except) {
+    Table shortest = null;
+    for (final Table table : tables) {
+      if (table != except && (shortest == null || table.count <= shortest.count)) {
+        shortest = table;
+      }
+    }
+    return shortest;
+  }
+
+  private static void shuffle(int[] values, SplittableRandom random) {
+    for (int i = values.length - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final int value = values[i];
+      values[i] = values[j];
+      values[j] = value;
+    }
+  }
+
+  /** A player in a seat. */
+  public record Seat(int player, int table, int seat) {}
+
+  /** A player changing seats. */
+  public record Move(int player, Seat from, Seat to) {}
+
+  private static final class Table {
+
+    static final int EMPTY = 0;
+
+    final int number;
+    final int[] players;
+    int count;
+
+    Table(int number, int tableSize) {
+      this.number = number;
+      this.players = new int[tableSize];
+    }
+
+    void sit(int player, int seat) {
+      if (players[seat - 1] != EMPTY) {
+        throw new IllegalArgumentException("Seat " + seat + " of table " + number + " is taken");
+      }
+      players[seat - 1] = player;
+      count++;
+    }
+
+    void stand(int player) {
+      players[seatOf(player) - 1] = EMPTY;
+      count--;
+    }
+
+    int seatOf(int player) {
+      for (int i = 0; i < players.length; i++) {
+        if (players[i] == player) {
+          return i + 1;
+        }
+      }
+      throw new IllegalStateException("Player " + player + " is not at table " + number);
+    }
+
+    int firstEmptySeat() {
+      return seatOf(EMPTY);
+    }
+
+    int firstOccupiedSeat() {
+      for (int i = 0; i < players.length; i++) {
+        if (players[i] != EMPTY) {
+          return i + 1;
+        }
+      }
+      throw new IllegalStateException("Table " + number + " is empty");
+    }
+  }
+}
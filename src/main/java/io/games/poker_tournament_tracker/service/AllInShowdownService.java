@@ -0,0 +1,297 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.games.poker_tournament_tracker.domain.AllInShowdown;
+import io.games.poker_tournament_tracker.domain.Money;
+import io.games.poker_tournament_tracker.equity.Cards;
+import io.games.poker_tournament_tracker.equity.EquityCalculator;
+import io.games.poker_tournament_tracker.equity.EquityResult;
+import io.games.poker_tournament_tracker.model.AllInShowdownDTO;
+import io.games.poker_tournament_tracker.model.LuckStatsDTO;
+import io.games.poker_tournament_tracker.repos.AllInShowdownRepository;
+import io.games.poker_tournament_tracker.repos.GameBuyInRepository;
+import io.games.poker_tournament_tracker.repos.GameRepository;
+import io.games.poker_tournament_tracker.repos.GameResultRepository;
+import io.games.poker_tournament_tracker.repos.SeasonPlayerRepository;
+import io.games.poker_tournament_tracker.util.NotFoundException;
+import io.games.poker_tournament_tracker.util.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/** Service class for managing All-In Showdowns and the luck stats derived from them. */
+@Service
+@Slf4j
+public class AllInShowdownService {
+
+  private static final NotFoundException ALL_IN_SHOWDOWN_NOT_FOUND =
+      new NotFoundException("All-in showdown not found");
+  private static final NotFoundException GAME_NOT_FOUND = new NotFoundException("Game not found");
+  private static final NotFoundException SEASON_PLAYER_NOT_FOUND =
+      new NotFoundException("Season player not found");
+
+  private final AllInShowdownRepository allInShowdownRepository;
+  private final GameRepository gameRepository;
+  private final SeasonPlayerRepository seasonPlayerRepository;
+  private final GameBuyInRepository gameBuyInRepository;
+  private final GameResultRepository gameResultRepository;
+  private final GameService gameService;
+  private final SeasonService seasonService;
+  private final SeasonPlayerService seasonPlayerService;
+  private final EquityCalculator equityCalculator;
+  private final SeasonVersionService seasonVersionService;
+  private final TransactionTemplate transaction;
+
+  @Autowired
+  public AllInShowdownService(
+      AllInShowdownRepository allInShowdownRepository,
+      GameRepository gameRepository,
+      SeasonPlayerRepository seasonPlayerRepository,
+      GameBuyInRepository gameBuyInRepository,
+      GameResultRepository gameResultRepository,
+      GameService gameService,
+      SeasonService seasonService,
+      SeasonPlayerService seasonPlayerService,
+      EquityCalculator equityCalculator,
+      SeasonVersionService seasonVersionService,
+      PlatformTransactionManager transactionManager) {
+    this.allInShowdownRepository = allInShowdownRepository;
+    this.gameRepository = gameRepository;
+    this.seasonPlayerRepository = seasonPlayerRepository;
+    this.gameBuyInRepository = gameBuyInRepository;
+    this.gameResultRepository = gameResultRepository;
+    this.gameService = gameService;
+    this.seasonService = seasonService;
+    this.seasonPlayerService = seasonPlayerService;
+    this.equityCalculator = equityCalculator;
+    this.seasonVersionService = seasonVersionService;
+    this.transaction = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Retrieves all AllInShowdownDTOs.
+   *
+   * @return a list of AllInShowdownDTOs
+   */
+  public List<AllInShowdownDTO> findAll() {
+    log.info("Retrieving all all-in showdowns");
+    List<AllInShowdown> allInShowdowns =
+        allInShowdownRepository.findAll(Sort.by("allInShowdownId"));
+    return allInShowdowns.stream().map(this::mapToDTO).toList();
+  }
+
+  /**
+   * Retrieves an AllInShowdownDTO by its ID.
+   *
+   * @param allInShowdownId the ID of the all-in showdown
+   * @return the AllInShowdownDTO
+   */
+  public AllInShowdownDTO get(final Integer allInShowdownId) {
+    log.info("Retrieving all-in showdown with id: {}", allInShowdownId);
+    return allInShowdownRepository
+        .findById(allInShowdownId)
+        .map(this::mapToDTO)
+        .orElseThrow(() -> ALL_IN_SHOWDOWN_NOT_FOUND);
+  }
+
+  /**
+   * Creates a new AllInShowdown. The equity and expected winnings are always calculated from the
+   * cards, whatever the DTO carries. A preflop equity enumerates every board, so it is worked out
+   * before the transaction opens rather than while holding a connection.
+   *
+   * @param allInShowdownDTO the DTO of the all-in showdown to create
+   * @return the ID of the created all-in showdown
+   */
+  public Integer create(final AllInShowdownDTO allInShowdownDTO) {
+    log.info("Creating new all-in showdown");
+    final BigDecimal equity = equityOf(allInShowdownDTO);
+    return transaction.execute(
+        status -> {
+          AllInShowdown allInShowdown = new AllInShowdown();
+          mapToEntity(allInShowdownDTO, equity, allInShowdown);
+          Integer allInShowdownId =
+              allInShowdownRepository.save(allInShowdown).getAllInShowdownId();
+          touchSeason(allInShowdown);
+          return allInShowdownId;
+        });
+  }
+
+  /**
+   * Deletes an AllInShowdown by its ID.
+   *
+   * @param allInShowdownId the ID of the all-in showdown to delete
+   */
+  @Transactional
+  public void delete(final Integer allInShowdownId) {
+    log.info("Deleting all-in showdown with id: {}", allInShowdownId);
+    allInShowdownRepository
+        .findById(allInShowdownId)
+        .ifPresent(
+            allInShowdown -> {
+              touchSeason(allInShowdown);
+              allInShowdownRepository.delete(allInShowdown);
+            });
+  }
+
+  private void touchSeason(final AllInShowdown allInShowdown) {
+    if (allInShowdown.getGame() != null) {
+      seasonVersionService.touch(allInShowdown.getGame().getSeason().getSeasonId());
+    }
+  }
+
+  /**
+   * Records an all-in showdown for a player in a game.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @param playerName the name of the player
+   * @param holeCards the player's hole cards, e.g. {@code AsKd}
+   * @param opponentHoleCards the hole cards of every opponent, comma separated
+   * @param board the board when the money went in, may be empty
+   * @param potAmount the pot the player was contesting
+   * @param amountWon what the player actually won from that pot
+   */
+  public void createAllInShowdown(
+      String seasonName,
+      int gameNumber,
+      String playerName,
+      String holeCards,
+      String opponentHoleCards,
+      String board,
+      BigDecimal potAmount,
+      BigDecimal amountWon) {
+    log.info(
+        "Creating all-in showdown for game number: {}, player name: {}", gameNumber, playerName);
+    AllInShowdownDTO allInShowdownDTO = new AllInShowdownDTO();
+    int seasonId = seasonService.getSeasonIdByName(seasonName);
+    allInShowdownDTO.setGame(gameService.getGameId(seasonId, gameNumber));
+    allInShowdownDTO.setSeasonPlayer(
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(playerName, seasonId));
+    allInShowdownDTO.setHoleCards(holeCards);
+    allInShowdownDTO.setOpponentHoleCards(opponentHoleCards);
+    allInShowdownDTO.setBoard(board);
+    allInShowdownDTO.setPotAmount(potAmount);
+    allInShowdownDTO.setAmountWon(amountWon);
+    create(allInShowdownDTO);
+  }
+
+  /**
+   * Retrieves a player's season net alongside the same net with all-in luck removed. Luck is what
+   * the player won in each all-in pot minus their equity share of it.
+   *
+   * @param seasonName the name of the season
+   * @param playerName the name of the player
+   * @return the luck stats
+   */
+  public LuckStatsDTO getLuckStats(String seasonName, String playerName) {
+    log.info("Retrieving luck stats for season: {}, player: {}", seasonName, playerName);
+    Integer seasonPlayerId =
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(
+            playerName, seasonService.getSeasonIdByName(seasonName));
+    Money net =
+        Money.of(gameResultRepository.sumWinningsBySeasonPlayerId(seasonPlayerId))
+            .minus(Money.of(gameBuyInRepository.sumBuyInAmountBySeasonPlayerId(seasonPlayerId)));
+    Money luck =
+        Money.of(allInShowdownRepository.sumAmountWonBySeasonPlayerId(seasonPlayerId))
+            .minus(
+                Money.of(
+                    allInShowdownRepository.sumExpectedWinningsBySeasonPlayerId(seasonPlayerId)));
+    return new LuckStatsDTO(
+        seasonPlayerId, net.toBigDecimal(), luck.toBigDecimal(), net.minus(luck).toBigDecimal());
+  }
+
+  /**
+   * Maps an AllInShowdown entity to an AllInShowdownDTO.
+   *
+   * @param allInShowdown the AllInShowdown entity
+   * @return the mapped AllInShowdownDTO
+   */
+  private AllInShowdownDTO mapToDTO(final AllInShowdown allInShowdown) {
+    AllInShowdownDTO allInShowdownDTO = new AllInShowdownDTO();
+    allInShowdownDTO.setAllInShowdownId(allInShowdown.getAllInShowdownId());
+    allInShowdownDTO.setHoleCards(allInShowdown.getHoleCards());
+    allInShowdownDTO.setOpponentHoleCards(allInShowdown.getOpponentHoleCards());
+    allInShowdownDTO.setBoard(allInShowdown.getBoard());
+    allInShowdownDTO.setPotAmount(
+        allInShowdown.getPotAmount() == null ? null : allInShowdown.getPotAmount().toBigDecimal());
+    allInShowdownDTO.setAmountWon(
+        allInShowdown.getAmountWon() == null ? null : allInShowdown.getAmountWon().toBigDecimal());
+    allInShowdownDTO.setEquity(allInShowdown.getEquity());
+    allInShowdownDTO.setExpectedWinnings(
+        allInShowdown.getExpectedWinnings() == null
+            ? null
+            : allInShowdown.getExpectedWinnings().toBigDecimal());
+    allInShowdownDTO.setGame(
+        allInShowdown.getGame() == null ? null : allInShowdown.getGame().getGameId());
+    allInShowdownDTO.setSeasonPlayer(
+        allInShowdown.getSeasonPlayer() == null
+            ? null
+            : allInShowdown.getSeasonPlayer().getSeasonPlayerId());
+    return allInShowdownDTO;
+  }
+
+  /**
+   * Calculates the equity of the DTO's hole cards against the opponents.
+   *
+   * @param allInShowdownDTO the AllInShowdownDTO
+   * @return the equity, to six decimal places
+   */
+  private BigDecimal equityOf(final AllInShowdownDTO allInShowdownDTO) {
+    final EquityResult equityResult;
+    try {
+      final int[][] hands =
+          Arrays.stream(
+                  (allInShowdownDTO.getHoleCards() + "," + allInShowdownDTO.getOpponentHoleCards())
+                      .split(","))
+              .map(Cards::parse)
+              .toArray(int[][]::new);
+      equityResult = equityCalculator.calculate(hands, Cards.parse(allInShowdownDTO.getBoard()));
+    } catch (IllegalArgumentException e) {
+      throw new ValidationException(e.getMessage());
+    }
+    return BigDecimal.valueOf(equityResult.getEquity(0)).setScale(6, RoundingMode.HALF_EVEN);
+  }
+
+  /**
+   * Maps an AllInShowdownDTO to an AllInShowdown entity.
+   *
+   * @param allInShowdownDTO the AllInShowdownDTO
+   * @param equity the equity of the hole cards against the opponents
+   * @param allInShowdown the AllInShowdown entity
+   */
+  private void mapToEntity(
+      final AllInShowdownDTO allInShowdownDTO,
+      final BigDecimal equity,
+      final AllInShowdown allInShowdown) {
+    allInShowdown.setHoleCards(allInShowdownDTO.getHoleCards());
+    allInShowdown.setOpponentHoleCards(allInShowdownDTO.getOpponentHoleCards());
+    allInShowdown.setBoard(allInShowdownDTO.getBoard());
+    allInShowdown.setPotAmount(Money.of(allInShowdownDTO.getPotAmount()));
+    allInShowdown.setAmountWon(Money.of(allInShowdownDTO.getAmountWon()));
+    allInShowdown.setEquity(equity);
+    allInShowdown.setExpectedWinnings(
+        Money.ofRounded(allInShowdownDTO.getPotAmount().multiply(equity)));
+    allInShowdown.setGame(
+        allInShowdownDTO.getGame() == null
+            ? null
+            : gameRepository
+                .findById(allInShowdownDTO.getGame())
+                .orElseThrow(() -> GAME_NOT_FOUND));
+    allInShowdown.setSeasonPlayer(
+        allInShowdownDTO.getSeasonPlayer() == null
+            ? null
+            : seasonPlayerRepository
+                .findById(allInShowdownDTO.getSeasonPlayer())
+                .orElseThrow(() -> SEASON_PLAYER_NOT_FOUND));
+  }
+}
@@ -0,0 +1,64 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.games.poker_tournament_tracker.model.BatchResult;
+import io.games.poker_tournament_tracker.util.ValidationException;
+
+/**
+ * Loads entities for a multi-get with one {@code IN} query per chunk of IDs, instead of one {@code
+ * findById} per row.
+ */
+final class BatchFetcher {
+
+  /** Keeps each {@code IN} list well below driver bind limits and padded plan-cache sizes. */
+  static final int CHUNK_SIZE = 500;
+
+  static final int MAX_IDS = 1000;
+
+  private BatchFetcher() {}
+
+  /**
+   * Fetches the given IDs and maps them in request order. Duplicate and null IDs are dropped.
+   *
+   * @param ids the requested IDs
+   * @param loader loads one chunk of IDs, typically {@code repository::findAllById}
+   * @param idOf extracts the ID of a loaded entity
+   * @param mapper maps a loaded entity to its DTO
+   * @return the found DTOs and the IDs that matched nothing
+   */
+  static <E, D> BatchResult<D> fetch(
+      final List<Integer> ids,
+      final Function<List<Integer>, List<E>> loader,
+      final Function<E, Integer> idOf,
+      final Function<E, D> mapper) {
+    if (ids.size() > MAX_IDS) {
+      throw new ValidationException("At most " + MAX_IDS + " ids may be requested at once");
+    }
+    final List<Integer> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+    final Map<Integer, E> found = new HashMap<>(distinctIds.size() * 4 / 3 + 1);
+    for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+      final List<Integer> chunk =
+          distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+      for (final E entity : loader.apply(chunk)) {
+        found.put(idOf.apply(entity), entity);
+      }
+    }
+    final List<D> items = new ArrayList<>(found.size());
+    final List<Integer> missingIds = new ArrayList<>();
+    for (final Integer id : distinctIds) {
+      final E entity = found.get(id);
+      if (entity == null) {
+        missingIds.add(id);
+      } else {
+        items.add(mapper.apply(entity));
+      }
+    }
+    return new BatchResult<>(items, missingIds);
+  }
+}
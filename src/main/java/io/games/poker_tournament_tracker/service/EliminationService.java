@@ -0,0 +1,449 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.games.poker_tournament_tracker.domain.Elimination;
+import io.games.poker_tournament_tracker.domain.Game;
+import io.games.poker_tournament_tracker.domain.Money;
+import io.games.poker_tournament_tracker.domain.SeasonPlayer;
+import io.games.poker_tournament_tracker.model.BountyDTO;
+import io.games.poker_tournament_tracker.model.EliminationDTO;
+import io.games.poker_tournament_tracker.model.EliminationEventDTO;
+import io.games.poker_tournament_tracker.model.EliminationReceiptDTO;
+import io.games.poker_tournament_tracker.model.EliminationsDTO;
+import io.games.poker_tournament_tracker.repos.EliminationRepository;
+import io.games.poker_tournament_tracker.repos.GameRepository;
+import io.games.poker_tournament_tracker.repos.PlayerParticipationRepository;
+import io.games.poker_tournament_tracker.repos.SeasonPlayerRepository;
+import io.games.poker_tournament_tracker.util.ConflictException;
+import io.games.poker_tournament_tracker.util.NotFoundException;
+import io.games.poker_tournament_tracker.util.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class for eliminations and bounties. Events for a game are taken in batches under the
+ * game row's lock, so batches for one game are handled one at a time while other games go on in
+ * parallel. Each event carries its sequence in the game, and events are stored as received but
+ * applied strictly in that order: an event is only given its finishing position and bounty once all
+ * the events before it are in, so a burst that arrives out of order comes out the same. The
+ * eliminations applied by a batch are written to the outbox as one {@code Elimination} event, and
+ * players who were seated leave their seats in the same transaction.
+ */
+@Service
+@Slf4j
+public class EliminationService {
+
+  private static final NotFoundException GAME_NOT_FOUND = new NotFoundException("Game not found");
+  private static final NotFoundException SEASON_PLAYER_NOT_FOUND =
+      new NotFoundException("Season player not found");
+
+  private final EliminationRepository eliminationRepository;
+  private final GameRepository gameRepository;
+  private final PlayerParticipationRepository playerParticipationRepository;
+  private final SeasonPlayerRepository seasonPlayerRepository;
+  private final SeasonService seasonService;
+  private final GameService gameService;
+  private final SeatingService seatingService;
+  private final OutboxService outboxService;
+
+  @Autowired
+  public EliminationService(
+      EliminationRepository eliminationRepository,
+      GameRepository gameRepository,
+      PlayerParticipationRepository playerParticipationRepository,
+      SeasonPlayerRepository seasonPlayerRepository,
+      SeasonService seasonService,
+      GameService gameService,
+      SeatingService seatingService,
+      OutboxService outboxService) {
+    this.eliminationRepository = eliminationRepository;
+    this.gameRepository = gameRepository;
+    this.playerParticipationRepository = playerParticipationRepository;
+    this.seasonPlayerRepository = seasonPlayerRepository;
+    this.seasonService = seasonService;
+    this.gameService = gameService;
+    this.seatingService = seatingService;
+    this.outboxService = outboxService;
+  }
+
+  /**
+   * Puts a bounty on every player's head in a game. It can be changed until the first elimination
+   * is applied.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @param bounty the bounty per player
+   * @param progressive whether half of each bounty collected goes on the eliminator's head
+   */
+  @Transactional
+  public void setBounty(String seasonName, int gameNumber, BigDecimal bounty, boolean progressive) {
+    final Game game = lockGame(seasonName, gameNumber);
+    if (lastApplied(game) > 0) {
+      throw new ConflictException("Eliminations already applied for game number: " + gameNumber);
+    }
+    final Money amount = Money.of(bounty);
+    if (amount.getCents() <= 0) {
+      throw new ValidationException("Bounty must be positive");
+    }
+    log.info(
+        "Setting {} bounty of {} for season: {}, game number: {}",
+        progressive ? "progressive" : "fixed",
+        bounty,
+        seasonName,
+        gameNumber);
+    game.setBounty(amount);
+    game.setProgressiveBounty(progressive);
+  }
+
+  /**
+   * Records a batch of elimination events and applies every event whose predecessors are all in.
+   * Events already recorded under the same sequence are skipped, so a batch can be resent.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @param events the events, in any order
+   * @return what came of the batch
+   */
+  @Transactional
+  public EliminationReceiptDTO record(
+      String seasonName, int gameNumber, List<EliminationEventDTO> events) {
+    final Game game = lockGame(seasonName, gameNumber);
+    final Integer gameId = game.getGameId();
+    final Set<Integer> participants =
+        new HashSet<>(playerParticipationRepository.findParticipantIdsByGameId(gameId));
+    final Map<String, SeasonPlayer> seasonPlayerByName = new HashMap<>();
+    for (final SeasonPlayer seasonPlayer :
+        seasonPlayerRepository.findAllBySeasonIdWithPlayer(game.getSeason().getSeasonId())) {
+      seasonPlayerByName.put(seasonPlayer.getPlayer().getName(), seasonPlayer);
+    }
+    final Map<Integer, Elimination> bySequence = new HashMap<>();
+    final Map<Integer, Integer> sequenceByEliminated = new HashMap<>();
+    final Map<Integer, Integer> lastKnockoutByEliminator = new HashMap<>();
+    for (final Elimination elimination : eliminationRepository.findAllByGameId(gameId)) {
+      index(elimination, bySequence, sequenceByEliminated, lastKnockoutByEliminator);
+    }
+
+    final List<EliminationEventDTO> sorted = new ArrayList<>(events);
+    sorted.sort(Comparator.comparing(EliminationEventDTO::getSequence));
+    final OffsetDateTime now = OffsetDateTime.now();
+    final List<Elimination> recorded = new ArrayList<>(sorted.size());
+    int duplicates = 0;
+    for (final EliminationEventDTO event : sorted) {
+      final int sequence = event.getSequence();
+      final SeasonPlayer eliminated =
+          participant(event.getPlayerName(), seasonPlayerByName, participants, gameNumber);
+      final SeasonPlayer eliminator =
+          event.getEliminatorName() == null
+              ? null
+              : participant(
+                  event.getEliminatorName(), seasonPlayerByName, participants, gameNumber);
+      final Elimination existing = bySequence.get(sequence);
+      if (existing != null) {
+        if (!existing.getEliminated().getSeasonPlayerId().equals(eliminated.getSeasonPlayerId())) {
+          throw new ConflictException(
+              "Elimination " + sequence + " of game number " + gameNumber + " is already recorded");
+        }
+        duplicates++;
+        continue;
+      }
+      checkOrder(
+          sequence,
+          eliminated,
+          eliminator,
+          participants.size(),
+          sequenceByEliminated,
+          lastKnockoutByEliminator);
+      final Elimination elimination = new Elimination();
+      elimination.setGame(game);
+      elimination.setEventSequence(sequence);
+      elimination.setEliminated(eliminated);
+      elimination.setEliminator(eliminator);
+      elimination.setEliminatedAt(event.getEliminatedAt() == null ? now : event.getEliminatedAt());
+      elimination.setCreatedAt(now);
+      index(elimination, bySequence, sequenceByEliminated, lastKnockoutByEliminator);
+      recorded.add(elimination);
+    }
+
+    // apply before saving, so new events are inserted once with their outcome
+    final List<Elimination> applied = apply(game, bySequence, participants.size());
+    eliminationRepository.saveAll(recorded);
+    if (!applied.isEmpty()) {
+      final List<EliminationDTO> appliedDTOs = applied.stream().map(this::mapToDTO).toList();
+      outboxService.append(
+          "EliminationsApplied",
+          "Elimination",
+          gameId,
+          game.getSeason().getSeasonId(),
+          appliedDTOs);
+      seatingService.unseat(
+          game, applied.stream().map(e -> e.getEliminated().getSeasonPlayerId()).toList());
+    }
+    final int lastApplied = lastApplied(game);
+    log.info(
+        "Game {}: {} elimination events, {} recorded, {} applied, up to {}",
+        gameId,
+        events.size(),
+        recorded.size(),
+        applied.size(),
+        lastApplied);
+    return new EliminationReceiptDTO(
+        gameId,
+        events.size(),
+        duplicates,
+        applied.size(),
+        lastApplied,
+        bySequence.size() - lastApplied);
+  }
+
+  /**
+   * Retrieves a game's applied eliminations, with the bounties each player won.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @return the EliminationsDTO
+   */
+  @Transactional(readOnly = true)
+  public EliminationsDTO get(String seasonName, int gameNumber) {
+    log.debug("Retrieving eliminations for season: {}, game number: {}", seasonName, gameNumber);
+    final int gameId =
+        gameService.getGameId(seasonService.getSeasonIdByName(seasonName), gameNumber);
+    final Game game = gameRepository.findById(gameId).orElseThrow(() -> GAME_NOT_FOUND);
+    final List<Integer> participants =
+        playerParticipationRepository.findParticipantIdsByGameId(gameId);
+    final List<Elimination> eliminations = eliminationRepository.findAllByGameId(gameId);
+    final int lastApplied = lastApplied(game);
+
+    final Set<Integer> remaining = new HashSet<>(participants);
+    final Map<Integer, long[]> bountyByPlayer = new LinkedHashMap<>();
+    final Map<Integer, String> names = new HashMap<>();
+    final Map<Integer, Long> addedCents = new HashMap<>();
+    final List<EliminationDTO> eliminationDTOs = new ArrayList<>(lastApplied);
+    for (final Elimination elimination : eliminations.subList(0, lastApplied)) {
+      remaining.remove(elimination.getEliminated().getSeasonPlayerId());
+      eliminationDTOs.add(mapToDTO(elimination));
+      final SeasonPlayer eliminator = elimination.getEliminator();
+      if (eliminator == null) {
+        continue;
+      }
+      names.put(eliminator.getSeasonPlayerId(), eliminator.getPlayer().getName());
+      final long[] bounty =
+          bountyByPlayer.computeIfAbsent(eliminator.getSeasonPlayerId(), key -> new long[2]);
+      bounty[0]++;
+      if (elimination.getBountyPaid() != null) {
+        bounty[1] += elimination.getBountyPaid().getCents();
+      }
+      if (elimination.getBountyAdded() != null) {
+        addedCents.merge(
+            eliminator.getSeasonPlayerId(), elimination.getBountyAdded().getCents(), Long::sum);
+      }
+    }
+
+    String winner = null;
+    if (remaining.size() == 1 && participants.size() > 1) {
+      final Integer winnerId = remaining.iterator().next();
+      winner =
+          seasonPlayerRepository
+              .findById(winnerId)
+              .orElseThrow(() -> SEASON_PLAYER_NOT_FOUND)
+              .getPlayer()
+              .getName();
+      names.put(winnerId, winner);
+      if (Boolean.TRUE.equals(game.getProgressiveBounty()) && game.getBounty() != null) {
+        // the winner keeps their own head, with everything added to it
+        bountyByPlayer.computeIfAbsent(winnerId, key -> new long[2])[1] +=
+            game.getBounty().getCents() + addedCents.getOrDefault(winnerId, 0L);
+      }
+    }
+    final List<BountyDTO> bounties = new ArrayList<>(bountyByPlayer.size());
+    bountyByPlayer.forEach(
+        (seasonPlayerId, bounty) ->
+            bounties.add(
+                new BountyDTO(
+                    seasonPlayerId,
+                    names.get(seasonPlayerId),
+                    (int) bounty[0],
+                    game.getBounty() == null ? null : Money.ofCents(bounty[1]).toBigDecimal())));
+    bounties.sort(
+        Comparator.comparing(
+                BountyDTO::won, Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()))
+            .thenComparing(BountyDTO::knockouts, Comparator.reverseOrder())
+            .thenComparing(BountyDTO::playerName));
+
+    return new EliminationsDTO(
+        gameId,
+        participants.size(),
+        remaining.size(),
+        game.getBounty() == null ? null : game.getBounty().toBigDecimal(),
+        Boolean.TRUE.equals(game.getProgressiveBounty()),
+        winner,
+        eliminations.size() - lastApplied,
+        eliminationDTOs,
+        bounties);
+  }
+
+  /**
+   * Applies the events that follow the last applied one without a gap, giving each its finishing
+   * position and bounty.
+   *
+   * @return the events applied, in sequence order
+   */
+  private List<Elimination> apply(
+      final Game game, final Map<Integer, Elimination> bySequence, final int entrants) {
+    int lastApplied = lastApplied(game);
+    // what earlier knockouts added to each player's head, for a progressive bounty
+    final Map<Integer, Long> addedCents = new HashMap<>();
+    for (int sequence = 1; sequence <= lastApplied; sequence++) {
+      final Elimination elimination = bySequence.get(sequence);
+      if (elimination.getBountyAdded() != null) {
+        addedCents.merge(
+            elimination.getEliminator().getSeasonPlayerId(),
+            elimination.getBountyAdded().getCents(),
+            Long::sum);
+      }
+    }
+    final List<Elimination> applied = new ArrayList<>();
+    Elimination elimination;
+    while ((elimination = bySequence.get(lastApplied + 1)) != null) {
+      elimination.setFinishingPosition(entrants - lastApplied);
+      payBounty(game, elimination, addedCents);
+      applied.add(elimination);
+      lastApplied++;
+    }
+    game.setLastEliminationSequence(lastApplied);
+    return applied;
+  }
+
+  private void payBounty(
+      final Game game, final Elimination elimination, final Map<Integer, Long> addedCents) {
+    if (game.getBounty() == null || elimination.getEliminator() == null) {
+      return;
+    }
+    if (!Boolean.TRUE.equals(game.getProgressiveBounty())) {
+      elimination.setBountyPaid(game.getBounty());
+      return;
+    }
+    final long headCents =
+        game.getBounty().getCents()
+            + addedCents.getOrDefault(elimination.getEliminated().getSeasonPlayerId(), 0L);
+    final long paidCents = headCents / 2;
+    elimination.setBountyPaid(Money.ofCents(paidCents));
+    elimination.setBountyAdded(Money.ofCents(headCents - paidCents));
+    addedCents.merge(
+        elimination.getEliminator().getSeasonPlayerId(), headCents - paidCents, Long::sum);
+  }
+
+  /**
+   * Rejects an event that contradicts the events recorded so far: a player can go out once, can't
+   * be knocked out by a player already out, and can't knock anyone out after going out.
+   */
+  private static void checkOrder(
+      final int sequence,
+      final SeasonPlayer eliminated,
+      final SeasonPlayer eliminator,
+      final int entrants,
+      final Map<Integer, Integer> sequenceByEliminated,
+      final Map<Integer, Integer> lastKnockoutByEliminator) {
+    final String name = eliminated.getPlayer().getName();
+    if (sequence >= entrants) {
+      throw new ValidationException(
+          "Elimination " + sequence + " is past the last of " + entrants + " entrants");
+    }
+    final Integer out = sequenceByEliminated.get(eliminated.getSeasonPlayerId());
+    if (out != null) {
+      throw new ConflictException(name + " is already eliminated, in elimination " + out);
+    }
+    final Integer lastKnockout = lastKnockoutByEliminator.get(eliminated.getSeasonPlayerId());
+    if (lastKnockout != null && lastKnockout > sequence) {
+      throw new ConflictException(
+          name + " knocks a player out in elimination " + lastKnockout + ", after going out");
+    }
+    if (eliminator == null) {
+      return;
+    }
+    if (eliminator.getSeasonPlayerId().equals(eliminated.getSeasonPlayerId())) {
+      throw new ValidationException(name + " cannot eliminate themselves");
+    }
+    final Integer eliminatorOut = sequenceByEliminated.get(eliminator.getSeasonPlayerId());
+    if (eliminatorOut != null && eliminatorOut < sequence) {
+      throw new ConflictException(
+          eliminator.getPlayer().getName()
+              + " is already eliminated, in elimination "
+              + eliminatorOut);
+    }
+  }
+
+  private static void index(
+      final Elimination elimination,
+      final Map<Integer, Elimination> bySequence,
+      final Map<Integer, Integer> sequenceByEliminated,
+      final Map<Integer, Integer> lastKnockoutByEliminator) {
+    bySequence.put(elimination.getEventSequence(), elimination);
+    sequenceByEliminated.put(
+        elimination.getEliminated().getSeasonPlayerId(), elimination.getEventSequence());
+    if (elimination.getEliminator() != null) {
+      lastKnockoutByEliminator.merge(
+          elimination.getEliminator().getSeasonPlayerId(),
+          elimination.getEventSequence(),
+          Math::max);
+    }
+  }
+
+  private static SeasonPlayer participant(
+      final String playerName,
+      final Map<String, SeasonPlayer> seasonPlayerByName,
+      final Set<Integer> participants,
+      final int gameNumber) {
+    final SeasonPlayer seasonPlayer = seasonPlayerByName.get(playerName);
+    if (seasonPlayer == null) {
+      throw SEASON_PLAYER_NOT_FOUND;
+    }
+    if (!participants.contains(seasonPlayer.getSeasonPlayerId())) {
+      throw new ValidationException(
+          playerName + " did not take part in game number: " + gameNumber);
+    }
+    return seasonPlayer;
+  }
+
+  private static int lastApplied(final Game game) {
+    return game.getLastEliminationSequence() == null ? 0 : game.getLastEliminationSequence();
+  }
+
+  private Game lockGame(String seasonName, int gameNumber) {
+    final int gameId =
+        gameService.getGameId(seasonService.getSeasonIdByName(seasonName), gameNumber);
+    return gameRepository.findByIdForUpdate(gameId).orElseThrow(() -> GAME_NOT_FOUND);
+  }
+
+  /**
+   * Maps an applied Elimination entity to an EliminationDTO.
+   *
+   * @param elimination the Elimination entity
+   * @return the mapped EliminationDTO
+   */
+  private EliminationDTO mapToDTO(final Elimination elimination) {
+    return new EliminationDTO(
+        elimination.getEventSequence(),
+        elimination.getFinishingPosition(),
+        elimination.getEliminated().getSeasonPlayerId(),
+        elimination.getEliminated().getPlayer().getName(),
+        elimination.getEliminator() == null
+            ? null
+            : elimination.getEliminator().getPlayer().getName(),
+        elimination.getEliminatedAt(),
+        elimination.getBountyPaid() == null ? null : elimination.getBountyPaid().toBigDecimal());
+  }
+}
@@ -1,19 +1,28 @@
 package io.games.poker_tournament_tracker.service;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.games.poker_tournament_tracker.domain.BuyInKind;
+import io.games.poker_tournament_tracker.domain.BuyInTotal;
 import io.games.poker_tournament_tracker.domain.GameBuyIn;
+import io.games.poker_tournament_tracker.domain.Money;
+import io.games.poker_tournament_tracker.model.BuyInReportDTO;
+import io.games.poker_tournament_tracker.model.BuyInTotalsDTO;
 import io.games.poker_tournament_tracker.model.GameBuyInDTO;
+import io.games.poker_tournament_tracker.monitoring.BuyInEvent;
 import io.games.poker_tournament_tracker.repos.GameBuyInRepository;
 import io.games.poker_tournament_tracker.repos.GameRepository;
 import io.games.poker_tournament_tracker.repos.SeasonPlayerRepository;
+import io.games.poker_tournament_tracker.util.ConflictException;
 import io.games.poker_tournament_tracker.util.NotFoundException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,24 +32,37 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GameBuyInService {
 
+  private static final NotFoundException GAME_BUY_IN_NOT_FOUND =
+      new NotFoundException("Game buy-in not found");
+  private static final NotFoundException GAME_NOT_FOUND = new NotFoundException("Game not found");
+  private static final NotFoundException SEASON_PLAYER_NOT_FOUND =
+      new NotFoundException("Season player not found");
+
   private final GameBuyInRepository gameBuyInRepository;
   private final GameRepository gameRepository;
   private final SeasonPlayerRepository seasonPlayerRepository;
   private final GameService gameService;
+  private final SeasonService seasonService;
   private final SeasonPlayerService seasonPlayerService;
 
+  private final OutboxService outboxService;
+
   @Autowired
   public GameBuyInService(
       GameBuyInRepository gameBuyInRepository,
       GameRepository gameRepository,
       SeasonPlayerRepository seasonPlayerRepository,
       GameService gameService,
-      SeasonPlayerService seasonPlayerService) {
+      SeasonService seasonService,
+      SeasonPlayerService seasonPlayerService,
+      OutboxService outboxService) {
     this.gameBuyInRepository = gameBuyInRepository;
     this.gameRepository = gameRepository;
     this.seasonPlayerRepository = seasonPlayerRepository;
     this.gameService = gameService;
+    this.seasonService = seasonService;
     this.seasonPlayerService = seasonPlayerService;
+    this.outboxService = outboxService;
   }
 
   /**
@@ -65,7 +87,7 @@ public class GameBuyInService {
     return gameBuyInRepository
         .findById(gameBuyInId)
         .map(this::mapToDTO)
-        .orElseThrow(() -> new NotFoundException("Game buy-in not found"));
+        .orElseThrow(() -> GAME_BUY_IN_NOT_FOUND);
   }
 
   /**
@@ -79,7 +101,10 @@ public class GameBuyInService {
     log.info("Creating new game buy-in");
     GameBuyIn gameBuyIn = new GameBuyIn();
     mapToEntity(gameBuyInDTO, gameBuyIn);
-    return gameBuyInRepository.save(gameBuyIn).getGameBuyInId();
+    Integer gameBuyInId = gameBuyInRepository.save(gameBuyIn).getGameBuyInId();
+    outboxService.append(
+        "GameBuyInCreated", "GameBuyIn", gameBuyInId, seasonIdOf(gameBuyIn), mapToDTO(gameBuyIn));
+    return gameBuyInId;
   }
 
   /**
@@ -92,11 +117,11 @@ public class GameBuyInService {
   public void update(Integer gameBuyInId, GameBuyInDTO gameBuyInDTO) {
     log.info("Updating game buy-in with id: {}", gameBuyInId);
     GameBuyIn gameBuyIn =
-        gameBuyInRepository
-            .findById(gameBuyInId)
-            .orElseThrow(() -> new NotFoundException("Game buy-in not found"));
+        gameBuyInRepository.findById(gameBuyInId).orElseThrow(() -> GAME_BUY_IN_NOT_FOUND);
     mapToEntity(gameBuyInDTO, gameBuyIn);
     gameBuyInRepository.save(gameBuyIn);
+    outboxService.append(
+        "GameBuyInUpdated", "GameBuyIn", gameBuyInId, seasonIdOf(gameBuyIn), mapToDTO(gameBuyIn));
   }
 
   /**
@@ -107,7 +132,22 @@ public class GameBuyInService {
   @Transactional
   public void delete(Integer gameBuyInId) {
     log.info("Deleting game buy-in with id: {}", gameBuyInId);
-    gameBuyInRepository.deleteById(gameBuyInId);
+    gameBuyInRepository
+        .findById(gameBuyInId)
+        .ifPresent(
+            gameBuyIn -> {
+              outboxService.append(
+                  "GameBuyInDeleted",
+                  "GameBuyIn",
+                  gameBuyInId,
+                  seasonIdOf(gameBuyIn),
+                  mapToDTO(gameBuyIn));
+              gameBuyInRepository.delete(gameBuyIn);
+            });
+  }
+
+  private static Integer seasonIdOf(final GameBuyIn gameBuyIn) {
+    return gameBuyIn.getGame() == null ? null : gameBuyIn.getGame().getSeason().getSeasonId();
   }
 
   /**
@@ -116,10 +156,12 @@ public class GameBuyInService {
    * @param gameBuyIn the GameBuyIn entity
    * @return the mapped GameBuyInDTO
    */
-  private GameBuyInDTO mapToDTO(GameBuyIn gameBuyIn) {
+  GameBuyInDTO mapToDTO(GameBuyIn gameBuyIn) {
     GameBuyInDTO gameBuyInDTO = new GameBuyInDTO();
     gameBuyInDTO.setGameBuyInId(gameBuyIn.getGameBuyInId());
-    gameBuyInDTO.setBuyInAmount(gameBuyIn.getBuyInAmount());
+    gameBuyInDTO.setBuyInAmount(
+        gameBuyIn.getBuyInAmount() == null ? null : gameBuyIn.getBuyInAmount().toBigDecimal());
+    gameBuyInDTO.setKind(gameBuyIn.getKind() == null ? BuyInKind.BUY_IN : gameBuyIn.getKind());
     gameBuyInDTO.setGame(gameBuyIn.getGame() == null ? null : gameBuyIn.getGame().getGameId());
     gameBuyInDTO.setSeasonPlayer(
         gameBuyIn.getSeasonPlayer() == null
@@ -135,57 +177,193 @@ public class GameBuyInService {
    * @param gameBuyIn the GameBuyIn entity
    */
   private void mapToEntity(GameBuyInDTO gameBuyInDTO, GameBuyIn gameBuyIn) {
-    gameBuyIn.setBuyInAmount(gameBuyInDTO.getBuyInAmount());
+    gameBuyIn.setBuyInAmount(Money.of(gameBuyInDTO.getBuyInAmount()));
+    gameBuyIn.setKind(gameBuyInDTO.getKind() == null ? BuyInKind.BUY_IN : gameBuyInDTO.getKind());
     gameBuyIn.setGame(
         gameBuyInDTO.getGame() == null
             ? null
-            : gameRepository
-                .findById(gameBuyInDTO.getGame())
-                .orElseThrow(() -> new NotFoundException("Game not found")));
+            : gameRepository.findById(gameBuyInDTO.getGame()).orElseThrow(() -> GAME_NOT_FOUND));
     gameBuyIn.setSeasonPlayer(
         gameBuyInDTO.getSeasonPlayer() == null
             ? null
             : seasonPlayerRepository
                 .findById(gameBuyInDTO.getSeasonPlayer())
-                .orElseThrow(() -> new NotFoundException("Season player not found")));
+                .orElseThrow(() -> SEASON_PLAYER_NOT_FOUND));
   }
 
   /**
-   * Creates a new GameBuyIn with the given game number, player name, and buy-in amount.
+   * Creates a new GameBuyIn with the given season, game number, player name, kind and amount. A
+   * player can buy in and take the add-on once per game; rebuys are unlimited.
    *
-   * @param gameNumber the number of the game
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
    * @param playerName the name of the player
+   * @param kind buy-in, rebuy or add-on
    * @param buyInAmount the amount of the buy-in
    */
   @Transactional
-  public void createGameBuyIn(int gameNumber, String playerName, double buyInAmount) {
-    try {
-      log.info("Creating game buy-in for game number: {}, player name: {}", gameNumber, playerName);
-      GameBuyInDTO gameBuyInDTO = new GameBuyInDTO();
-      gameBuyInDTO.setGame(gameService.getGameId(gameNumber));
-      Integer seasonIdByGameNumber = gameService.getSeasonIdByGameNumber(gameNumber);
-      gameBuyInDTO.setSeasonPlayer(
-          seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(
-              playerName, seasonIdByGameNumber));
-      gameBuyInDTO.setBuyInAmount(BigDecimal.valueOf(buyInAmount));
-      create(gameBuyInDTO);
-    } catch (Exception e) {
-      log.error(
-          "Error creating game buy-in for game number: {}, player name: {}",
-          gameNumber,
-          playerName,
-          e);
-      throw new RuntimeException("Error creating game buy-in", e);
+  public void createGameBuyIn(
+      String seasonName,
+      int gameNumber,
+      String playerName,
+      BuyInKind kind,
+      BigDecimal buyInAmount) {
+    log.info("Creating game {} for game number: {}, player name: {}", kind, gameNumber, playerName);
+    final BuyInEvent event = new BuyInEvent();
+    event.begin();
+    GameBuyInDTO gameBuyInDTO = new GameBuyInDTO();
+    int seasonId = seasonService.getSeasonIdByName(seasonName);
+    final int gameId = gameService.getGameId(seasonId, gameNumber);
+    final Integer seasonPlayerId =
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(playerName, seasonId);
+    if (kind != BuyInKind.REBUY) {
+      // the game row's lock keeps two requests from both finding no earlier buy-in
+      gameRepository.findByIdForUpdate(gameId).orElseThrow(() -> GAME_NOT_FOUND);
+      final boolean exists =
+          gameBuyInRepository.sumByGameIdAndSeasonPlayerId(gameId, seasonPlayerId).stream()
+              .anyMatch(total -> total.kind() == kind);
+      if (exists) {
+        throw new ConflictException(
+            playerName
+                + (kind == BuyInKind.BUY_IN ? " already bought in" : " already took the add-on")
+                + " in game number: "
+                + gameNumber);
+      }
     }
+    gameBuyInDTO.setGame(gameId);
+    gameBuyInDTO.setSeasonPlayer(seasonPlayerId);
+    gameBuyInDTO.setKind(kind);
+    gameBuyInDTO.setBuyInAmount(buyInAmount);
+    create(gameBuyInDTO);
+    event.commit(seasonName, gameNumber, playerName, kind, buyInAmount);
   }
+
+  /**
+   * Retrieves what a player put into a game, summed in the database.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @param playerName the name of the player
+   * @return the player's totals, zero if they never bought in
+   */
+  @Transactional(readOnly = true)
+  public BuyInTotalsDTO getBuyInTotals(String seasonName, int gameNumber, String playerName) {
+    log.debug(
+        "Retrieving buy-in totals for season: {}, game number: {}, player name: {}",
+        seasonName,
+        gameNumber,
+        playerName);
+    final int seasonId = seasonService.getSeasonIdByName(seasonName);
+    final Integer seasonPlayerId =
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(playerName, seasonId);
+    final List<BuyInTotalsDTO> players =
+        mapToDTOs(
+            gameBuyInRepository.sumByGameIdAndSeasonPlayerId(
+                gameService.getGameId(seasonId, gameNumber), seasonPlayerId));
+    return players.isEmpty()
+        ? new PlayerTotals(seasonPlayerId, playerName).toDTO()
+        : players.get(0);
+  }
+
+  /**
+   * Retrieves the buy-ins, rebuys and add-ons of a game, per player and in all.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @return the BuyInReportDTO
+   */
+  @Transactional(readOnly = true)
+  public BuyInReportDTO getGameBuyInTotals(String seasonName, int gameNumber) {
+    log.debug("Retrieving buy-in totals for season: {}, game number: {}", seasonName, gameNumber);
+    final int seasonId = seasonService.getSeasonIdByName(seasonName);
+    final int gameId = gameService.getGameId(seasonId, gameNumber);
+    return report(seasonId, gameId, gameBuyInRepository.sumByGameId(gameId));
+  }
+
   /**
-   * Retrieves the total buy-in amount for a specific game.
+   * Retrieves the buy-ins, rebuys and add-ons of every game in a season, per player and in all.
    *
-   * @param gameNumber the number of the game
-   * @return the total buy-in amount
+   * @param seasonName the name of the season
+   * @return the BuyInReportDTO
    */
-  public Optional<GameBuyIn> getTotalBuyInAmountByGameNumber(String playerName, int gameNumber) {
-    log.info("Retrieving total buy-in amount for game number: {}", gameNumber);
-    return gameBuyInRepository.findGameBuyInByPlayerNameAndGameNumber(playerName, gameNumber);
+  @Transactional(readOnly = true)
+  public BuyInReportDTO getSeasonBuyInTotals(String seasonName) {
+    log.debug("Retrieving buy-in totals for season: {}", seasonName);
+    final int seasonId = seasonService.getSeasonIdByName(seasonName);
+    return report(seasonId, null, gameBuyInRepository.sumBySeasonId(seasonId));
+  }
+
+  private BuyInReportDTO report(
+      final Integer seasonId, final Integer gameId, final List<BuyInTotal> totals) {
+    final List<BuyInTotalsDTO> players = mapToDTOs(totals);
+    int buyIns = 0;
+    int rebuys = 0;
+    int addOns = 0;
+    long totalCents = 0;
+    for (final BuyInTotal total : totals) {
+      switch (total.kind()) {
+        case BUY_IN -> buyIns += total.count();
+        case REBUY -> rebuys += total.count();
+        case ADD_ON -> addOns += total.count();
+      }
+      totalCents = Math.addExact(totalCents, Money.of(total.amount()).getCents());
+    }
+    return new BuyInReportDTO(
+        seasonId,
+        gameId,
+        buyIns,
+        rebuys,
+        addOns,
+        Money.ofCents(totalCents).toBigDecimal(),
+        players);
+  }
+
+  /** Folds the per-kind sums into one entry per player, ordered by name. */
+  private static List<BuyInTotalsDTO> mapToDTOs(final List<BuyInTotal> totals) {
+    final Map<Integer, PlayerTotals> byPlayer = new HashMap<>();
+    for (final BuyInTotal total : totals) {
+      byPlayer
+          .computeIfAbsent(total.seasonPlayerId(), id -> new PlayerTotals(id, total.playerName()))
+          .add(total);
+    }
+    return byPlayer.values().stream()
+        .map(PlayerTotals::toDTO)
+        .sorted(Comparator.comparing(BuyInTotalsDTO::playerName))
+        .toList();
+  }
+
+  private static final class PlayerTotals {
+
+    private final Integer seasonPlayerId;
+    private final String playerName;
+    private final int[] counts = new int[BuyInKind.values().length];
+    private final long[] cents = new long[BuyInKind.values().length];
+
+    PlayerTotals(Integer seasonPlayerId, String playerName) {
+      this.seasonPlayerId = seasonPlayerId;
+      this.playerName = playerName;
+    }
+
+    void add(final BuyInTotal total) {
+      counts[total.kind().ordinal()] += total.count();
+      cents[total.kind().ordinal()] += Money.of(total.amount()).getCents();
+    }
+
+    BuyInTotalsDTO toDTO() {
+      return new BuyInTotalsDTO(
+          seasonPlayerId,
+          playerName,
+          counts[BuyInKind.BUY_IN.ordinal()],
+          counts[BuyInKind.REBUY.ordinal()],
+          counts[BuyInKind.ADD_ON.ordinal()],
+          amount(BuyInKind.BUY_IN),
+          amount(BuyInKind.REBUY),
+          amount(BuyInKind.ADD_ON),
+          Money.ofCents(Money.sumCents(cents)).toBigDecimal());
+    }
+
+    private BigDecimal amount(final BuyInKind kind) {
+      return Money.ofCents(cents[kind.ordinal()]).toBigDecimal();
+    }
   }
 }
@@ -0,0 +1,34 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "game-clock")
+public class GameClockProperties {
+
+  /** Resolution of the timing wheel; a level change is at most this late. */
+  private Duration tick = Duration.ofMillis(250);
+
+  /**
+   * Buckets in the timing wheel, a power of two. One turn of the wheel is {@code tick} times this.
+   */
+  private int wheelSize = 512;
+
+  /** Threads that advance clocks once their level is up. */
+  private int workerThreads = 2;
+
+  /**
+   * Wait before trying again when advancing a clock fails, e.g. while the database is down, or
+   * before checking on a clock another node was advancing.
+   */
+  private Duration retryDelay = Duration.ofSeconds(5);
+
+  /** How long a clock event stream stays open before the client has to reconnect. */
+  private Duration subscriberTimeout = Duration.ofMinutes(30);
+}
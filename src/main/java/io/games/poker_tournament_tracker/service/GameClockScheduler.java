@@ -0,0 +1,104 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.games.poker_tournament_tracker.model.GameClockDTO;
+import io.games.poker_tournament_tracker.model.OutboxEventDTO;
+import io.games.poker_tournament_tracker.util.TimingWheel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives running game clocks from level to level. Each running clock has one timeout on the timing
+ * wheel, due when its level ends, and it is replaced whenever a {@code GameClock} event comes off
+ * the outbox with a new deadline. On startup every running clock is read back and scheduled again,
+ * and those whose level ended while the instance was down catch up on the next tick.
+ *
+ * <p>The relay hands every node every clock event, so each node has the same timeouts; when one is
+ * due, the node that locks the clock first moves it and the others back off, see {@link
+ * GameClockService#advance}.
+ */
+@Component
+@Slf4j
+public class GameClockScheduler {
+
+  private final GameClockService gameClockService;
+  private final TimingWheel timingWheel;
+  private final GameClockProperties gameClockProperties;
+  private final ObjectMapper objectMapper;
+  private final ConcurrentMap<Integer, TimingWheel.Timeout> timeouts = new ConcurrentHashMap<>();
+
+  public GameClockScheduler(
+      GameClockService gameClockService,
+      TimingWheel gameClockWheel,
+      GameClockProperties gameClockProperties,
+      ObjectMapper objectMapper) {
+    this.gameClockService = gameClockService;
+    this.timingWheel = gameClockWheel;
+    this.gameClockProperties = gameClockProperties;
+    this.objectMapper = objectMapper;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void recover() {
+    final Map<Integer, OffsetDateTime> levelEnds = gameClockService.findRunningLevelEnds();
+    levelEnds.forEach((gameId, levelEndsAt) -> schedule(gameId, levelEndsAt.toInstant()));
+    log.info("Scheduled {} running game clocks", levelEnds.size());
+  }
+
+  @EventListener
+  public void onOutboxEvent(OutboxEventDTO outboxEvent) {
+    if (!"GameClock".equals(outboxEvent.aggregateType())) {
+      return;
+    }
+    final GameClockDTO gameClock;
+    try {
+      gameClock = objectMapper.readValue(outboxEvent.payload(), GameClockDTO.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unreadable clock event " + outboxEvent.position(), e);
+    }
+    if (gameClock.getLevelEndsAt() == null) {
+      // paused, stopped or on the last level: nothing to wake up for
+      cancel(gameClock.getGameId());
+    } else {
+      schedule(gameClock.getGameId(), gameClock.getLevelEndsAt().toInstant());
+    }
+  }
+
+  private void schedule(Integer gameId, Instant deadline) {
+    final TimingWheel.Timeout timeout = timingWheel.schedule(() -> advance(gameId), deadline);
+    final TimingWheel.Timeout replaced = timeouts.put(gameId, timeout);
+    if (replaced != null) {
+      replaced.cancel();
+    }
+  }
+
+  private void cancel(Integer gameId) {
+    final TimingWheel.Timeout timeout = timeouts.remove(gameId);
+    if (timeout != null) {
+      timeout.cancel();
+    }
+  }
+
+  private void advance(Integer gameId) {
+    try {
+      // after a level change the next deadline comes back through the outbox event it writes
+      gameClockService
+          .advance(gameId)
+          .ifPresent(levelEndsAt -> schedule(gameId, levelEndsAt.toInstant()));
+    } catch (RuntimeException e) {
+      log.warn("Could not advance clock of game {}, retrying", gameId, e);
+      schedule(gameId, Instant.now().plus(gameClockProperties.getRetryDelay()));
+    }
+  }
+}
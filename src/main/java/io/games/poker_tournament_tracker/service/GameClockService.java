@@ -0,0 +1,378 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.games.poker_tournament_tracker.domain.BlindLevel;
+import io.games.poker_tournament_tracker.domain.BlindStructure;
+import io.games.poker_tournament_tracker.domain.Game;
+import io.games.poker_tournament_tracker.domain.GameClock;
+import io.games.poker_tournament_tracker.domain.GameClockStatus;
+import io.games.poker_tournament_tracker.model.BlindLevelDTO;
+import io.games.poker_tournament_tracker.model.BlindStructureDTO;
+import io.games.poker_tournament_tracker.model.GameClockDTO;
+import io.games.poker_tournament_tracker.repos.BlindStructureRepository;
+import io.games.poker_tournament_tracker.repos.GameClockRepository;
+import io.games.poker_tournament_tracker.repos.GameRepository;
+import io.games.poker_tournament_tracker.util.ConflictException;
+import io.games.poker_tournament_tracker.util.NotFoundException;
+import io.games.poker_tournament_tracker.util.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class for blind structures and game clocks. Every clock transition is written to the
+ * outbox as a {@code GameClock} event, which is how {@link GameClockScheduler} learns when the
+ * level is next up and how subscribers hear about it. Clock events carry no season, so a level
+ * change doesn't bump the season's data version; starting and stopping a clock set the game's start
+ * and end time, which does.
+ */
+@Service
+@Slf4j
+public class GameClockService {
+
+  private static final NotFoundException BLIND_STRUCTURE_NOT_FOUND =
+      new NotFoundException("Blind structure not found");
+  private static final NotFoundException CLOCK_NOT_STARTED =
+      new NotFoundException("Clock not started");
+
+  private final GameClockRepository gameClockRepository;
+  private final BlindStructureRepository blindStructureRepository;
+  private final GameRepository gameRepository;
+  private final SeasonService seasonService;
+  private final GameService gameService;
+  private final SeasonVersionService seasonVersionService;
+  private final OutboxService outboxService;
+  private final GameClockProperties gameClockProperties;
+
+  @Autowired
+  public GameClockService(
+      GameClockRepository gameClockRepository,
+      BlindStructureRepository blindStructureRepository,
+      GameRepository gameRepository,
+      SeasonService seasonService,
+      GameService gameService,
+      SeasonVersionService seasonVersionService,
+      OutboxService outboxService,
+      GameClockProperties gameClockProperties) {
+    this.gameClockRepository = gameClockRepository;
+    this.blindStructureRepository = blindStructureRepository;
+    this.gameRepository = gameRepository;
+    this.seasonService = seasonService;
+    this.gameService = gameService;
+    this.seasonVersionService = seasonVersionService;
+    this.outboxService = outboxService;
+    this.gameClockProperties = gameClockProperties;
+  }
+
+  /**
+   * Creates a new BlindStructure.
+   *
+   * @param blindStructureDTO the DTO of the blind structure to create
+   * @return the ID of the created blind structure
+   */
+  @Transactional
+  public Integer createBlindStructure(final BlindStructureDTO blindStructureDTO) {
+    log.info("Creating blind structure: {}", blindStructureDTO.getName());
+    if (blindStructureRepository.existsByName(blindStructureDTO.getName())) {
+      throw new ConflictException(
+          "Blind structure already exists with name: " + blindStructureDTO.getName());
+    }
+    final BlindStructure blindStructure = new BlindStructure();
+    blindStructure.setName(blindStructureDTO.getName());
+    for (final BlindLevelDTO blindLevelDTO : blindStructureDTO.getLevels()) {
+      if (blindLevelDTO.getBigBlind() < blindLevelDTO.getSmallBlind()) {
+        throw new ValidationException("Big blind is below the small blind in a level");
+      }
+      final BlindLevel blindLevel = new BlindLevel();
+      blindLevel.setSmallBlind(blindLevelDTO.getSmallBlind());
+      blindLevel.setBigBlind(blindLevelDTO.getBigBlind());
+      blindLevel.setAnte(blindLevelDTO.getAnte() == null ? 0 : blindLevelDTO.getAnte());
+      blindLevel.setDurationMinutes(blindLevelDTO.getDurationMinutes());
+      blindStructure.getLevels().add(blindLevel);
+    }
+    blindStructure.setCreatedAt(OffsetDateTime.now());
+    return blindStructureRepository.save(blindStructure).getBlindStructureId();
+  }
+
+  /**
+   * Retrieves a game's clock.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @return the GameClockDTO
+   */
+  @Transactional(readOnly = true)
+  public GameClockDTO get(String seasonName, int gameNumber) {
+    log.debug("Retrieving clock for season: {}, game number: {}", seasonName, gameNumber);
+    return mapToDTO(findClock(seasonName, gameNumber), OffsetDateTime.now());
+  }
+
+  /**
+   * Starts a game's clock on the first level of a blind structure, and sets the game's start time
+   * if it has none.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @param blindStructureName the name of the blind structure to run
+   * @return the started clock
+   */
+  @Transactional
+  public GameClockDTO start(String seasonName, int gameNumber, String blindStructureName) {
+    log.info(
+        "Starting clock for season: {}, game number: {}, blind structure: {}",
+        seasonName,
+        gameNumber,
+        blindStructureName);
+    final int seasonId = seasonService.getSeasonIdByName(seasonName);
+    final int gameId = gameService.getGameId(seasonId, gameNumber);
+    if (gameClockRepository.existsById(gameId)) {
+      throw new ConflictException("Clock already started for game number: " + gameNumber);
+    }
+    final BlindStructure blindStructure =
+        blindStructureRepository
+            .findByName(blindStructureName)
+            .orElseThrow(() -> BLIND_STRUCTURE_NOT_FOUND);
+    final Game game = gameRepository.getReferenceById(gameId);
+    final OffsetDateTime now = OffsetDateTime.now();
+    if (game.getStartTime() == null) {
+      game.setStartTime(now);
+      seasonVersionService.touch(seasonId);
+    }
+    final GameClock gameClock = new GameClock();
+    gameClock.setGame(game);
+    gameClock.setBlindStructure(blindStructure);
+    gameClock.setLevelIndex(0);
+    gameClock.setStatus(GameClockStatus.RUNNING);
+    gameClock.setLevelEndsAt(levelEnd(blindStructure, 0, now));
+    return save(gameClock, "GameClockStarted", now);
+  }
+
+  /**
+   * Pauses a running clock, keeping the time left on the level.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @return the paused clock
+   */
+  @Transactional
+  public GameClockDTO pause(String seasonName, int gameNumber) {
+    log.info("Pausing clock for season: {}, game number: {}", seasonName, gameNumber);
+    final GameClock gameClock = findClock(seasonName, gameNumber);
+    requireStatus(gameClock, GameClockStatus.RUNNING);
+    final OffsetDateTime now = OffsetDateTime.now();
+    // a level may be up without the scheduler having got to it yet
+    catchUp(gameClock, now);
+    gameClock.setRemainingMillis(remainingMillis(gameClock, now));
+    gameClock.setLevelEndsAt(null);
+    gameClock.setStatus(GameClockStatus.PAUSED);
+    return save(gameClock, "GameClockPaused", now);
+  }
+
+  /**
+   * Resumes a paused clock with the time that was left on the level.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @return the resumed clock
+   */
+  @Transactional
+  public GameClockDTO resume(String seasonName, int gameNumber) {
+    log.info("Resuming clock for season: {}, game number: {}", seasonName, gameNumber);
+    final GameClock gameClock = findClock(seasonName, gameNumber);
+    requireStatus(gameClock, GameClockStatus.PAUSED);
+    final OffsetDateTime now = OffsetDateTime.now();
+    gameClock.setLevelEndsAt(
+        gameClock.getRemainingMillis() == null
+            ? null
+            : now.plus(Duration.ofMillis(gameClock.getRemainingMillis())));
+    gameClock.setRemainingMillis(null);
+    gameClock.setStatus(GameClockStatus.RUNNING);
+    return save(gameClock, "GameClockResumed", now);
+  }
+
+  /**
+   * Stops a clock for good, and sets the game's end time if it has none.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @return the stopped clock
+   */
+  @Transactional
+  public GameClockDTO stop(String seasonName, int gameNumber) {
+    log.info("Stopping clock for season: {}, game number: {}", seasonName, gameNumber);
+    final GameClock gameClock = findClock(seasonName, gameNumber);
+    if (gameClock.getStatus() == GameClockStatus.STOPPED) {
+      throw new ConflictException("Clock already stopped for game number: " + gameNumber);
+    }
+    final OffsetDateTime now = OffsetDateTime.now();
+    final Game game = gameClock.getGame();
+    if (game.getEndTime() == null) {
+      game.setEndTime(now);
+      seasonVersionService.touch(game.getSeason().getSeasonId());
+    }
+    gameClock.setLevelEndsAt(null);
+    gameClock.setRemainingMillis(null);
+    gameClock.setStatus(GameClockStatus.STOPPED);
+    return save(gameClock, "GameClockStopped", now);
+  }
+
+  /**
+   * Moves a running clock on to the level it should be on now, catching up on every level that
+   * ended while nothing was driving it. Does nothing if the clock's level isn't up yet, which is
+   * the case when a resume, or another node, has moved the deadline since it was scheduled.
+   *
+   * <p>Every node schedules every running clock, so the clock row is locked first and a node that
+   * finds it locked backs off: the holder is moving the clock and its event will reschedule
+   * everyone. The look again after {@code game-clock.retry-delay} only matters if that node dies
+   * before committing.
+   *
+   * @param gameId the ID of the game
+   * @return when to look at the clock again: when the level ends if it was not up yet, after the
+   *     retry delay if another node holds the clock, empty otherwise
+   */
+  @Transactional
+  public Optional<OffsetDateTime> advance(final Integer gameId) {
+    final OffsetDateTime now = OffsetDateTime.now();
+    final GameClock gameClock =
+        gameClockRepository.findByIdForUpdateSkipLocked(gameId).orElse(null);
+    if (gameClock == null) {
+      return gameClockRepository.existsById(gameId)
+          ? Optional.of(now.plus(gameClockProperties.getRetryDelay()))
+          : Optional.empty();
+    }
+    if (gameClock.getStatus() != GameClockStatus.RUNNING) {
+      return Optional.empty();
+    }
+    if (!catchUp(gameClock, now)) {
+      return Optional.ofNullable(gameClock.getLevelEndsAt());
+    }
+    log.info("Game {} moved to level {}", gameId, gameClock.getLevelIndex() + 1);
+    save(gameClock, "GameClockLevelChanged", now);
+    return Optional.empty();
+  }
+
+  /**
+   * Retrieves when the level of each running clock ends, for rescheduling them after a restart.
+   *
+   * @return level end by game ID, for the clocks not yet on their last level
+   */
+  @Transactional(readOnly = true)
+  public Map<Integer, OffsetDateTime> findRunningLevelEnds() {
+    final Map<Integer, OffsetDateTime> levelEnds = new LinkedHashMap<>();
+    for (final GameClock gameClock :
+        gameClockRepository.findAllByStatusAndLevelEndsAtNotNull(GameClockStatus.RUNNING)) {
+      levelEnds.put(gameClock.getGameId(), gameClock.getLevelEndsAt());
+    }
+    return levelEnds;
+  }
+
+  private GameClock findClock(String seasonName, int gameNumber) {
+    final int gameId =
+        gameService.getGameId(seasonService.getSeasonIdByName(seasonName), gameNumber);
+    return gameClockRepository.findById(gameId).orElseThrow(() -> CLOCK_NOT_STARTED);
+  }
+
+  private static void requireStatus(final GameClock gameClock, final GameClockStatus status) {
+    if (gameClock.getStatus() != status) {
+      throw new ConflictException(
+          "Clock is "
+              + gameClock.getStatus()
+              + ", not "
+              + status
+              + ", for game: "
+              + gameClock.getGameId());
+    }
+  }
+
+  /**
+   * Steps a running clock through every level that has ended by {@code now}. Each level's end is
+   * counted from the previous one's, not from {@code now}, so catching up late doesn't stretch the
+   * structure.
+   *
+   * @return whether the level changed
+   */
+  private static boolean catchUp(final GameClock gameClock, final OffsetDateTime now) {
+    final List<BlindLevel> levels = gameClock.getBlindStructure().getLevels();
+    final int levelIndex = gameClock.getLevelIndex();
+    while (gameClock.getLevelEndsAt() != null && !gameClock.getLevelEndsAt().isAfter(now)) {
+      final int next = gameClock.getLevelIndex() + 1;
+      gameClock.setLevelIndex(next);
+      gameClock.setLevelEndsAt(
+          next == levels.size() - 1
+              ? null
+              : gameClock.getLevelEndsAt().plusMinutes(levels.get(next).getDurationMinutes()));
+    }
+    return gameClock.getLevelIndex() != levelIndex;
+  }
+
+  /** When a level started at {@code start} ends, or null for the last level, which never does. */
+  private static OffsetDateTime levelEnd(
+      final BlindStructure blindStructure, final int levelIndex, final OffsetDateTime start) {
+    final List<BlindLevel> levels = blindStructure.getLevels();
+    return levelIndex == levels.size() - 1
+        ? null
+        : start.plusMinutes(levels.get(levelIndex).getDurationMinutes());
+  }
+
+  private static Long remainingMillis(final GameClock gameClock, final OffsetDateTime now) {
+    if (gameClock.getStatus() == GameClockStatus.PAUSED) {
+      return gameClock.getRemainingMillis();
+    }
+    return gameClock.getLevelEndsAt() == null
+        ? null
+        : Math.max(0, Duration.between(now, gameClock.getLevelEndsAt()).toMillis());
+  }
+
+  private GameClockDTO save(
+      final GameClock gameClock, final String eventType, final OffsetDateTime now) {
+    gameClock.setUpdatedAt(now);
+    gameClockRepository.save(gameClock);
+    final GameClockDTO gameClockDTO = mapToDTO(gameClock, now);
+    outboxService.append(eventType, "GameClock", gameClock.getGameId(), null, gameClockDTO);
+    return gameClockDTO;
+  }
+
+  /**
+   * Maps a GameClock entity to a GameClockDTO.
+   *
+   * @param gameClock the GameClock entity
+   * @param now the time the DTO's countdown is taken at
+   * @return the mapped GameClockDTO
+   */
+  private GameClockDTO mapToDTO(final GameClock gameClock, final OffsetDateTime now) {
+    final List<BlindLevel> levels = gameClock.getBlindStructure().getLevels();
+    final int levelIndex = gameClock.getLevelIndex();
+    final GameClockDTO gameClockDTO = new GameClockDTO();
+    gameClockDTO.setGameId(gameClock.getGameId());
+    gameClockDTO.setSeason(gameClock.getGame().getSeason().getSeasonId());
+    gameClockDTO.setGameNumber(gameClock.getGame().getGameNumber());
+    gameClockDTO.setBlindStructure(gameClock.getBlindStructure().getName());
+    gameClockDTO.setStatus(gameClock.getStatus());
+    gameClockDTO.setLevel(levelIndex + 1);
+    gameClockDTO.setCurrentLevel(mapToDTO(levels.get(levelIndex)));
+    gameClockDTO.setNextLevel(
+        levelIndex + 1 < levels.size() ? mapToDTO(levels.get(levelIndex + 1)) : null);
+    gameClockDTO.setLevelEndsAt(gameClock.getLevelEndsAt());
+    gameClockDTO.setRemainingMillis(remainingMillis(gameClock, now));
+    gameClockDTO.setAsOf(now);
+    return gameClockDTO;
+  }
+
+  private static BlindLevelDTO mapToDTO(final BlindLevel blindLevel) {
+    final BlindLevelDTO blindLevelDTO = new BlindLevelDTO();
+    blindLevelDTO.setSmallBlind(blindLevel.getSmallBlind());
+    blindLevelDTO.setBigBlind(blindLevel.getBigBlind());
+    blindLevelDTO.setAnte(blindLevel.getAnte());
+    blindLevelDTO.setDurationMinutes(blindLevel.getDurationMinutes());
+    return blindLevelDTO;
+  }
+}
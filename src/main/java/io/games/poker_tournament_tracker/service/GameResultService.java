@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.games.poker_tournament_tracker.domain.GameResult;
+import io.games.poker_tournament_tracker.domain.Money;
 import io.games.poker_tournament_tracker.model.GameResultDTO;
 import io.games.poker_tournament_tracker.repos.GameRepository;
 import io.games.poker_tournament_tracker.repos.GameResultRepository;
@@ -22,27 +23,40 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GameResultService {
 
+  private static final NotFoundException GAME_RESULT_NOT_FOUND =
+      new NotFoundException("Game result not found");
+  private static final NotFoundException GAME_NOT_FOUND = new NotFoundException("Game not found");
+  private static final NotFoundException SEASON_PLAYER_NOT_FOUND =
+      new NotFoundException("Season player not found");
+
   private final GameResultRepository gameResultRepository;
   private final GameRepository gameRepository;
   private final SeasonPlayerRepository seasonPlayerRepository;
   private final GameService gameService;
+  private final SeasonService seasonService;
   private final SeasonPlayerService seasonPlayerService;
   private final GameBuyInService gameBuyInService;
 
+  private final OutboxService outboxService;
+
   @Autowired
   public GameResultService(
       GameResultRepository gameResultRepository,
       GameRepository gameRepository,
       SeasonPlayerRepository seasonPlayerRepository,
       GameService gameService,
+      SeasonService seasonService,
       SeasonPlayerService seasonPlayerService,
-      GameBuyInService gameBuyInService) {
+      GameBuyInService gameBuyInService,
+      OutboxService outboxService) {
     this.gameResultRepository = gameResultRepository;
     this.gameRepository = gameRepository;
     this.seasonPlayerRepository = seasonPlayerRepository;
     this.gameService = gameService;
+    this.seasonService = seasonService;
     this.seasonPlayerService = seasonPlayerService;
     this.gameBuyInService = gameBuyInService;
+    this.outboxService = outboxService;
   }
 
   /**
@@ -67,7 +81,7 @@ public class GameResultService {
     return gameResultRepository
         .findById(gameResultId)
         .map(this::mapToDTO)
-        .orElseThrow(() -> new NotFoundException("Game result not found"));
+        .orElseThrow(() -> GAME_RESULT_NOT_FOUND);
   }
 
   /**
@@ -81,7 +95,14 @@ public class GameResultService {
     log.info("Creating new game result");
     GameResult gameResult = new GameResult();
     mapToEntity(gameResultDTO, gameResult);
-    return gameResultRepository.save(gameResult).getGameResultId();
+    Integer gameResultId = gameResultRepository.save(gameResult).getGameResultId();
+    outboxService.append(
+        "GameResultCreated",
+        "GameResult",
+        gameResultId,
+        seasonIdOf(gameResult),
+        mapToDTO(gameResult));
+    return gameResultId;
   }
 
   /**
@@ -94,11 +115,15 @@ public class GameResultService {
   public void update(final Integer gameResultId, final GameResultDTO gameResultDTO) {
     log.info("Updating game result with id: {}", gameResultId);
     GameResult gameResult =
-        gameResultRepository
-            .findById(gameResultId)
-            .orElseThrow(() -> new NotFoundException("Game result not found"));
+        gameResultRepository.findById(gameResultId).orElseThrow(() -> GAME_RESULT_NOT_FOUND);
     mapToEntity(gameResultDTO, gameResult);
     gameResultRepository.save(gameResult);
+    outboxService.append(
+        "GameResultUpdated",
+        "GameResult",
+        gameResultId,
+        seasonIdOf(gameResult),
+        mapToDTO(gameResult));
   }
 
   /**
@@ -109,7 +134,22 @@ public class GameResultService {
   @Transactional
   public void delete(final Integer gameResultId) {
     log.info("Deleting game result with id: {}", gameResultId);
-    gameResultRepository.deleteById(gameResultId);
+    gameResultRepository
+        .findById(gameResultId)
+        .ifPresent(
+            gameResult -> {
+              outboxService.append(
+                  "GameResultDeleted",
+                  "GameResult",
+                  gameResultId,
+                  seasonIdOf(gameResult),
+                  mapToDTO(gameResult));
+              gameResultRepository.delete(gameResult);
+            });
+  }
+
+  private static Integer seasonIdOf(final GameResult gameResult) {
+    return gameResult.getGame() == null ? null : gameResult.getGame().getSeason().getSeasonId();
   }
 
   /**
@@ -118,10 +158,11 @@ public class GameResultService {
    * @param gameResult the GameResult entity
    * @return the mapped GameResultDTO
    */
-  private GameResultDTO mapToDTO(final GameResult gameResult) {
+  GameResultDTO mapToDTO(final GameResult gameResult) {
     GameResultDTO gameResultDTO = new GameResultDTO();
     gameResultDTO.setGameResultId(gameResult.getGameResultId());
-    gameResultDTO.setWinnings(gameResult.getWinnings());
+    gameResultDTO.setWinnings(
+        gameResult.getWinnings() == null ? null : gameResult.getWinnings().toBigDecimal());
     gameResultDTO.setGame(gameResult.getGame() == null ? null : gameResult.getGame().getGameId());
     gameResultDTO.setSeasonPlayer(
         gameResult.getSeasonPlayer() == null
@@ -137,19 +178,17 @@ public class GameResultService {
    * @param gameResult the GameResult entity
    */
   private void mapToEntity(final GameResultDTO gameResultDTO, final GameResult gameResult) {
-    gameResult.setWinnings(gameResultDTO.getWinnings());
+    gameResult.setWinnings(Money.of(gameResultDTO.getWinnings()));
     gameResult.setGame(
         gameResultDTO.getGame() == null
             ? null
-            : gameRepository
-                .findById(gameResultDTO.getGame())
-                .orElseThrow(() -> new NotFoundException("Game not found")));
+            : gameRepository.findById(gameResultDTO.getGame()).orElseThrow(() -> GAME_NOT_FOUND));
     gameResult.setSeasonPlayer(
         gameResultDTO.getSeasonPlayer() == null
             ? null
             : seasonPlayerRepository
                 .findById(gameResultDTO.getSeasonPlayer())
-                .orElseThrow(() -> new NotFoundException("Season player not found")));
+                .orElseThrow(() -> SEASON_PLAYER_NOT_FOUND));
   }
 
   //  public BigDecimal getPlayerCurrentPotSize(String playerName, int gameNumber) {
@@ -166,42 +205,34 @@ public class GameResultService {
   /**
    * Creates a new GameResult for a specific game and player.
    *
-   * @param gameNumber the number of the game
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
    * @param playerName the name of the player
    * @param winnings the amount of the winnings
    */
   @Transactional
-  public void createGameResult(int gameNumber, String playerName, double winnings) {
-    try {
-      //      var initialBuyIn = gameBuyInService.getTotalBuyInAmountByGameNumber(playerName,
-      // gameNumber);
-      //      var currentPotSize = getPlayerCurrentPotSize(playerName, gameNumber);
-      //
-      //      if (initialBuyIn.isPresent()) {
-      //        var buyIn = initialBuyIn.get();
-      //        if (buyIn.getBuyInAmount().compareTo(BigDecimal.valueOf(winnings)) >= 0) {
-      //
-      //          currentPotSize = currentPotSize.subtract(BigDecimal.valueOf(winnings));
-      //        }
-      //
-      //        }
-
-      log.info("Creating game result for game number: {}, player name: {}", gameNumber, playerName);
-      GameResultDTO gameResultDTO = new GameResultDTO();
-      gameResultDTO.setGame(gameService.getGameId(gameNumber));
-      Integer seasonIdByGameNumber = gameService.getSeasonIdByGameNumber(gameNumber);
-      gameResultDTO.setSeasonPlayer(
-          seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(
-              playerName, seasonIdByGameNumber));
-      gameResultDTO.setWinnings(BigDecimal.valueOf(winnings));
-      create(gameResultDTO);
-    } catch (Exception e) {
-      log.error(
-          "Error creating game result for game number: {}, player name: {}",
-          gameNumber,
-          playerName,
-          e);
-      throw new RuntimeException("Error creating game result", e);
-    }
+  public void createGameResult(
+      String seasonName, int gameNumber, String playerName, BigDecimal winnings) {
+    //      var initialBuyIn = gameBuyInService.getTotalBuyInAmountByGameNumber(playerName,
+    // gameNumber);
+    //      var currentPotSize = getPlayerCurrentPotSize(playerName, gameNumber);
+    //
+    //      if (initialBuyIn.isPresent()) {
+    //        var buyIn = initialBuyIn.get();
+    //        if (buyIn.getBuyInAmount().compareTo(BigDecimal.valueOf(winnings)) >= 0) {
+    //
+    //          currentPotSize = currentPotSize.subtract(BigDecimal.valueOf(winnings));
+    //        }
+    //
+    //        }
+
+    log.info("Creating game result for game number: {}, player name: {}", gameNumber, playerName);
+    GameResultDTO gameResultDTO = new GameResultDTO();
+    int seasonId = seasonService.getSeasonIdByName(seasonName);
+    gameResultDTO.setGame(gameService.getGameId(seasonId, gameNumber));
+    gameResultDTO.setSeasonPlayer(
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(playerName, seasonId));
+    gameResultDTO.setWinnings(winnings);
+    create(gameResultDTO);
   }
 }
@@ -7,12 +7,16 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.games.poker_tournament_tracker.domain.AllInShowdown;
 import io.games.poker_tournament_tracker.domain.Game;
 import io.games.poker_tournament_tracker.domain.GameBuyIn;
 import io.games.poker_tournament_tracker.domain.GameResult;
 import io.games.poker_tournament_tracker.domain.PlayerParticipation;
 import io.games.poker_tournament_tracker.domain.Season;
+import io.games.poker_tournament_tracker.model.BatchResult;
 import io.games.poker_tournament_tracker.model.GameDTO;
+import io.games.poker_tournament_tracker.monitoring.NameLookupEvent;
+import io.games.poker_tournament_tracker.repos.AllInShowdownRepository;
 import io.games.poker_tournament_tracker.repos.GameBuyInRepository;
 import io.games.poker_tournament_tracker.repos.GameRepository;
 import io.games.poker_tournament_tracker.repos.GameResultRepository;
@@ -28,11 +32,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class GameService {
 
+  private static final NotFoundException GAME_NOT_FOUND = new NotFoundException("Game not found");
+  private static final NotFoundException SEASON_NOT_FOUND =
+      new NotFoundException("Season not found");
+
   private final GameRepository gameRepository;
   private final SeasonRepository seasonRepository;
   private final GameBuyInRepository gameBuyInRepository;
   private final GameResultRepository gameResultRepository;
   private final PlayerParticipationRepository playerParticipationRepository;
+  private final AllInShowdownRepository allInShowdownRepository;
+  private final SeasonVersionService seasonVersionService;
   private SeasonService seasonService;
 
   @Autowired
@@ -41,12 +51,16 @@ public class GameService {
       SeasonRepository seasonRepository,
       GameBuyInRepository gameBuyInRepository,
       GameResultRepository gameResultRepository,
-      PlayerParticipationRepository playerParticipationRepository) {
+      PlayerParticipationRepository playerParticipationRepository,
+      AllInShowdownRepository allInShowdownRepository,
+      SeasonVersionService seasonVersionService) {
     this.gameRepository = gameRepository;
     this.seasonRepository = seasonRepository;
     this.gameBuyInRepository = gameBuyInRepository;
     this.gameResultRepository = gameResultRepository;
     this.playerParticipationRepository = playerParticipationRepository;
+    this.allInShowdownRepository = allInShowdownRepository;
+    this.seasonVersionService = seasonVersionService;
   }
 
   @Autowired
@@ -60,30 +74,25 @@ public class GameService {
    * @return a list of GameDTOs
    */
   public List<GameDTO> findAll() {
-    try {
-      log.info("Retrieving all games");
-      final List<Game> games = gameRepository.findAll(Sort.by("gameId"));
-      return games.stream().map(game -> mapToDTO(game, new GameDTO())).toList();
-    } catch (Exception e) {
-      log.error("Error finding all games", e);
-      throw new RuntimeException("Failed to retrieve all games", e);
-    }
+    log.info("Retrieving all games");
+    final List<Game> games = gameRepository.findAll(Sort.by("gameId"));
+    return games.stream().map(game -> mapToDTO(game, new GameDTO())).toList();
   }
 
   /**
-   * Retrieves a GameDTO by its game number.
+   * Retrieves the game ID by its number within a season.
    *
-   * @param gameNumber the number of the game
+   * @param seasonId the ID of the season
+   * @param gameNumber the number of the game within the season
    * @return the game ID
    */
-  public int getGameId(int gameNumber) {
-    try {
-      log.info("Retrieving game ID for game number: {}", gameNumber);
-      return gameRepository.findGameIdByGameNumber(gameNumber);
-    } catch (Exception e) {
-      log.error("Error retrieving game ID for game number: {}", gameNumber, e);
-      throw new RuntimeException("Failed to retrieve game ID for game number: " + gameNumber, e);
-    }
+  public int getGameId(int seasonId, int gameNumber) {
+    log.debug("Retrieving game ID for season: {}, game number: {}", seasonId, gameNumber);
+    return NameLookupEvent.time(
+            "game",
+            seasonId + "/" + gameNumber,
+            () -> gameRepository.findGameIdBySeasonIdAndGameNumber(seasonId, gameNumber))
+        .orElseThrow(() -> GAME_NOT_FOUND);
   }
 
   /**
@@ -93,16 +102,25 @@ public class GameService {
    * @return the GameDTO
    */
   public GameDTO get(final Integer gameId) {
-    try {
-      log.info("Retrieving game with id: {}", gameId);
-      return gameRepository
-          .findById(gameId)
-          .map(game -> mapToDTO(game, new GameDTO()))
-          .orElseThrow(() -> new NotFoundException("Game not found with id: " + gameId));
-    } catch (Exception e) {
-      log.error("Error getting game with id: {}", gameId, e);
-      throw new RuntimeException("Failed to retrieve game with id: " + gameId, e);
-    }
+    log.info("Retrieving game with id: {}", gameId);
+    return gameRepository
+        .findById(gameId)
+        .map(game -> mapToDTO(game, new GameDTO()))
+        .orElseThrow(() -> GAME_NOT_FOUND);
+  }
+  /**
+   * Retrieves several GameDTOs at once.
+   *
+   * @param gameIds the IDs of the games
+   * @return the games in request order and the IDs that were not found
+   */
+  public BatchResult<GameDTO> getAll(final List<Integer> gameIds) {
+    log.debug("Retrieving {} games by id", gameIds.size());
+    return BatchFetcher.fetch(
+        gameIds,
+        gameRepository::findAllById,
+        Game::getGameId,
+        game -> mapToDTO(game, new GameDTO()));
   }
 
   /**
@@ -113,15 +131,12 @@ public class GameService {
    */
   @Transactional
   public Integer create(final GameDTO gameDTO) {
-    try {
-      log.info("Creating new game");
-      final Game game = new Game();
-      mapToEntity(gameDTO, game);
-      return gameRepository.save(game).getGameId();
-    } catch (Exception e) {
-      log.error("Error creating game", e);
-      throw new RuntimeException("Failed to create game", e);
-    }
+    log.info("Creating new game");
+    final Game game = new Game();
+    mapToEntity(gameDTO, game);
+    final Integer gameId = gameRepository.save(game).getGameId();
+    touchSeason(game);
+    return gameId;
   }
 
   /**
@@ -132,18 +147,13 @@ public class GameService {
    */
   @Transactional
   public void update(final Integer gameId, final GameDTO gameDTO) {
-    try {
-      log.info("Updating game with id: {}", gameId);
-      final Game game =
-          gameRepository
-              .findById(gameId)
-              .orElseThrow(() -> new NotFoundException("Game not found with id: " + gameId));
-      mapToEntity(gameDTO, game);
-      gameRepository.save(game);
-    } catch (Exception e) {
-      log.error("Error updating game with id: {}", gameId, e);
-      throw new RuntimeException("Failed to update game with id: " + gameId, e);
-    }
+    log.info("Updating game with id: {}", gameId);
+    final Game game = gameRepository.findById(gameId).orElseThrow(() -> GAME_NOT_FOUND);
+    // the game may move season, so both the old and the new one are stale
+    touchSeason(game);
+    mapToEntity(gameDTO, game);
+    gameRepository.save(game);
+    touchSeason(game);
   }
 
   /**
@@ -153,12 +163,19 @@ public class GameService {
    */
   @Transactional
   public void delete(final Integer gameId) {
-    try {
-      log.info("Deleting game with id: {}", gameId);
-      gameRepository.deleteById(gameId);
-    } catch (Exception e) {
-      log.error("Error deleting game with id: {}", gameId, e);
-      throw new RuntimeException("Failed to delete game with id: " + gameId, e);
+    log.info("Deleting game with id: {}", gameId);
+    gameRepository
+        .findById(gameId)
+        .ifPresent(
+            game -> {
+              touchSeason(game);
+              gameRepository.delete(game);
+            });
+  }
+
+  private void touchSeason(final Game game) {
+    if (game.getSeason() != null) {
+      seasonVersionService.touch(game.getSeason().getSeasonId());
     }
   }
 
@@ -169,7 +186,7 @@ public class GameService {
    * @param gameDTO the GameDTO
    * @return the mapped GameDTO
    */
-  private GameDTO mapToDTO(final Game game, final GameDTO gameDTO) {
+  GameDTO mapToDTO(final Game game, final GameDTO gameDTO) {
     gameDTO.setGameId(game.getGameId());
     gameDTO.setGameNumber(game.getGameNumber());
     gameDTO.setStartTime(game.getStartTime());
@@ -194,55 +211,39 @@ public class GameService {
     final Season season =
         gameDTO.getSeason() == null
             ? null
-            : seasonRepository
-                .findById(gameDTO.getSeason())
-                .orElseThrow(
-                    () ->
-                        new NotFoundException("Season not found with id: " + gameDTO.getSeason()));
+            : seasonRepository.findById(gameDTO.getSeason()).orElseThrow(() -> SEASON_NOT_FOUND);
     game.setSeason(season);
     return game;
   }
 
   /**
-   * Retrieves the season ID by game number.
+   * Creates the next game of a season, numbering it server side.
    *
-   * @param gameNumber the number of the game
-   * @return the season ID
+   * @param seasonName the name of the season
+   * @return the number allocated to the game
    */
-  public Integer getSeasonIdByGameNumber(int gameNumber) {
-    try {
-      log.info("Retrieving season ID for game number: {}", gameNumber);
-      Game game =
-          gameRepository
-              .findByGameNumber(gameNumber)
-              .orElseThrow(
-                  () -> new NotFoundException("Game not found with game number: " + gameNumber));
-      return game.getSeason().getSeasonId();
-    } catch (Exception e) {
-      log.error("Error retrieving season ID for game number: {}", gameNumber, e);
-      throw new RuntimeException("Failed to retrieve season ID for game number: " + gameNumber, e);
-    }
+  @Transactional
+  public int createGame(String seasonName) {
+    final int seasonId = seasonService.getSeasonIdByName(seasonName);
+    final int gameNumber = allocateGameNumber(seasonId);
+    log.info("Creating game for season: {}, game number: {}", seasonName, gameNumber);
+    GameDTO gamesDTO = new GameDTO();
+    gamesDTO.setSeason(seasonId);
+    gamesDTO.setGameNumber(gameNumber);
+    create(gamesDTO);
+    return gameNumber;
   }
 
   /**
-   * Creates a new game for a specific season.
-   *
-   * @param seasonName the name of the season
-   * @param gameNumber the number of the game
+   * Hands out the next game number of a season. The season row stays locked until the surrounding
+   * transaction commits, so concurrent creates on any node queue up behind it and never see the
+   * same number.
    */
-  @Transactional
-  public void createGame(String seasonName, int gameNumber) {
-    try {
-      log.info("Creating game for season: {}, game number: {}", seasonName, gameNumber);
-      GameDTO gamesDTO = new GameDTO();
-      gamesDTO.setSeason(seasonService.getSeasonIdByName(seasonName));
-      gamesDTO.setGameNumber(gameNumber);
-      create(gamesDTO);
-    } catch (Exception e) {
-      log.error("Error creating game for season: {}, game number: {}", seasonName, gameNumber, e);
-      throw new RuntimeException(
-          "Failed to create game for season: " + seasonName + ", game number: " + gameNumber, e);
+  private int allocateGameNumber(final int seasonId) {
+    if (seasonRepository.incrementLastGameNumber(seasonId) == 0) {
+      throw SEASON_NOT_FOUND;
     }
+    return seasonRepository.findLastGameNumber(seasonId);
   }
 
   /**
@@ -252,37 +253,34 @@ public class GameService {
    * @return the ReferencedWarning
    */
   public ReferencedWarning getReferencedWarning(final Integer gameId) {
-    try {
-      log.info("Retrieving referenced warning for game with id: {}", gameId);
-      final ReferencedWarning referencedWarning = new ReferencedWarning();
-      final Game game =
-          gameRepository
-              .findById(gameId)
-              .orElseThrow(() -> new NotFoundException("Game not found with id: " + gameId));
-      final GameBuyIn gameGameBuyIn = gameBuyInRepository.findFirstByGame(game);
-      if (gameGameBuyIn != null) {
-        referencedWarning.setKey("game.gameBuyIn.game.referenced");
-        referencedWarning.addParam(gameGameBuyIn.getGameBuyInId());
-        return referencedWarning;
-      }
-      final GameResult gameGameResult = gameResultRepository.findFirstByGame(game);
-      if (gameGameResult != null) {
-        referencedWarning.setKey("game.gameResult.game.referenced");
-        referencedWarning.addParam(gameGameResult.getGameResultId());
-        return referencedWarning;
-      }
-      final PlayerParticipation gamePlayerParticipation =
-          playerParticipationRepository.findFirstByGame(game);
-      if (gamePlayerParticipation != null) {
-        referencedWarning.setKey("game.playerParticipation.game.referenced");
-        referencedWarning.addParam(gamePlayerParticipation.getParticipationId());
-        return referencedWarning;
-      }
-      return null;
-    } catch (Exception e) {
-      log.error("Error retrieving referenced warning for game with id: {}", gameId, e);
-      throw new RuntimeException(
-          "Failed to retrieve referenced warning for game with id: " + gameId, e);
+    log.info("Retrieving referenced warning for game with id: {}", gameId);
+    final ReferencedWarning referencedWarning = new ReferencedWarning();
+    final Game game = gameRepository.findById(gameId).orElseThrow(() -> GAME_NOT_FOUND);
+    final GameBuyIn gameGameBuyIn = gameBuyInRepository.findFirstByGame(game);
+    if (gameGameBuyIn != null) {
+      referencedWarning.setKey("game.gameBuyIn.game.referenced");
+      referencedWarning.addParam(gameGameBuyIn.getGameBuyInId());
+      return referencedWarning;
+    }
+    final GameResult gameGameResult = gameResultRepository.findFirstByGame(game);
+    if (gameGameResult != null) {
+      referencedWarning.setKey("game.gameResult.game.referenced");
+      referencedWarning.addParam(gameGameResult.getGameResultId());
+      return referencedWarning;
+    }
+    final PlayerParticipation gamePlayerParticipation =
+        playerParticipationRepository.findFirstByGame(game);
+    if (gamePlayerParticipation != null) {
+      referencedWarning.setKey("game.playerParticipation.game.referenced");
+      referencedWarning.addParam(gamePlayerParticipation.getParticipationId());
+      return referencedWarning;
+    }
+    final AllInShowdown gameAllInShowdown = allInShowdownRepository.findFirstByGame(game);
+    if (gameAllInShowdown != null) {
+      referencedWarning.setKey("game.allInShowdown.game.referenced");
+      referencedWarning.addParam(gameAllInShowdown.getAllInShowdownId());
+      return referencedWarning;
     }
+    return null;
   }
 }
@@ -0,0 +1,23 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+  /** Pause between relay runs once the backlog is drained. */
+  private Duration relayInterval = Duration.ofMillis(200);
+
+  /** Events claimed per relay transaction. A full batch makes the relay go again at once. */
+  private int relayBatchSize = 500;
+
+  /** Most events one {@code /events} call returns. */
+  private int maxPageSize = 1000;
+}
@@ -0,0 +1,70 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import io.games.poker_tournament_tracker.model.OutboxEventDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves committed outbox events onto the in-process event bus, in position order. Listeners take
+ * {@link OutboxEventDTO}. Each run first claims pending events, giving them positions, then
+ * publishes every event after the last position it published, whichever node claimed it. Every node
+ * runs a relay, so every node's bus sees every event once, starting from the position that was last
+ * when the relay first ran. Full batches are followed straight away by the next one so a burst
+ * drains without waiting for the next tick.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+  private final OutboxService outboxService;
+  private final OutboxProperties outboxProperties;
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  /** The last position published here; only the scheduler thread touches it. */
+  private long position = -1;
+
+  public OutboxRelay(
+      OutboxService outboxService,
+      OutboxProperties outboxProperties,
+      ApplicationEventPublisher applicationEventPublisher) {
+    this.outboxService = outboxService;
+    this.outboxProperties = outboxProperties;
+    this.applicationEventPublisher = applicationEventPublisher;
+  }
+
+  /** Runs every {@code outbox.relay-interval}, scheduled by the outbox config. */
+  public void relay() {
+    if (position < 0) {
+      position = outboxService.findLastPosition();
+    }
+    final int batchSize = outboxProperties.getRelayBatchSize();
+    try {
+      int claimed;
+      do {
+        claimed = outboxService.claimPending(batchSize);
+      } while (claimed == batchSize);
+    } catch (DataIntegrityViolationException e) {
+      // another node claimed the same positions; ours are claimed on the next run
+      log.debug("Outbox claim lost to another relay: {}", e.getMessage());
+    }
+    List<OutboxEventDTO> batch;
+    do {
+      batch = outboxService.findPublishedAfter(position, batchSize);
+      for (OutboxEventDTO outboxEvent : batch) {
+        try {
+          applicationEventPublisher.publishEvent(outboxEvent);
+        } catch (RuntimeException e) {
+          // the event is committed and still readable through /events; don't hold up the rest
+          log.warn("Listener failed on outbox event {}", outboxEvent.position(), e);
+        }
+        position = outboxEvent.position();
+      }
+    } while (batch.size() == batchSize);
+  }
+}
@@ -0,0 +1,173 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.games.poker_tournament_tracker.domain.OutboxEvent;
+import io.games.poker_tournament_tracker.model.OutboxEventDTO;
+import io.games.poker_tournament_tracker.repos.OutboxEventRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class for the transactional outbox. Writers append events inside their own transaction,
+ * {@link OutboxRelay} stamps them with positions after commit, and consumers, the relays among
+ * them, page through them by position.
+ */
+@Service
+@Slf4j
+public class OutboxService {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxProperties outboxProperties;
+  private final ObjectMapper objectMapper;
+  private final SeasonVersionService seasonVersionService;
+
+  @Autowired
+  public OutboxService(
+      OutboxEventRepository outboxEventRepository,
+      OutboxProperties outboxProperties,
+      ObjectMapper objectMapper,
+      SeasonVersionService seasonVersionService) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.outboxProperties = outboxProperties;
+    this.objectMapper = objectMapper;
+    this.seasonVersionService = seasonVersionService;
+  }
+
+  /**
+   * Appends an event to the outbox. Must run inside the transaction making the change, so the event
+   * is stored if and only if the change is. Every season-scoped write passes through here, so this
+   * is also where the season's data version is bumped.
+   *
+   * @param eventType what happened, e.g. {@code GameBuyInCreated}
+   * @param aggregateType the kind of row that changed, e.g. {@code GameBuyIn}
+   * @param aggregateId the ID of the row that changed
+   * @param seasonId the season the row belongs to
+   * @param payload the row's DTO, stored as JSON
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(
+      String eventType,
+      String aggregateType,
+      Integer aggregateId,
+      Integer seasonId,
+      Object payload) {
+    final OutboxEvent outboxEvent = new OutboxEvent();
+    outboxEvent.setEventType(eventType);
+    outboxEvent.setAggregateType(aggregateType);
+    outboxEvent.setAggregateId(aggregateId);
+    outboxEvent.setSeasonId(seasonId);
+    try {
+      outboxEvent.setPayload(objectMapper.writeValueAsString(payload));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize " + eventType + " payload", e);
+    }
+    outboxEvent.setCreatedAt(OffsetDateTime.now());
+    outboxEventRepository.save(outboxEvent);
+    if (seasonId != null) {
+      seasonVersionService.touch(seasonId);
+    }
+  }
+
+  /**
+   * Claims the oldest unpublished events, giving each the next position. The events are locked
+   * while they are claimed, so relays on other nodes skip them. Two claimers that read the same
+   * highest position collide on the unique position index when flushing; the one that loses rolls
+   * back and its events are claimed again on its next run. A position therefore never commits
+   * before a lower one, so a reader that has seen position n has seen everything below it.
+   *
+   * @param batchSize the most events to claim
+   * @return how many events were claimed
+   * @throws org.springframework.dao.DataIntegrityViolationException if another claimer took the
+   *     same positions first
+   */
+  @Transactional
+  public int claimPending(int batchSize) {
+    final List<OutboxEvent> pending =
+        outboxEventRepository.findPendingForUpdate(Limit.of(batchSize));
+    if (pending.isEmpty()) {
+      return 0;
+    }
+    long position = outboxEventRepository.findMaxPosition();
+    final OffsetDateTime publishedAt = OffsetDateTime.now();
+    for (OutboxEvent outboxEvent : pending) {
+      outboxEvent.setPosition(++position);
+      outboxEvent.setPublishedAt(publishedAt);
+    }
+    outboxEventRepository.flush();
+    log.debug("Claimed {} outbox events up to position {}", pending.size(), position);
+    return pending.size();
+  }
+
+  /**
+   * Retrieves the highest published position, where a relay starting up begins following.
+   *
+   * @return the position, 0 when nothing was published yet
+   */
+  @Transactional(readOnly = true)
+  public long findLastPosition() {
+    return outboxEventRepository.findMaxPosition();
+  }
+
+  /**
+   * Retrieves published events after a position for the relay, which polls constantly, so unlike
+   * {@link #findAfter} this neither logs nor caps the page.
+   *
+   * @param after the last position the relay has published
+   * @param limit the most events to return
+   * @return the events, oldest first
+   */
+  @Transactional(readOnly = true)
+  public List<OutboxEventDTO> findPublishedAfter(long after, int limit) {
+    return outboxEventRepository
+        .findByPositionGreaterThanOrderByPosition(after, Limit.of(limit))
+        .stream()
+        .map(this::mapToDTO)
+        .toList();
+  }
+
+  /**
+   * Retrieves published events after a position, oldest first.
+   *
+   * @param after the last position the consumer has seen, 0 for the start
+   * @param limit the most events to return, capped at {@code outbox.max-page-size}
+   * @return the events
+   */
+  @Transactional(readOnly = true)
+  public List<OutboxEventDTO> findAfter(long after, int limit) {
+    log.info("Retrieving outbox events after position: {}", after);
+    final int pageSize = Math.max(1, Math.min(limit, outboxProperties.getMaxPageSize()));
+    return outboxEventRepository
+        .findByPositionGreaterThanOrderByPosition(after, Limit.of(pageSize))
+        .stream()
+        .map(this::mapToDTO)
+        .toList();
+  }
+
+  /**
+   * Maps an OutboxEvent entity to an OutboxEventDTO.
+   *
+   * @param outboxEvent the OutboxEvent entity
+   * @return the mapped OutboxEventDTO
+   */
+  private OutboxEventDTO mapToDTO(final OutboxEvent outboxEvent) {
+    return new OutboxEventDTO(
+        outboxEvent.getPosition(),
+        outboxEvent.getEventType(),
+        outboxEvent.getAggregateType(),
+        outboxEvent.getAggregateId(),
+        outboxEvent.getSeasonId(),
+        outboxEvent.getPayload(),
+        outboxEvent.getCreatedAt(),
+        outboxEvent.getPublishedAt());
+  }
+}
@@ -23,11 +23,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PlayerParticipationService {
 
+  private static final NotFoundException PLAYER_PARTICIPATION_NOT_FOUND =
+      new NotFoundException("Player participation not found");
+  private static final NotFoundException GAME_NOT_FOUND = new NotFoundException("Game not found");
+  private static final NotFoundException SEASON_PLAYER_NOT_FOUND =
+      new NotFoundException("Season player not found");
+
   private final PlayerParticipationRepository playerParticipationRepository;
   private final GameRepository gameRepository;
   private final SeasonPlayerRepository seasonPlayerRepository;
   private final SeasonPlayerService seasonPlayerService;
   private final GameService gameService;
+  private final SeasonService seasonService;
+
+  private final OutboxService outboxService;
 
   @Autowired
   public PlayerParticipationService(
@@ -35,12 +44,16 @@ public class PlayerParticipationService {
       GameRepository gameRepository,
       SeasonPlayerRepository seasonPlayerRepository,
       SeasonPlayerService seasonPlayerService,
-      GameService gameService) {
+      GameService gameService,
+      SeasonService seasonService,
+      OutboxService outboxService) {
     this.playerParticipationRepository = playerParticipationRepository;
     this.gameRepository = gameRepository;
     this.seasonPlayerRepository = seasonPlayerRepository;
     this.seasonPlayerService = seasonPlayerService;
     this.gameService = gameService;
+    this.seasonService = seasonService;
+    this.outboxService = outboxService;
   }
 
   /**
@@ -49,17 +62,12 @@ public class PlayerParticipationService {
    * @return a list of PlayerParticipationDTOs
    */
   public List<PlayerParticipationDTO> findAll() {
-    try {
-      log.info("Retrieving all player participations");
-      final List<PlayerParticipation> playerParticipations =
-          playerParticipationRepository.findAll(Sort.by("participationId"));
-      return playerParticipations.stream()
-          .map(playerParticipation -> mapToDTO(playerParticipation, new PlayerParticipationDTO()))
-          .toList();
-    } catch (Exception e) {
-      log.error("Error finding all player participations", e);
-      throw new RuntimeException("Failed to retrieve all player participations", e);
-    }
+    log.info("Retrieving all player participations");
+    final List<PlayerParticipation> playerParticipations =
+        playerParticipationRepository.findAll(Sort.by("participationId"));
+    return playerParticipations.stream()
+        .map(playerParticipation -> mapToDTO(playerParticipation, new PlayerParticipationDTO()))
+        .toList();
   }
 
   /**
@@ -69,20 +77,11 @@ public class PlayerParticipationService {
    * @return the PlayerParticipationDTO
    */
   public PlayerParticipationDTO get(final Integer participationId) {
-    try {
-      log.info("Retrieving player participation with id: {}", participationId);
-      return playerParticipationRepository
-          .findById(participationId)
-          .map(playerParticipation -> mapToDTO(playerParticipation, new PlayerParticipationDTO()))
-          .orElseThrow(
-              () ->
-                  new NotFoundException(
-                      "Player participation not found with id: " + participationId));
-    } catch (Exception e) {
-      log.error("Error getting player participation with id: {}", participationId, e);
-      throw new RuntimeException(
-          "Failed to retrieve player participation with id: " + participationId, e);
-    }
+    log.info("Retrieving player participation with id: {}", participationId);
+    return playerParticipationRepository
+        .findById(participationId)
+        .map(playerParticipation -> mapToDTO(playerParticipation, new PlayerParticipationDTO()))
+        .orElseThrow(() -> PLAYER_PARTICIPATION_NOT_FOUND);
   }
 
   /**
@@ -93,15 +92,18 @@ public class PlayerParticipationService {
    */
   @Transactional
   public Integer create(final PlayerParticipationDTO playerParticipationDTO) {
-    try {
-      log.info("Creating new player participation");
-      final PlayerParticipation playerParticipation = new PlayerParticipation();
-      mapToEntity(playerParticipationDTO, playerParticipation);
-      return playerParticipationRepository.save(playerParticipation).getParticipationId();
-    } catch (Exception e) {
-      log.error("Error creating player participation", e);
-      throw new RuntimeException("Failed to create player participation", e);
-    }
+    log.info("Creating new player participation");
+    final PlayerParticipation playerParticipation = new PlayerParticipation();
+    mapToEntity(playerParticipationDTO, playerParticipation);
+    final Integer participationId =
+        playerParticipationRepository.save(playerParticipation).getParticipationId();
+    outboxService.append(
+        "PlayerParticipationCreated",
+        "PlayerParticipation",
+        participationId,
+        seasonIdOf(playerParticipation),
+        mapToDTO(playerParticipation, new PlayerParticipationDTO()));
+    return participationId;
   }
 
   /**
@@ -113,22 +115,19 @@ public class PlayerParticipationService {
   @Transactional
   public void update(
       final Integer participationId, final PlayerParticipationDTO playerParticipationDTO) {
-    try {
-      log.info("Updating player participation with id: {}", participationId);
-      final PlayerParticipation playerParticipation =
-          playerParticipationRepository
-              .findById(participationId)
-              .orElseThrow(
-                  () ->
-                      new NotFoundException(
-                          "Player participation not found with id: " + participationId));
-      mapToEntity(playerParticipationDTO, playerParticipation);
-      playerParticipationRepository.save(playerParticipation);
-    } catch (Exception e) {
-      log.error("Error updating player participation with id: {}", participationId, e);
-      throw new RuntimeException(
-          "Failed to update player participation with id: " + participationId, e);
-    }
+    log.info("Updating player participation with id: {}", participationId);
+    final PlayerParticipation playerParticipation =
+        playerParticipationRepository
+            .findById(participationId)
+            .orElseThrow(() -> PLAYER_PARTICIPATION_NOT_FOUND);
+    mapToEntity(playerParticipationDTO, playerParticipation);
+    playerParticipationRepository.save(playerParticipation);
+    outboxService.append(
+        "PlayerParticipationUpdated",
+        "PlayerParticipation",
+        participationId,
+        seasonIdOf(playerParticipation),
+        mapToDTO(playerParticipation, new PlayerParticipationDTO()));
   }
 
   /**
@@ -138,14 +137,25 @@ public class PlayerParticipationService {
    */
   @Transactional
   public void delete(final Integer participationId) {
-    try {
-      log.info("Deleting player participation with id: {}", participationId);
-      playerParticipationRepository.deleteById(participationId);
-    } catch (Exception e) {
-      log.error("Error deleting player participation with id: {}", participationId, e);
-      throw new RuntimeException(
-          "Failed to delete player participation with id: " + participationId, e);
-    }
+    log.info("Deleting player participation with id: {}", participationId);
+    playerParticipationRepository
+        .findById(participationId)
+        .ifPresent(
+            playerParticipation -> {
+              outboxService.append(
+                  "PlayerParticipationDeleted",
+                  "PlayerParticipation",
+                  participationId,
+                  seasonIdOf(playerParticipation),
+                  mapToDTO(playerParticipation, new PlayerParticipationDTO()));
+              playerParticipationRepository.delete(playerParticipation);
+            });
+  }
+
+  private static Integer seasonIdOf(final PlayerParticipation playerParticipation) {
+    return playerParticipation.getGame() == null
+        ? null
+        : playerParticipation.getGame().getSeason().getSeasonId();
   }
 
   /**
@@ -155,7 +165,7 @@ public class PlayerParticipationService {
    * @param playerParticipationDTO the PlayerParticipationDTO
    * @return the mapped PlayerParticipationDTO
    */
-  private PlayerParticipationDTO mapToDTO(
+  PlayerParticipationDTO mapToDTO(
       final PlayerParticipation playerParticipation,
       final PlayerParticipationDTO playerParticipationDTO) {
     playerParticipationDTO.setParticipationId(playerParticipation.getParticipationId());
@@ -187,21 +197,14 @@ public class PlayerParticipationService {
             ? null
             : gameRepository
                 .findById(playerParticipationDTO.getGame())
-                .orElseThrow(
-                    () ->
-                        new NotFoundException(
-                            "Game not found with id: " + playerParticipationDTO.getGame()));
+                .orElseThrow(() -> GAME_NOT_FOUND);
     playerParticipation.setGame(game);
     final SeasonPlayer seasonPlayer =
         playerParticipationDTO.getSeasonPlayer() == null
             ? null
             : seasonPlayerRepository
                 .findById(playerParticipationDTO.getSeasonPlayer())
-                .orElseThrow(
-                    () ->
-                        new NotFoundException(
-                            "Season player not found with id: "
-                                + playerParticipationDTO.getSeasonPlayer()));
+                .orElseThrow(() -> SEASON_PLAYER_NOT_FOUND);
     playerParticipation.setSeasonPlayer(seasonPlayer);
     return playerParticipation;
   }
@@ -211,37 +214,25 @@ public class PlayerParticipationService {
    *
    * @param playerName the name of the player
    * @param playerParticipation the participation status
-   * @param gameNumber the number of the game
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
    */
   @Transactional
   public void createPlayerParticipation(
       String playerName,
       io.games.poker_tournament_tracker.service.impl.PlayerParticipation playerParticipation,
+      String seasonName,
       int gameNumber) {
-    try {
-      log.info(
-          "Creating player participation for player: {}, game number: {}", playerName, gameNumber);
-      PlayerParticipationDTO playerParticipationDTO = new PlayerParticipationDTO();
-      playerParticipationDTO.setSeasonPlayer(
-          seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(
-              playerName, gameService.getSeasonIdByGameNumber(gameNumber)));
-      playerParticipationDTO.setGame(gameService.getGameId(gameNumber));
-      playerParticipationDTO.setParticipated(
-          playerParticipation.equals(
-              io.games.poker_tournament_tracker.service.impl.PlayerParticipation.YES));
-      create(playerParticipationDTO);
-    } catch (Exception e) {
-      log.error(
-          "Error creating player participation for player: {}, game number: {}",
-          playerName,
-          gameNumber,
-          e);
-      throw new RuntimeException(
-          "Failed to create player participation for player: "
-              + playerName
-              + ", game number: "
-              + gameNumber,
-          e);
-    }
+    log.info(
+        "Creating player participation for player: {}, game number: {}", playerName, gameNumber);
+    PlayerParticipationDTO playerParticipationDTO = new PlayerParticipationDTO();
+    int seasonId = seasonService.getSeasonIdByName(seasonName);
+    playerParticipationDTO.setSeasonPlayer(
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(playerName, seasonId));
+    playerParticipationDTO.setGame(gameService.getGameId(seasonId, gameNumber));
+    playerParticipationDTO.setParticipated(
+        playerParticipation.equals(
+            io.games.poker_tournament_tracker.service.impl.PlayerParticipation.YES));
+    create(playerParticipationDTO);
   }
 }
@@ -7,9 +7,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.games.poker_tournament_tracker.cache.CacheInvalidator;
+import io.games.poker_tournament_tracker.cache.CacheNames;
 import io.games.poker_tournament_tracker.domain.Player;
 import io.games.poker_tournament_tracker.domain.SeasonPlayer;
+import io.games.poker_tournament_tracker.model.BatchResult;
 import io.games.poker_tournament_tracker.model.PlayerDTO;
+import io.games.poker_tournament_tracker.monitoring.NameLookupEvent;
 import io.games.poker_tournament_tracker.repos.PlayerRepository;
 import io.games.poker_tournament_tracker.repos.SeasonPlayerRepository;
 import io.games.poker_tournament_tracker.util.NotFoundException;
@@ -22,14 +26,24 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PlayerService {
 
+  private static final NotFoundException PLAYER_NOT_FOUND =
+      new NotFoundException("Player not found");
+
   private final PlayerRepository playerRepository;
   private final SeasonPlayerRepository seasonPlayerRepository;
+  private final CacheInvalidator cacheInvalidator;
+  private final SeasonVersionService seasonVersionService;
 
   @Autowired
   public PlayerService(
-      PlayerRepository playerRepository, SeasonPlayerRepository seasonPlayerRepository) {
+      PlayerRepository playerRepository,
+      SeasonPlayerRepository seasonPlayerRepository,
+      CacheInvalidator cacheInvalidator,
+      SeasonVersionService seasonVersionService) {
     this.playerRepository = playerRepository;
     this.seasonPlayerRepository = seasonPlayerRepository;
+    this.cacheInvalidator = cacheInvalidator;
+    this.seasonVersionService = seasonVersionService;
   }
 
   /**
@@ -38,14 +52,9 @@ public class PlayerService {
    * @return a list of PlayerDTOs
    */
   public List<PlayerDTO> findAll() {
-    try {
-      log.info("Retrieving all players");
-      final List<Player> players = playerRepository.findAll(Sort.by("playerId"));
-      return players.stream().map(player -> mapToDTO(player, new PlayerDTO())).toList();
-    } catch (Exception e) {
-      log.error("Error finding all players", e);
-      throw new RuntimeException("Failed to retrieve all players", e);
-    }
+    log.info("Retrieving all players");
+    final List<Player> players = playerRepository.findAll(Sort.by("playerId"));
+    return players.stream().map(player -> mapToDTO(player, new PlayerDTO())).toList();
   }
 
   /**
@@ -55,13 +64,15 @@ public class PlayerService {
    * @return the player ID
    */
   public int getPlayerIdByName(String name) {
-    try {
-      log.info("Retrieving player ID for name: {}", name);
-      return playerRepository.findPlayerIdByName(name);
-    } catch (Exception e) {
-      log.error("Error retrieving player ID for name: {}", name, e);
-      throw new RuntimeException("Failed to retrieve player ID for name: " + name, e);
-    }
+    return cacheInvalidator.getOrLoad(
+        CacheNames.PLAYER_IDS_BY_NAME,
+        name,
+        () -> {
+          log.debug("Retrieving player ID for name: {}", name);
+          return NameLookupEvent.time(
+                  "player", name, () -> playerRepository.findPlayerIdByName(name))
+              .orElseThrow(() -> PLAYER_NOT_FOUND);
+        });
   }
 
   /**
@@ -71,25 +82,20 @@ public class PlayerService {
    * @return the player ID
    */
   public Integer getOrCreatePlayerIdByName(String name) {
-    try {
-      log.info("Retrieving or creating player ID for name: {}", name);
-      List<Player> players = playerRepository.findAll();
-      return players.stream()
-          .filter(player -> player.getName().equals(name))
-          .findFirst()
-          .map(Player::getPlayerId)
-          .orElseGet(
-              () -> {
-                PlayerDTO newPlayer = new PlayerDTO();
-                newPlayer.setName(name);
-                Integer playerId = create(newPlayer);
-                log.info("Created new player with ID: {}", playerId);
-                return playerId;
-              });
-    } catch (Exception e) {
-      log.error("Error retrieving or creating player ID for name: {}", name, e);
-      throw new RuntimeException("Failed to retrieve or create player ID for name: " + name, e);
-    }
+    log.debug("Retrieving or creating player ID for name: {}", name);
+    List<Player> players = playerRepository.findAll();
+    return players.stream()
+        .filter(player -> player.getName().equals(name))
+        .findFirst()
+        .map(Player::getPlayerId)
+        .orElseGet(
+            () -> {
+              PlayerDTO newPlayer = new PlayerDTO();
+              newPlayer.setName(name);
+              Integer playerId = create(newPlayer);
+              log.info("Created new player with ID: {}", playerId);
+              return playerId;
+            });
   }
 
   /**
@@ -99,16 +105,30 @@ public class PlayerService {
    * @return the PlayerDTO
    */
   public PlayerDTO get(final Integer playerId) {
-    try {
-      log.info("Retrieving player with id: {}", playerId);
-      return playerRepository
-          .findById(playerId)
-          .map(player -> mapToDTO(player, new PlayerDTO()))
-          .orElseThrow(() -> new NotFoundException("Player not found with id: " + playerId));
-    } catch (Exception e) {
-      log.error("Error getting player with id: {}", playerId, e);
-      throw new RuntimeException("Failed to retrieve player with id: " + playerId, e);
-    }
+    return cacheInvalidator.getOrLoad(
+        CacheNames.PLAYERS,
+        playerId,
+        () -> {
+          log.info("Retrieving player with id: {}", playerId);
+          return playerRepository
+              .findById(playerId)
+              .map(player -> mapToDTO(player, new PlayerDTO()))
+              .orElseThrow(() -> PLAYER_NOT_FOUND);
+        });
+  }
+  /**
+   * Retrieves several PlayerDTOs at once.
+   *
+   * @param playerIds the IDs of the players
+   * @return the players in request order and the IDs that were not found
+   */
+  public BatchResult<PlayerDTO> getAll(final List<Integer> playerIds) {
+    log.debug("Retrieving {} players by id", playerIds.size());
+    return BatchFetcher.fetch(
+        playerIds,
+        playerRepository::findAllById,
+        Player::getPlayerId,
+        player -> mapToDTO(player, new PlayerDTO()));
   }
 
   /**
@@ -119,15 +139,10 @@ public class PlayerService {
    */
   @Transactional
   public Integer create(final PlayerDTO playerDTO) {
-    try {
-      log.info("Creating new player");
-      final Player player = new Player();
-      mapToEntity(playerDTO, player);
-      return playerRepository.save(player).getPlayerId();
-    } catch (Exception e) {
-      log.error("Error creating player", e);
-      throw new RuntimeException("Failed to create player", e);
-    }
+    log.info("Creating new player");
+    final Player player = new Player();
+    mapToEntity(playerDTO, player);
+    return playerRepository.save(player).getPlayerId();
   }
 
   /**
@@ -138,18 +153,12 @@ public class PlayerService {
    */
   @Transactional
   public void update(final Integer playerId, final PlayerDTO playerDTO) {
-    try {
-      log.info("Updating player with id: {}", playerId);
-      final Player player =
-          playerRepository
-              .findById(playerId)
-              .orElseThrow(() -> new NotFoundException("Player not found with id: " + playerId));
-      mapToEntity(playerDTO, player);
-      playerRepository.save(player);
-    } catch (Exception e) {
-      log.error("Error updating player with id: {}", playerId, e);
-      throw new RuntimeException("Failed to update player with id: " + playerId, e);
-    }
+    log.info("Updating player with id: {}", playerId);
+    final Player player = playerRepository.findById(playerId).orElseThrow(() -> PLAYER_NOT_FOUND);
+    mapToEntity(playerDTO, player);
+    playerRepository.save(player);
+    evictCaches(playerId);
+    seasonVersionService.touchByPlayer(playerId);
   }
 
   /**
@@ -159,13 +168,16 @@ public class PlayerService {
    */
   @Transactional
   public void delete(final Integer playerId) {
-    try {
-      log.info("Deleting player with id: {}", playerId);
-      playerRepository.deleteById(playerId);
-    } catch (Exception e) {
-      log.error("Error deleting player with id: {}", playerId, e);
-      throw new RuntimeException("Failed to delete player with id: " + playerId, e);
-    }
+    log.info("Deleting player with id: {}", playerId);
+    playerRepository.deleteById(playerId);
+    evictCaches(playerId);
+  }
+
+  /** Names are cached by value and show up in every season detail, so those go wholesale. */
+  private void evictCaches(final Integer playerId) {
+    cacheInvalidator.evict(CacheNames.PLAYERS, playerId);
+    cacheInvalidator.evict(CacheNames.PLAYER_IDS_BY_NAME, null);
+    cacheInvalidator.evict(CacheNames.SEASON_DETAILS, null);
   }
 
   /**
@@ -175,7 +187,7 @@ public class PlayerService {
    * @param playerDTO the PlayerDTO
    * @return the mapped PlayerDTO
    */
-  private PlayerDTO mapToDTO(final Player player, final PlayerDTO playerDTO) {
+  PlayerDTO mapToDTO(final Player player, final PlayerDTO playerDTO) {
     playerDTO.setPlayerId(player.getPlayerId());
     playerDTO.setName(player.getName());
     playerDTO.setCreatedAt(player.getCreatedAt());
@@ -202,24 +214,15 @@ public class PlayerService {
    * @return the ReferencedWarning
    */
   public ReferencedWarning getReferencedWarning(final Integer playerId) {
-    try {
-      log.info("Retrieving referenced warning for player with id: {}", playerId);
-      final ReferencedWarning referencedWarning = new ReferencedWarning();
-      final Player player =
-          playerRepository
-              .findById(playerId)
-              .orElseThrow(() -> new NotFoundException("Player not found with id: " + playerId));
-      final SeasonPlayer playerSeasonPlayer = seasonPlayerRepository.findFirstByPlayer(player);
-      if (playerSeasonPlayer != null) {
-        referencedWarning.setKey("player.seasonPlayer.player.referenced");
-        referencedWarning.addParam(playerSeasonPlayer.getSeasonPlayerId());
-        return referencedWarning;
-      }
-      return null;
-    } catch (Exception e) {
-      log.error("Error retrieving referenced warning for player with id: {}", playerId, e);
-      throw new RuntimeException(
-          "Failed to retrieve referenced warning for player with id: " + playerId, e);
+    log.info("Retrieving referenced warning for player with id: {}", playerId);
+    final ReferencedWarning referencedWarning = new ReferencedWarning();
+    final Player player = playerRepository.findById(playerId).orElseThrow(() -> PLAYER_NOT_FOUND);
+    final SeasonPlayer playerSeasonPlayer = seasonPlayerRepository.findFirstByPlayer(player);
+    if (playerSeasonPlayer != null) {
+      referencedWarning.setKey("player.seasonPlayer.player.referenced");
+      referencedWarning.addParam(playerSeasonPlayer.getSeasonPlayerId());
+      return referencedWarning;
     }
+    return null;
   }
 }
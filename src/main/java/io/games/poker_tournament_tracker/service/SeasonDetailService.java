@@ -0,0 +1,173 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.games.poker_tournament_tracker.cache.CacheInvalidator;
+import io.games.poker_tournament_tracker.cache.CacheNames;
+import io.games.poker_tournament_tracker.domain.Season;
+import io.games.poker_tournament_tracker.domain.SeasonPlayer;
+import io.games.poker_tournament_tracker.domain.SeasonVersion;
+import io.games.poker_tournament_tracker.model.GameBuyInDTO;
+import io.games.poker_tournament_tracker.model.GameDTO;
+import io.games.poker_tournament_tracker.model.GameDetailDTO;
+import io.games.poker_tournament_tracker.model.GameResultDTO;
+import io.games.poker_tournament_tracker.model.PlayerDTO;
+import io.games.poker_tournament_tracker.model.PlayerParticipationDTO;
+import io.games.poker_tournament_tracker.model.SeasonDTO;
+import io.games.poker_tournament_tracker.model.SeasonDetailDTO;
+import io.games.poker_tournament_tracker.model.SeasonPlayerDTO;
+import io.games.poker_tournament_tracker.repos.GameBuyInRepository;
+import io.games.poker_tournament_tracker.repos.GameRepository;
+import io.games.poker_tournament_tracker.repos.GameResultRepository;
+import io.games.poker_tournament_tracker.repos.PlayerParticipationRepository;
+import io.games.poker_tournament_tracker.repos.SeasonPlayerRepository;
+import io.games.poker_tournament_tracker.repos.SeasonRepository;
+import io.games.poker_tournament_tracker.util.NotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class for reading a whole Season in one go. The tree is loaded with one query per table
+ * (six in total) and stitched together in memory, so the statement count doesn't grow with the
+ * number of players or games. The result is cached through {@link CacheInvalidator#getOrLoad}, and
+ * the transaction only starts once the cache has missed.
+ *
+ * <p>The season's data version is read from the same season row, in one repeatable-read snapshot
+ * with the rest, and travels with the detail through the cache. An ETag taken from it always
+ * describes the body it is sent with.
+ */
+@Service
+@Slf4j
+public class SeasonDetailService {
+
+  private static final NotFoundException SEASON_NOT_FOUND =
+      new NotFoundException("Season not found");
+
+  private final SeasonRepository seasonRepository;
+  private final SeasonPlayerRepository seasonPlayerRepository;
+  private final GameRepository gameRepository;
+  private final GameBuyInRepository gameBuyInRepository;
+  private final GameResultRepository gameResultRepository;
+  private final PlayerParticipationRepository playerParticipationRepository;
+  private final SeasonService seasonService;
+  private final PlayerService playerService;
+  private final SeasonPlayerService seasonPlayerService;
+  private final GameService gameService;
+  private final GameBuyInService gameBuyInService;
+  private final GameResultService gameResultService;
+  private final PlayerParticipationService playerParticipationService;
+  private final CacheInvalidator cacheInvalidator;
+  private final TransactionTemplate readOnlyTransaction;
+
+  @Autowired
+  public SeasonDetailService(
+      SeasonRepository seasonRepository,
+      SeasonPlayerRepository seasonPlayerRepository,
+      GameRepository gameRepository,
+      GameBuyInRepository gameBuyInRepository,
+      GameResultRepository gameResultRepository,
+      PlayerParticipationRepository playerParticipationRepository,
+      SeasonService seasonService,
+      PlayerService playerService,
+      SeasonPlayerService seasonPlayerService,
+      GameService gameService,
+      GameBuyInService gameBuyInService,
+      GameResultService gameResultService,
+      PlayerParticipationService playerParticipationService,
+      CacheInvalidator cacheInvalidator,
+      PlatformTransactionManager transactionManager) {
+    this.seasonRepository = seasonRepository;
+    this.seasonPlayerRepository = seasonPlayerRepository;
+    this.gameRepository = gameRepository;
+    this.gameBuyInRepository = gameBuyInRepository;
+    this.gameResultRepository = gameResultRepository;
+    this.playerParticipationRepository = playerParticipationRepository;
+    this.seasonService = seasonService;
+    this.playerService = playerService;
+    this.seasonPlayerService = seasonPlayerService;
+    this.gameService = gameService;
+    this.gameBuyInService = gameBuyInService;
+    this.gameResultService = gameResultService;
+    this.playerParticipationService = playerParticipationService;
+    this.cacheInvalidator = cacheInvalidator;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+  }
+
+  /**
+   * Retrieves a season with its players, games and each game's buy-ins, results and participations.
+   *
+   * @param seasonId the ID of the season
+   * @return the SeasonDetailDTO with the data version it was read at
+   */
+  public Versioned get(final Integer seasonId) {
+    return cacheInvalidator.getOrLoad(
+        CacheNames.SEASON_DETAILS,
+        seasonId,
+        () -> readOnlyTransaction.execute(status -> load(seasonId)));
+  }
+
+  private Versioned load(final Integer seasonId) {
+    log.info("Retrieving season detail with id: {}", seasonId);
+    final Season season = seasonRepository.findById(seasonId).orElseThrow(() -> SEASON_NOT_FOUND);
+    final List<SeasonPlayer> seasonPlayers =
+        seasonPlayerRepository.findAllBySeasonIdWithPlayer(seasonId);
+    final Map<Integer, List<GameBuyInDTO>> gameBuyInsByGame =
+        gameBuyInRepository.findAllBySeasonId(seasonId).stream()
+            .map(gameBuyInService::mapToDTO)
+            .collect(Collectors.groupingBy(GameBuyInDTO::getGame));
+    final Map<Integer, List<GameResultDTO>> gameResultsByGame =
+        gameResultRepository.findAllBySeasonId(seasonId).stream()
+            .map(gameResultService::mapToDTO)
+            .collect(Collectors.groupingBy(GameResultDTO::getGame));
+    final Map<Integer, List<PlayerParticipationDTO>> playerParticipationsByGame =
+        playerParticipationRepository.findAllBySeasonId(seasonId).stream()
+            .map(
+                playerParticipation ->
+                    playerParticipationService.mapToDTO(
+                        playerParticipation, new PlayerParticipationDTO()))
+            .collect(Collectors.groupingBy(PlayerParticipationDTO::getGame));
+
+    final SeasonDetailDTO detail =
+        new SeasonDetailDTO(
+            seasonService.mapToDTO(season, new SeasonDTO()),
+            seasonPlayers.stream()
+                .map(
+                    seasonPlayer ->
+                        playerService.mapToDTO(seasonPlayer.getPlayer(), new PlayerDTO()))
+                .toList(),
+            seasonPlayers.stream()
+                .map(
+                    seasonPlayer ->
+                        seasonPlayerService.mapToDTO(seasonPlayer, new SeasonPlayerDTO()))
+                .toList(),
+            gameRepository.findAllBySeasonId(seasonId).stream()
+                .map(
+                    game ->
+                        new GameDetailDTO(
+                            gameService.mapToDTO(game, new GameDTO()),
+                            gameBuyInsByGame.getOrDefault(game.getGameId(), List.of()),
+                            gameResultsByGame.getOrDefault(game.getGameId(), List.of()),
+                            playerParticipationsByGame.getOrDefault(game.getGameId(), List.of())))
+                .toList());
+    return new Versioned(
+        new SeasonVersion(seasonId, season.getDataVersion(), season.getDataModifiedAt()), detail);
+  }
+
+  /**
+   * A season's detail and the data version it was read at.
+   *
+   * @param version the version, for the ETag
+   * @param detail the detail
+   */
+  public record Versioned(SeasonVersion version, SeasonDetailDTO detail) {}
+}
@@ -8,13 +8,17 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.games.poker_tournament_tracker.domain.AllInShowdown;
 import io.games.poker_tournament_tracker.domain.GameBuyIn;
 import io.games.poker_tournament_tracker.domain.GameResult;
+import io.games.poker_tournament_tracker.domain.Money;
 import io.games.poker_tournament_tracker.domain.Player;
 import io.games.poker_tournament_tracker.domain.PlayerParticipation;
 import io.games.poker_tournament_tracker.domain.Season;
 import io.games.poker_tournament_tracker.domain.SeasonPlayer;
+import io.games.poker_tournament_tracker.model.BatchResult;
 import io.games.poker_tournament_tracker.model.SeasonPlayerDTO;
+import io.games.poker_tournament_tracker.repos.AllInShowdownRepository;
 import io.games.poker_tournament_tracker.repos.GameBuyInRepository;
 import io.games.poker_tournament_tracker.repos.GameResultRepository;
 import io.games.poker_tournament_tracker.repos.PlayerParticipationRepository;
@@ -31,16 +35,26 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SeasonPlayerService {
 
+  private static final NotFoundException SEASON_NOT_FOUND =
+      new NotFoundException("Season not found");
+  private static final NotFoundException PLAYER_NOT_FOUND =
+      new NotFoundException("Player not found");
+  private static final NotFoundException SEASON_PLAYER_NOT_FOUND =
+      new NotFoundException("Season player not found");
+
   private final SeasonPlayerRepository seasonPlayerRepository;
   private final SeasonRepository seasonRepository;
   private final PlayerRepository playerRepository;
   private final GameBuyInRepository gameBuyInRepository;
   private final GameResultRepository gameResultRepository;
   private final PlayerParticipationRepository playerParticipationRepository;
+  private final AllInShowdownRepository allInShowdownRepository;
   private final SeasonService seasonService;
   private final PlayerService playerService;
   private final GameService gameService;
 
+  private final OutboxService outboxService;
+
   @Autowired
   public SeasonPlayerService(
       SeasonPlayerRepository seasonPlayerRepository,
@@ -49,18 +63,22 @@ public class SeasonPlayerService {
       GameBuyInRepository gameBuyInRepository,
       GameResultRepository gameResultRepository,
       PlayerParticipationRepository playerParticipationRepository,
+      AllInShowdownRepository allInShowdownRepository,
       SeasonService seasonService,
       PlayerService playerService,
-      GameService gameService) {
+      GameService gameService,
+      OutboxService outboxService) {
     this.seasonPlayerRepository = seasonPlayerRepository;
     this.seasonRepository = seasonRepository;
     this.playerRepository = playerRepository;
     this.gameBuyInRepository = gameBuyInRepository;
     this.gameResultRepository = gameResultRepository;
     this.playerParticipationRepository = playerParticipationRepository;
+    this.allInShowdownRepository = allInShowdownRepository;
     this.seasonService = seasonService;
     this.playerService = playerService;
     this.gameService = gameService;
+    this.outboxService = outboxService;
   }
 
   /**
@@ -69,17 +87,12 @@ public class SeasonPlayerService {
    * @return a list of SeasonPlayerDTOs
    */
   public List<SeasonPlayerDTO> findAll() {
-    try {
-      log.info("Retrieving all season players");
-      final List<SeasonPlayer> seasonPlayers =
-          seasonPlayerRepository.findAll(Sort.by("seasonPlayerId"));
-      return seasonPlayers.stream()
-          .map(seasonPlayer -> mapToDTO(seasonPlayer, new SeasonPlayerDTO()))
-          .toList();
-    } catch (Exception e) {
-      log.error("Error finding all season players", e);
-      throw new RuntimeException("Failed to retrieve all season players", e);
-    }
+    log.info("Retrieving all season players");
+    final List<SeasonPlayer> seasonPlayers =
+        seasonPlayerRepository.findAll(Sort.by("seasonPlayerId"));
+    return seasonPlayers.stream()
+        .map(seasonPlayer -> mapToDTO(seasonPlayer, new SeasonPlayerDTO()))
+        .toList();
   }
 
   /**
@@ -89,17 +102,25 @@ public class SeasonPlayerService {
    * @return the SeasonPlayerDTO
    */
   public SeasonPlayerDTO get(final Integer seasonPlayerId) {
-    try {
-      log.info("Retrieving season player with id: {}", seasonPlayerId);
-      return seasonPlayerRepository
-          .findById(seasonPlayerId)
-          .map(seasonPlayer -> mapToDTO(seasonPlayer, new SeasonPlayerDTO()))
-          .orElseThrow(
-              () -> new NotFoundException("Season player not found with id: " + seasonPlayerId));
-    } catch (Exception e) {
-      log.error("Error getting season player with id: {}", seasonPlayerId, e);
-      throw new RuntimeException("Failed to retrieve season player with id: " + seasonPlayerId, e);
-    }
+    log.info("Retrieving season player with id: {}", seasonPlayerId);
+    return seasonPlayerRepository
+        .findById(seasonPlayerId)
+        .map(seasonPlayer -> mapToDTO(seasonPlayer, new SeasonPlayerDTO()))
+        .orElseThrow(() -> SEASON_PLAYER_NOT_FOUND);
+  }
+  /**
+   * Retrieves several SeasonPlayerDTOs at once.
+   *
+   * @param seasonPlayerIds the IDs of the season players
+   * @return the season players in request order and the IDs that were not found
+   */
+  public BatchResult<SeasonPlayerDTO> getAll(final List<Integer> seasonPlayerIds) {
+    log.debug("Retrieving {} season players by id", seasonPlayerIds.size());
+    return BatchFetcher.fetch(
+        seasonPlayerIds,
+        seasonPlayerRepository::findAllById,
+        SeasonPlayer::getSeasonPlayerId,
+        seasonPlayer -> mapToDTO(seasonPlayer, new SeasonPlayerDTO()));
   }
 
   /**
@@ -110,15 +131,17 @@ public class SeasonPlayerService {
    */
   @Transactional
   public Integer create(final SeasonPlayerDTO seasonPlayerDTO) {
-    try {
-      log.info("Creating new season player");
-      final SeasonPlayer seasonPlayer = new SeasonPlayer();
-      mapToEntity(seasonPlayerDTO, seasonPlayer);
-      return seasonPlayerRepository.save(seasonPlayer).getSeasonPlayerId();
-    } catch (Exception e) {
-      log.error("Error creating season player", e);
-      throw new RuntimeException("Failed to create season player", e);
-    }
+    log.info("Creating new season player");
+    final SeasonPlayer seasonPlayer = new SeasonPlayer();
+    mapToEntity(seasonPlayerDTO, seasonPlayer);
+    final Integer seasonPlayerId = seasonPlayerRepository.save(seasonPlayer).getSeasonPlayerId();
+    outboxService.append(
+        "SeasonPlayerCreated",
+        "SeasonPlayer",
+        seasonPlayerId,
+        seasonIdOf(seasonPlayer),
+        mapToDTO(seasonPlayer, new SeasonPlayerDTO()));
+    return seasonPlayerId;
   }
 
   /**
@@ -129,20 +152,17 @@ public class SeasonPlayerService {
    */
   @Transactional
   public void update(final Integer seasonPlayerId, final SeasonPlayerDTO seasonPlayerDTO) {
-    try {
-      log.info("Updating season player with id: {}", seasonPlayerId);
-      final SeasonPlayer seasonPlayer =
-          seasonPlayerRepository
-              .findById(seasonPlayerId)
-              .orElseThrow(
-                  () ->
-                      new NotFoundException("Season player not found with id: " + seasonPlayerId));
-      mapToEntity(seasonPlayerDTO, seasonPlayer);
-      seasonPlayerRepository.save(seasonPlayer);
-    } catch (Exception e) {
-      log.error("Error updating season player with id: {}", seasonPlayerId, e);
-      throw new RuntimeException("Failed to update season player with id: " + seasonPlayerId, e);
-    }
+    log.info("Updating season player with id: {}", seasonPlayerId);
+    final SeasonPlayer seasonPlayer =
+        seasonPlayerRepository.findById(seasonPlayerId).orElseThrow(() -> SEASON_PLAYER_NOT_FOUND);
+    mapToEntity(seasonPlayerDTO, seasonPlayer);
+    seasonPlayerRepository.save(seasonPlayer);
+    outboxService.append(
+        "SeasonPlayerUpdated",
+        "SeasonPlayer",
+        seasonPlayerId,
+        seasonIdOf(seasonPlayer),
+        mapToDTO(seasonPlayer, new SeasonPlayerDTO()));
   }
 
   /**
@@ -152,13 +172,23 @@ public class SeasonPlayerService {
    */
   @Transactional
   public void delete(final Integer seasonPlayerId) {
-    try {
-      log.info("Deleting season player with id: {}", seasonPlayerId);
-      seasonPlayerRepository.deleteById(seasonPlayerId);
-    } catch (Exception e) {
-      log.error("Error deleting season player with id: {}", seasonPlayerId, e);
-      throw new RuntimeException("Failed to delete season player with id: " + seasonPlayerId, e);
-    }
+    log.info("Deleting season player with id: {}", seasonPlayerId);
+    seasonPlayerRepository
+        .findById(seasonPlayerId)
+        .ifPresent(
+            seasonPlayer -> {
+              outboxService.append(
+                  "SeasonPlayerDeleted",
+                  "SeasonPlayer",
+                  seasonPlayerId,
+                  seasonIdOf(seasonPlayer),
+                  mapToDTO(seasonPlayer, new SeasonPlayerDTO()));
+              seasonPlayerRepository.delete(seasonPlayer);
+            });
+  }
+
+  private static Integer seasonIdOf(final SeasonPlayer seasonPlayer) {
+    return seasonPlayer.getSeason() == null ? null : seasonPlayer.getSeason().getSeasonId();
   }
 
   /**
@@ -168,12 +198,18 @@ public class SeasonPlayerService {
    * @param seasonPlayerDTO the SeasonPlayerDTO
    * @return the mapped SeasonPlayerDTO
    */
-  private SeasonPlayerDTO mapToDTO(
-      final SeasonPlayer seasonPlayer, final SeasonPlayerDTO seasonPlayerDTO) {
+  SeasonPlayerDTO mapToDTO(final SeasonPlayer seasonPlayer, final SeasonPlayerDTO seasonPlayerDTO) {
     seasonPlayerDTO.setSeasonPlayerId(seasonPlayer.getSeasonPlayerId());
-    seasonPlayerDTO.setAllocatedPotSize(seasonPlayer.getAllocatedPotSize());
-    seasonPlayerDTO.setMinBuyIn(seasonPlayer.getMinBuyIn());
-    seasonPlayerDTO.setCurrentPotSize(seasonPlayer.getCurrentPotSize());
+    seasonPlayerDTO.setAllocatedPotSize(
+        seasonPlayer.getAllocatedPotSize() == null
+            ? null
+            : seasonPlayer.getAllocatedPotSize().toBigDecimal());
+    seasonPlayerDTO.setMinBuyIn(
+        seasonPlayer.getMinBuyIn() == null ? null : seasonPlayer.getMinBuyIn().toBigDecimal());
+    seasonPlayerDTO.setCurrentPotSize(
+        seasonPlayer.getCurrentPotSize() == null
+            ? null
+            : seasonPlayer.getCurrentPotSize().toBigDecimal());
     seasonPlayerDTO.setSeason(
         seasonPlayer.getSeason() == null ? null : seasonPlayer.getSeason().getSeasonId());
     seasonPlayerDTO.setPlayer(
@@ -190,22 +226,22 @@ public class SeasonPlayerService {
    */
   private SeasonPlayer mapToEntity(
       final SeasonPlayerDTO seasonPlayerDTO, final SeasonPlayer seasonPlayer) {
-    seasonPlayer.setAllocatedPotSize(seasonPlayerDTO.getAllocatedPotSize());
-    seasonPlayer.setMinBuyIn(seasonPlayerDTO.getMinBuyIn());
-    seasonPlayer.setCurrentPotSize(seasonPlayerDTO.getCurrentPotSize());
+    seasonPlayer.setAllocatedPotSize(Money.of(seasonPlayerDTO.getAllocatedPotSize()));
+    seasonPlayer.setMinBuyIn(Money.of(seasonPlayerDTO.getMinBuyIn()));
+    seasonPlayer.setCurrentPotSize(Money.of(seasonPlayerDTO.getCurrentPotSize()));
     final Season season =
         seasonPlayerDTO.getSeason() == null
             ? null
             : seasonRepository
                 .findById(seasonPlayerDTO.getSeason())
-                .orElseThrow(() -> new NotFoundException("Season not found"));
+                .orElseThrow(() -> SEASON_NOT_FOUND);
     seasonPlayer.setSeason(season);
     final Player player =
         seasonPlayerDTO.getPlayer() == null
             ? null
             : playerRepository
                 .findById(seasonPlayerDTO.getPlayer())
-                .orElseThrow(() -> new NotFoundException("Player not found"));
+                .orElseThrow(() -> PLAYER_NOT_FOUND);
     seasonPlayer.setPlayer(player);
     return seasonPlayer;
   }
@@ -218,37 +254,15 @@ public class SeasonPlayerService {
    * @return the SeasonPlayer ID
    */
   public Integer getSeasonPlayerIdByPlayerNameAndSeasonId(String playerName, Integer seasonId) {
-    try {
-      log.info(
-          "Retrieving season player ID for player name: {} and season ID: {}",
-          playerName,
-          seasonId);
-      Player player =
-          playerRepository
-              .findByName(playerName)
-              .orElseThrow(() -> new NotFoundException("Player not found"));
-      Season season =
-          seasonRepository
-              .findById(seasonId)
-              .orElseThrow(() -> new NotFoundException("Season not found"));
-      SeasonPlayer seasonPlayer =
-          seasonPlayerRepository
-              .findByPlayerAndSeason(player, season)
-              .orElseThrow(() -> new NotFoundException("Season player not found"));
-      return seasonPlayer.getSeasonPlayerId();
-    } catch (Exception e) {
-      log.error(
-          "Error retrieving season player ID for player name: {} and season ID: {}",
-          playerName,
-          seasonId,
-          e);
-      throw new RuntimeException(
-          "Failed to retrieve season player ID for player name: "
-              + playerName
-              + " and season ID: "
-              + seasonId,
-          e);
-    }
+    log.debug(
+        "Retrieving season player ID for player name: {} and season ID: {}", playerName, seasonId);
+    Player player = playerRepository.findByName(playerName).orElseThrow(() -> PLAYER_NOT_FOUND);
+    Season season = seasonRepository.findById(seasonId).orElseThrow(() -> SEASON_NOT_FOUND);
+    SeasonPlayer seasonPlayer =
+        seasonPlayerRepository
+            .findByPlayerAndSeason(player, season)
+            .orElseThrow(() -> SEASON_PLAYER_NOT_FOUND);
+    return seasonPlayer.getSeasonPlayerId();
   }
 
   /**
@@ -261,24 +275,16 @@ public class SeasonPlayerService {
    */
   @Transactional
   public void createSeasonPlayers(
-      String seasonName, String playerName, Double minBuyIn, Double allocatedPotSize) {
-    try {
-      log.info("Creating season player for season: {}, player: {}", seasonName, playerName);
-      var seasonPlayerDTO = new SeasonPlayerDTO();
-      seasonPlayerDTO.setSeason(seasonService.getSeasonIdByName(seasonName));
-      var playerId = playerService.getOrCreatePlayerIdByName(playerName);
-      seasonPlayerDTO.setPlayer(playerId);
-      seasonPlayerDTO.setMinBuyIn(BigDecimal.valueOf(minBuyIn));
-      seasonPlayerDTO.setAllocatedPotSize(BigDecimal.valueOf(allocatedPotSize));
-      seasonPlayerDTO.setCurrentPotSize(BigDecimal.valueOf(allocatedPotSize));
-      create(seasonPlayerDTO);
-    } catch (Exception e) {
-      log.error(
-          "Error creating season player for season: {}, player: {}", seasonName, playerName, e);
-      throw new RuntimeException(
-          "Failed to create season player for season: " + seasonName + ", player: " + playerName,
-          e);
-    }
+      String seasonName, String playerName, BigDecimal minBuyIn, BigDecimal allocatedPotSize) {
+    log.info("Creating season player for season: {}, player: {}", seasonName, playerName);
+    var seasonPlayerDTO = new SeasonPlayerDTO();
+    seasonPlayerDTO.setSeason(seasonService.getSeasonIdByName(seasonName));
+    var playerId = playerService.getOrCreatePlayerIdByName(playerName);
+    seasonPlayerDTO.setPlayer(playerId);
+    seasonPlayerDTO.setMinBuyIn(minBuyIn);
+    seasonPlayerDTO.setAllocatedPotSize(allocatedPotSize);
+    seasonPlayerDTO.setCurrentPotSize(allocatedPotSize);
+    create(seasonPlayerDTO);
   }
 
   /**
@@ -288,42 +294,38 @@ public class SeasonPlayerService {
    * @return the ReferencedWarning
    */
   public ReferencedWarning getReferencedWarning(final Integer seasonPlayerId) {
-    try {
-      log.info("Retrieving referenced warning for season player with id: {}", seasonPlayerId);
-      final ReferencedWarning referencedWarning = new ReferencedWarning();
-      final SeasonPlayer seasonPlayer =
-          seasonPlayerRepository
-              .findById(seasonPlayerId)
-              .orElseThrow(
-                  () ->
-                      new NotFoundException("Season player not found with id: " + seasonPlayerId));
-      final GameBuyIn seasonPlayerGameBuyIn =
-          gameBuyInRepository.findFirstBySeasonPlayer(seasonPlayer);
-      if (seasonPlayerGameBuyIn != null) {
-        referencedWarning.setKey("seasonPlayer.gameBuyIn.seasonPlayer.referenced");
-        referencedWarning.addParam(seasonPlayerGameBuyIn.getGameBuyInId());
-        return referencedWarning;
-      }
-      final GameResult seasonPlayerGameResult =
-          gameResultRepository.findFirstBySeasonPlayer(seasonPlayer);
-      if (seasonPlayerGameResult != null) {
-        referencedWarning.setKey("seasonPlayer.gameResult.seasonPlayer.referenced");
-        referencedWarning.addParam(seasonPlayerGameResult.getGameResultId());
-        return referencedWarning;
-      }
-      final PlayerParticipation seasonPlayerPlayerParticipation =
-          playerParticipationRepository.findFirstBySeasonPlayer(seasonPlayer);
-      if (seasonPlayerPlayerParticipation != null) {
-        referencedWarning.setKey("seasonPlayer.playerParticipation.seasonPlayer.referenced");
-        referencedWarning.addParam(seasonPlayerPlayerParticipation.getParticipationId());
-        return referencedWarning;
-      }
-      return null;
-    } catch (Exception e) {
-      log.error(
-          "Error retrieving referenced warning for season player with id: {}", seasonPlayerId, e);
-      throw new RuntimeException(
-          "Failed to retrieve referenced warning for season player with id: " + seasonPlayerId, e);
+    log.info("Retrieving referenced warning for season player with id: {}", seasonPlayerId);
+    final ReferencedWarning referencedWarning = new ReferencedWarning();
+    final SeasonPlayer seasonPlayer =
+        seasonPlayerRepository.findById(seasonPlayerId).orElseThrow(() -> SEASON_PLAYER_NOT_FOUND);
+    final GameBuyIn seasonPlayerGameBuyIn =
+        gameBuyInRepository.findFirstBySeasonPlayer(seasonPlayer);
+    if (seasonPlayerGameBuyIn != null) {
+      referencedWarning.setKey("seasonPlayer.gameBuyIn.seasonPlayer.referenced");
+      referencedWarning.addParam(seasonPlayerGameBuyIn.getGameBuyInId());
+      return referencedWarning;
+    }
+    final GameResult seasonPlayerGameResult =
+        gameResultRepository.findFirstBySeasonPlayer(seasonPlayer);
+    if (seasonPlayerGameResult != null) {
+      referencedWarning.setKey("seasonPlayer.gameResult.seasonPlayer.referenced");
+      referencedWarning.addParam(seasonPlayerGameResult.getGameResultId());
+      return referencedWarning;
+    }
+    final PlayerParticipation seasonPlayerPlayerParticipation =
+        playerParticipationRepository.findFirstBySeasonPlayer(seasonPlayer);
+    if (seasonPlayerPlayerParticipation != null) {
+      referencedWarning.setKey("seasonPlayer.playerParticipation.seasonPlayer.referenced");
+      referencedWarning.addParam(seasonPlayerPlayerParticipation.getParticipationId());
+      return referencedWarning;
+    }
+    final AllInShowdown seasonPlayerAllInShowdown =
+        allInShowdownRepository.findFirstBySeasonPlayer(seasonPlayer);
+    if (seasonPlayerAllInShowdown != null) {
+      referencedWarning.setKey("seasonPlayer.allInShowdown.seasonPlayer.referenced");
+      referencedWarning.addParam(seasonPlayerAllInShowdown.getAllInShowdownId());
+      return referencedWarning;
     }
+    return null;
   }
 }
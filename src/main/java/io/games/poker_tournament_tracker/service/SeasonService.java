@@ -8,10 +8,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.games.poker_tournament_tracker.cache.CacheInvalidator;
+import io.games.poker_tournament_tracker.cache.CacheNames;
 import io.games.poker_tournament_tracker.domain.Game;
 import io.games.poker_tournament_tracker.domain.Season;
 import io.games.poker_tournament_tracker.domain.SeasonPlayer;
 import io.games.poker_tournament_tracker.model.SeasonDTO;
+import io.games.poker_tournament_tracker.monitoring.NameLookupEvent;
 import io.games.poker_tournament_tracker.repos.GameRepository;
 import io.games.poker_tournament_tracker.repos.SeasonPlayerRepository;
 import io.games.poker_tournament_tracker.repos.SeasonRepository;
@@ -25,18 +28,27 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SeasonService {
 
+  private static final NotFoundException SEASON_NOT_FOUND =
+      new NotFoundException("Season not found");
+
   private final SeasonRepository seasonRepository;
   private final SeasonPlayerRepository seasonPlayerRepository;
   private final GameRepository gameRepository;
+  private final CacheInvalidator cacheInvalidator;
+  private final SeasonVersionService seasonVersionService;
 
   @Autowired
   public SeasonService(
       SeasonRepository seasonRepository,
       SeasonPlayerRepository seasonPlayerRepository,
-      GameRepository gameRepository) {
+      GameRepository gameRepository,
+      CacheInvalidator cacheInvalidator,
+      SeasonVersionService seasonVersionService) {
     this.seasonRepository = seasonRepository;
     this.seasonPlayerRepository = seasonPlayerRepository;
     this.gameRepository = gameRepository;
+    this.cacheInvalidator = cacheInvalidator;
+    this.seasonVersionService = seasonVersionService;
   }
 
   /**
@@ -45,14 +57,9 @@ public class SeasonService {
    * @return a list of SeasonDTOs
    */
   public List<SeasonDTO> findAll() {
-    try {
-      log.info("Retrieving all seasons");
-      final List<Season> seasons = seasonRepository.findAll(Sort.by("seasonId"));
-      return seasons.stream().map(season -> mapToDTO(season, new SeasonDTO())).toList();
-    } catch (Exception e) {
-      log.error("Error finding all seasons", e);
-      throw new RuntimeException("Failed to retrieve all seasons", e);
-    }
+    log.info("Retrieving all seasons");
+    final List<Season> seasons = seasonRepository.findAll(Sort.by("seasonId"));
+    return seasons.stream().map(season -> mapToDTO(season, new SeasonDTO())).toList();
   }
 
   /**
@@ -62,13 +69,15 @@ public class SeasonService {
    * @return the season ID
    */
   public int getSeasonIdByName(String name) {
-    try {
-      log.info("Retrieving season ID for name: {}", name);
-      return seasonRepository.findSeasonIdByName(name);
-    } catch (Exception e) {
-      log.error("Error retrieving season ID for name: {}", name, e);
-      throw new RuntimeException("Failed to retrieve season ID for name: " + name, e);
-    }
+    return cacheInvalidator.getOrLoad(
+        CacheNames.SEASON_IDS_BY_NAME,
+        name,
+        () -> {
+          log.debug("Retrieving season ID for name: {}", name);
+          return NameLookupEvent.time(
+                  "season", name, () -> seasonRepository.findSeasonIdByName(name))
+              .orElseThrow(() -> SEASON_NOT_FOUND);
+        });
   }
 
   /**
@@ -78,16 +87,16 @@ public class SeasonService {
    * @return the SeasonDTO
    */
   public SeasonDTO get(final Integer seasonId) {
-    try {
-      log.info("Retrieving season with id: {}", seasonId);
-      return seasonRepository
-          .findById(seasonId)
-          .map(season -> mapToDTO(season, new SeasonDTO()))
-          .orElseThrow(() -> new NotFoundException("Season not found with id: " + seasonId));
-    } catch (Exception e) {
-      log.error("Error getting season with id: {}", seasonId, e);
-      throw new RuntimeException("Failed to retrieve season with id: " + seasonId, e);
-    }
+    return cacheInvalidator.getOrLoad(
+        CacheNames.SEASONS,
+        seasonId,
+        () -> {
+          log.info("Retrieving season with id: {}", seasonId);
+          return seasonRepository
+              .findById(seasonId)
+              .map(season -> mapToDTO(season, new SeasonDTO()))
+              .orElseThrow(() -> SEASON_NOT_FOUND);
+        });
   }
 
   /**
@@ -98,14 +107,9 @@ public class SeasonService {
    */
   @Transactional
   public Integer create(final SeasonDTO seasonDTO) {
-    try {
-      final Season season = new Season();
-      mapToEntity(seasonDTO, season);
-      return seasonRepository.save(season).getSeasonId();
-    } catch (Exception e) {
-      log.error("Error creating season", e);
-      throw new RuntimeException("Failed to create season", e);
-    }
+    final Season season = new Season();
+    mapToEntity(seasonDTO, season);
+    return seasonRepository.save(season).getSeasonId();
   }
 
   /**
@@ -116,18 +120,12 @@ public class SeasonService {
    */
   @Transactional
   public void update(final Integer seasonId, final SeasonDTO seasonDTO) {
-    try {
-      log.info("Updating season with id: {}", seasonId);
-      final Season season =
-          seasonRepository
-              .findById(seasonId)
-              .orElseThrow(() -> new NotFoundException("Season not found with id: " + seasonId));
-      mapToEntity(seasonDTO, season);
-      seasonRepository.save(season);
-    } catch (Exception e) {
-      log.error("Error updating season with id: {}", seasonId, e);
-      throw new RuntimeException("Failed to update season with id: " + seasonId, e);
-    }
+    log.info("Updating season with id: {}", seasonId);
+    final Season season = seasonRepository.findById(seasonId).orElseThrow(() -> SEASON_NOT_FOUND);
+    mapToEntity(seasonDTO, season);
+    seasonRepository.save(season);
+    evictCaches(seasonId);
+    seasonVersionService.touch(seasonId);
   }
 
   /**
@@ -137,13 +135,16 @@ public class SeasonService {
    */
   @Transactional
   public void delete(final Integer seasonId) {
-    try {
-      log.info("Deleting season with id: {}", seasonId);
-      seasonRepository.deleteById(seasonId);
-    } catch (Exception e) {
-      log.error("Error deleting season with id: {}", seasonId, e);
-      throw new RuntimeException("Failed to delete season with id: " + seasonId, e);
-    }
+    log.info("Deleting season with id: {}", seasonId);
+    seasonRepository.deleteById(seasonId);
+    evictCaches(seasonId);
+  }
+
+  private void evictCaches(final Integer seasonId) {
+    cacheInvalidator.evict(CacheNames.SEASONS, seasonId);
+    cacheInvalidator.evict(CacheNames.SEASON_IDS_BY_NAME, null);
+    cacheInvalidator.evict(CacheNames.SEASON_DETAILS, seasonId);
+    cacheInvalidator.evict(CacheNames.SEASON_VERSIONS, seasonId);
   }
 
   /**
@@ -153,7 +154,7 @@ public class SeasonService {
    * @param seasonDTO the SeasonDTO
    * @return the mapped SeasonDTO
    */
-  private SeasonDTO mapToDTO(final Season season, final SeasonDTO seasonDTO) {
+  SeasonDTO mapToDTO(final Season season, final SeasonDTO seasonDTO) {
     seasonDTO.setSeasonId(season.getSeasonId());
     seasonDTO.setName(season.getName());
     seasonDTO.setStartDate(season.getStartDate());
@@ -184,16 +185,11 @@ public class SeasonService {
    */
   @Transactional
   public void createSeason(String seasonName) {
-    try {
-      log.info("Creating season with name: {}", seasonName);
-      SeasonDTO seasonDTO = new SeasonDTO();
-      seasonDTO.setName(seasonName);
-      seasonDTO.setStartDate(LocalDate.now());
-      create(seasonDTO);
-    } catch (Exception e) {
-      log.error("Error creating season with name: {}", seasonName, e);
-      throw new RuntimeException("Failed to create season with name: " + seasonName, e);
-    }
+    log.info("Creating season with name: {}", seasonName);
+    SeasonDTO seasonDTO = new SeasonDTO();
+    seasonDTO.setName(seasonName);
+    seasonDTO.setStartDate(LocalDate.now());
+    create(seasonDTO);
   }
 
   /**
@@ -203,30 +199,21 @@ public class SeasonService {
    * @return the ReferencedWarning
    */
   public ReferencedWarning getReferencedWarning(final Integer seasonId) {
-    try {
-      log.info("Retrieving referenced warning for season with id: {}", seasonId);
-      final ReferencedWarning referencedWarning = new ReferencedWarning();
-      final Season season =
-          seasonRepository
-              .findById(seasonId)
-              .orElseThrow(() -> new NotFoundException("Season not found with id: " + seasonId));
-      final SeasonPlayer seasonSeasonPlayer = seasonPlayerRepository.findFirstBySeason(season);
-      if (seasonSeasonPlayer != null) {
-        referencedWarning.setKey("season.seasonPlayer.season.referenced");
-        referencedWarning.addParam(seasonSeasonPlayer.getSeasonPlayerId());
-        return referencedWarning;
-      }
-      final Game seasonGame = gameRepository.findFirstBySeason(season);
-      if (seasonGame != null) {
-        referencedWarning.setKey("season.game.season.referenced");
-        referencedWarning.addParam(seasonGame.getGameId());
-        return referencedWarning;
-      }
-      return null;
-    } catch (Exception e) {
-      log.error("Error retrieving referenced warning for season with id: {}", seasonId, e);
-      throw new RuntimeException(
-          "Failed to retrieve referenced warning for season with id: " + seasonId, e);
+    log.info("Retrieving referenced warning for season with id: {}", seasonId);
+    final ReferencedWarning referencedWarning = new ReferencedWarning();
+    final Season season = seasonRepository.findById(seasonId).orElseThrow(() -> SEASON_NOT_FOUND);
+    final SeasonPlayer seasonSeasonPlayer = seasonPlayerRepository.findFirstBySeason(season);
+    if (seasonSeasonPlayer != null) {
+      referencedWarning.setKey("season.seasonPlayer.season.referenced");
+      referencedWarning.addParam(seasonSeasonPlayer.getSeasonPlayerId());
+      return referencedWarning;
+    }
+    final Game seasonGame = gameRepository.findFirstBySeason(season);
+    if (seasonGame != null) {
+      referencedWarning.setKey("season.game.season.referenced");
+      referencedWarning.addParam(seasonGame.getGameId());
+      return referencedWarning;
     }
+    return null;
   }
 }
@@ -0,0 +1,79 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.games.poker_tournament_tracker.cache.CacheInvalidator;
+import io.games.poker_tournament_tracker.cache.CacheNames;
+import io.games.poker_tournament_tracker.domain.SeasonVersion;
+import io.games.poker_tournament_tracker.repos.SeasonRepository;
+import io.games.poker_tournament_tracker.util.NotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class for the per-season data version. Every write to a season's data touches the
+ * version, which also evicts the season's cached detail; conditional reads compare against the
+ * cached version, so an unchanged season is answered without a query.
+ */
+@Service
+@Slf4j
+public class SeasonVersionService {
+
+  private static final NotFoundException SEASON_NOT_FOUND =
+      new NotFoundException("Season not found");
+
+  private final SeasonRepository seasonRepository;
+  private final CacheInvalidator cacheInvalidator;
+
+  @Autowired
+  public SeasonVersionService(
+      SeasonRepository seasonRepository, CacheInvalidator cacheInvalidator) {
+    this.seasonRepository = seasonRepository;
+    this.cacheInvalidator = cacheInvalidator;
+  }
+
+  /**
+   * Retrieves the current version of a season's data.
+   *
+   * @param seasonId the ID of the season
+   * @return the SeasonVersion
+   */
+  public SeasonVersion get(final Integer seasonId) {
+    return cacheInvalidator.getOrLoad(
+        CacheNames.SEASON_VERSIONS,
+        seasonId,
+        () -> {
+          log.debug("Retrieving data version for season: {}", seasonId);
+          return seasonRepository.findSeasonVersion(seasonId).orElseThrow(() -> SEASON_NOT_FOUND);
+        });
+  }
+
+  /**
+   * Records a write to a season's data. Must run inside the transaction making the change.
+   *
+   * @param seasonId the ID of the season
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void touch(final Integer seasonId) {
+    seasonRepository.incrementDataVersion(seasonId, OffsetDateTime.now());
+    cacheInvalidator.evict(CacheNames.SEASON_VERSIONS, seasonId);
+    cacheInvalidator.evict(CacheNames.SEASON_DETAILS, seasonId);
+  }
+
+  /**
+   * Records a change to a player, which shows up in every season the player is in.
+   *
+   * @param playerId the ID of the player
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void touchByPlayer(final Integer playerId) {
+    seasonRepository.incrementDataVersionByPlayerId(playerId, OffsetDateTime.now());
+    cacheInvalidator.evict(CacheNames.SEASON_VERSIONS, null);
+    cacheInvalidator.evict(CacheNames.SEASON_DETAILS, null);
+  }
+}
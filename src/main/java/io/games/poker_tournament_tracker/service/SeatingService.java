@@ -0,0 +1,257 @@
+package io.games.poker_tournament_tracker.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.games.poker_tournament_tracker.domain.Game;
+import io.games.poker_tournament_tracker.domain.TableSeat;
+import io.games.poker_tournament_tracker.model.SeatMoveDTO;
+import io.games.poker_tournament_tracker.model.SeatingChangeDTO;
+import io.games.poker_tournament_tracker.model.SeatingDTO;
+import io.games.poker_tournament_tracker.model.TableSeatDTO;
+import io.games.poker_tournament_tracker.repos.GameRepository;
+import io.games.poker_tournament_tracker.repos.PlayerParticipationRepository;
+import io.games.poker_tournament_tracker.repos.SeasonPlayerRepository;
+import io.games.poker_tournament_tracker.repos.TableSeatRepository;
+import io.games.poker_tournament_tracker.seating.SeatingChart;
+import io.games.poker_tournament_tracker.util.ConflictException;
+import io.games.poker_tournament_tracker.util.NotFoundException;
+import io.games.poker_tournament_tracker.util.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class for table seating. Seats are drawn from the players who took part in a game and
+ * rebalanced by {@link SeatingChart} as players are eliminated. Changes to one game's seating are
+ * serialized on the game row, and each is written to the outbox as a {@code Seating} event for the
+ * floor's screens. Like clock events they carry no season, since seats aren't part of the season's
+ * data.
+ */
+@Service
+@Slf4j
+public class SeatingService {
+
+  private static final NotFoundException GAME_NOT_FOUND = new NotFoundException("Game not found");
+  private static final NotFoundException SEATS_NOT_DRAWN = new NotFoundException("Seats not drawn");
+  private static final NotFoundException SEAT_NOT_FOUND = new NotFoundException("Seat not found");
+
+  private final TableSeatRepository tableSeatRepository;
+  private final GameRepository gameRepository;
+  private final PlayerParticipationRepository playerParticipationRepository;
+  private final SeasonPlayerRepository seasonPlayerRepository;
+  private final SeasonService seasonService;
+  private final SeasonPlayerService seasonPlayerService;
+  private final GameService gameService;
+  private final OutboxService outboxService;
+
+  @Autowired
+  public SeatingService(
+      TableSeatRepository tableSeatRepository,
+      GameRepository gameRepository,
+      PlayerParticipationRepository playerParticipationRepository,
+      SeasonPlayerRepository seasonPlayerRepository,
+      SeasonService seasonService,
+      SeasonPlayerService seasonPlayerService,
+      GameService gameService,
+      OutboxService outboxService) {
+    this.tableSeatRepository = tableSeatRepository;
+    this.gameRepository = gameRepository;
+    this.playerParticipationRepository = playerParticipationRepository;
+    this.seasonPlayerRepository = seasonPlayerRepository;
+    this.seasonService = seasonService;
+    this.seasonPlayerService = seasonPlayerService;
+    this.gameService = gameService;
+    this.outboxService = outboxService;
+  }
+
+  /**
+   * Draws random seats for everyone who took part in a game.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @param tableSize seats per table
+   * @param seed the seed of the draw, or null for a random one
+   * @return the seating chart, with the seed it was drawn with
+   */
+  @Transactional
+  public SeatingDTO draw(String seasonName, int gameNumber, int tableSize, Long seed) {
+    final Game game = lockGame(seasonName, gameNumber);
+    if (tableSeatRepository.existsByGameId(game.getGameId())) {
+      throw new ConflictException("Seats already drawn for game number: " + gameNumber);
+    }
+    final List<Integer> participants =
+        playerParticipationRepository.findParticipantIdsByGameId(game.getGameId());
+    if (participants.isEmpty()) {
+      throw new ValidationException("No players took part in game number: " + gameNumber);
+    }
+    if (tableSize < 2) {
+      throw new ValidationException("A table needs at least two seats");
+    }
+    final long drawSeed = seed == null ? ThreadLocalRandom.current().nextLong() : seed;
+    log.info(
+        "Drawing seats for season: {}, game number: {}, {} players, {} a table, seed: {}",
+        seasonName,
+        gameNumber,
+        participants.size(),
+        tableSize,
+        drawSeed);
+    final SeatingChart chart = SeatingChart.draw(participants, tableSize, drawSeed);
+    game.setTableSize(tableSize);
+    final List<TableSeat> tableSeats = new ArrayList<>(participants.size());
+    for (final SeatingChart.Seat seat : chart.seats()) {
+      final TableSeat tableSeat = new TableSeat();
+      tableSeat.setGame(game);
+      tableSeat.setSeasonPlayer(seasonPlayerRepository.getReferenceById(seat.player()));
+      tableSeat.setTableNumber(seat.table());
+      tableSeat.setSeatNumber(seat.seat());
+      tableSeats.add(tableSeat);
+    }
+    tableSeatRepository.saveAll(tableSeats);
+    final SeatingDTO seatingDTO =
+        new SeatingDTO(game.getGameId(), tableSize, drawSeed, mapToDTOs(game.getGameId()));
+    outboxService.append("SeatsDrawn", "Seating", game.getGameId(), null, seatingDTO);
+    return seatingDTO;
+  }
+
+  /**
+   * Retrieves a game's seating chart.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @return the SeatingDTO
+   */
+  @Transactional(readOnly = true)
+  public SeatingDTO get(String seasonName, int gameNumber) {
+    log.debug("Retrieving seats for season: {}, game number: {}", seasonName, gameNumber);
+    final int gameId =
+        gameService.getGameId(seasonService.getSeasonIdByName(seasonName), gameNumber);
+    final Game game = gameRepository.findById(gameId).orElseThrow(() -> GAME_NOT_FOUND);
+    if (game.getTableSize() == null) {
+      throw SEATS_NOT_DRAWN;
+    }
+    return new SeatingDTO(gameId, game.getTableSize(), null, mapToDTOs(gameId));
+  }
+
+  /**
+   * Takes an eliminated player out of their seat and rebalances the tables.
+   *
+   * @param seasonName the name of the season
+   * @param gameNumber the number of the game within the season
+   * @param playerName the name of the eliminated player
+   * @return the seat left and the moves to make
+   */
+  @Transactional
+  public SeatingChangeDTO eliminate(String seasonName, int gameNumber, String playerName) {
+    final Game game = lockGame(seasonName, gameNumber);
+    final Integer seasonPlayerId =
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(
+            playerName, game.getSeason().getSeasonId());
+    return eliminate(game, List.of(seasonPlayerId), true).get(0);
+  }
+
+  /**
+   * Takes players knocked out elsewhere out of their seats, in order, rebalancing after each. Runs
+   * in the caller's transaction, which must hold the game row's lock. Players without a seat, and
+   * games whose seats weren't drawn, are left alone.
+   *
+   * @param game the locked game
+   * @param seasonPlayerIds the IDs of the eliminated season players, first out first
+   * @return the seat each seated player left and the moves after it
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<SeatingChangeDTO> unseat(final Game game, final List<Integer> seasonPlayerIds) {
+    if (game.getTableSize() == null) {
+      return List.of();
+    }
+    return eliminate(game, seasonPlayerIds, false);
+  }
+
+  /** Loads the chart once and takes the players out one after the other. */
+  private List<SeatingChangeDTO> eliminate(
+      final Game game, final List<Integer> seasonPlayerIds, final boolean seatRequired) {
+    if (game.getTableSize() == null) {
+      throw SEATS_NOT_DRAWN;
+    }
+    final List<TableSeat> tableSeats = tableSeatRepository.findAllByGameId(game.getGameId());
+    final Map<Integer, TableSeat> tableSeatByPlayer = new HashMap<>();
+    final List<SeatingChart.Seat> seats = new ArrayList<>(tableSeats.size());
+    for (final TableSeat tableSeat : tableSeats) {
+      final Integer player = tableSeat.getSeasonPlayer().getSeasonPlayerId();
+      tableSeatByPlayer.put(player, tableSeat);
+      seats.add(
+          new SeatingChart.Seat(player, tableSeat.getTableNumber(), tableSeat.getSeatNumber()));
+    }
+    final SeatingChart chart = SeatingChart.of(seats, game.getTableSize());
+    final List<SeatingChangeDTO> changes = new ArrayList<>(seasonPlayerIds.size());
+    for (final Integer seasonPlayerId : seasonPlayerIds) {
+      final TableSeat eliminated = tableSeatByPlayer.remove(seasonPlayerId);
+      if (eliminated == null) {
+        if (seatRequired) {
+          throw SEAT_NOT_FOUND;
+        }
+        continue;
+      }
+      final List<SeatingChart.Move> moves = chart.eliminate(seasonPlayerId);
+      log.info(
+          "Season player {} left table {} seat {} of game {}, {} moves",
+          seasonPlayerId,
+          eliminated.getTableNumber(),
+          eliminated.getSeatNumber(),
+          game.getGameId(),
+          moves.size());
+      final TableSeatDTO eliminatedDTO = mapToDTO(eliminated);
+      tableSeatRepository.delete(eliminated);
+      final List<SeatMoveDTO> moveDTOs = new ArrayList<>(moves.size());
+      for (final SeatingChart.Move move : moves) {
+        final TableSeat tableSeat = tableSeatByPlayer.get(move.player());
+        tableSeat.setTableNumber(move.to().table());
+        tableSeat.setSeatNumber(move.to().seat());
+        moveDTOs.add(
+            new SeatMoveDTO(
+                move.player(),
+                tableSeat.getSeasonPlayer().getPlayer().getName(),
+                move.from().table(),
+                move.from().seat(),
+                move.to().table(),
+                move.to().seat()));
+      }
+      final SeatingChangeDTO seatingChangeDTO =
+          new SeatingChangeDTO(game.getGameId(), eliminatedDTO, moveDTOs);
+      outboxService.append("SeatsRebalanced", "Seating", game.getGameId(), null, seatingChangeDTO);
+      changes.add(seatingChangeDTO);
+    }
+    return changes;
+  }
+
+  private Game lockGame(String seasonName, int gameNumber) {
+    final int gameId =
+        gameService.getGameId(seasonService.getSeasonIdByName(seasonName), gameNumber);
+    return gameRepository.findByIdForUpdate(gameId).orElseThrow(() -> GAME_NOT_FOUND);
+  }
+
+  private List<TableSeatDTO> mapToDTOs(final Integer gameId) {
+    return tableSeatRepository.findAllByGameId(gameId).stream().map(this::mapToDTO).toList();
+  }
+
+  /**
+   * Maps a TableSeat entity to a TableSeatDTO.
+   *
+   * @param tableSeat the TableSeat entity
+   * @return the mapped TableSeatDTO
+   */
+  private TableSeatDTO mapToDTO(final TableSeat tableSeat) {
+    return new TableSeatDTO(
+        tableSeat.getSeasonPlayer().getSeasonPlayerId(),
+        tableSeat.getSeasonPlayer().getPlayer().getName(),
+        tableSeat.getTableNumber(),
+        tableSeat.getSeatNumber());
+  }
+}
@@ -0,0 +1,16 @@
+package io.games.poker_tournament_tracker.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends DomainException {
+
+  public ConflictException() {
+    super();
+  }
+
+  public ConflictException(final String message) {
+    super(message);
+  }
+}
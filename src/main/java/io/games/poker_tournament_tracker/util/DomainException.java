@@ -0,0 +1,17 @@
+package io.games.poker_tournament_tracker.util;
+
+/**
+ * Base for the expected failures a client can cause: missing rows, conflicts, invalid input. These
+ * are part of normal traffic, so they skip stack trace capture and suppression entirely; a
+ * parameterless instance carries no per-throw state and can be preallocated and rethrown.
+ */
+public abstract class DomainException extends RuntimeException {
+
+  protected DomainException() {
+    this(null);
+  }
+
+  protected DomainException(final String message) {
+    super(message, null, false, false);
+  }
+}
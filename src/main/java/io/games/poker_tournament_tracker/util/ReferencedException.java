@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.CONFLICT)
-public class ReferencedException extends RuntimeException {
+public class ReferencedException extends ConflictException {
 
   public ReferencedException() {
     super();
@@ -0,0 +1,16 @@
+package io.games.poker_tournament_tracker.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends DomainException {
+
+  public ServiceUnavailableException() {
+    super();
+  }
+
+  public ServiceUnavailableException(final String message) {
+    super(message);
+  }
+}
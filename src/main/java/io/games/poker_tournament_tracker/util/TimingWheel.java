@@ -0,0 +1,187 @@
+package io.games.poker_tournament_tracker.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A hashed timing wheel: one ticker thread walks a ring of buckets, one bucket per tick, and each
+ * timeout sits in the bucket its deadline hashes to with a count of the full turns left before it
+ * is due. Scheduling and cancelling are O(1) whatever the number of pending timeouts, at the cost
+ * of firing up to one tick late; it never fires early. Due tasks run on a small worker pool so a
+ * slow one cannot hold up the wheel.
+ */
+@Slf4j
+public class TimingWheel {
+
+  private static final int PENDING = 0;
+  private static final int CANCELLED = 1;
+  private static final int EXPIRED = 2;
+  private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+      AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+  private final long tickNanos;
+  private final int mask;
+  private final List<List<Timeout>> buckets;
+  private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+  private final LongAdder pending = new LongAdder();
+  private final ExecutorService workers;
+  private final Thread ticker;
+  private final long startNanos;
+  private long tick;
+  private volatile boolean running = true;
+
+  /**
+   * @param tick how far apart the ticks are, which is also how late a timeout may fire
+   * @param wheelSize the number of buckets, a power of two
+   * @param workerThreads the threads due tasks run on
+   * @param name prefix for the thread names
+   */
+  public TimingWheel(Duration tick, int wheelSize, int workerThreads, String name) {
+    if (wheelSize <= 0 || (wheelSize & (wheelSize - 1)) != 0) {
+      throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+    }
+    this.tickNanos = tick.toNanos();
+    this.mask = wheelSize - 1;
+    this.buckets = new ArrayList<>(wheelSize);
+    for (int i = 0; i < wheelSize; i++) {
+      buckets.add(new LinkedList<>());
+    }
+    this.workers =
+        Executors.newFixedThreadPool(workerThreads, new CustomizableThreadFactory(name + "-"));
+    this.startNanos = System.nanoTime();
+    this.ticker = new Thread(this::run, name + "-ticker");
+    ticker.setDaemon(true);
+    ticker.start();
+  }
+
+  /**
+   * Runs a task once its deadline has passed; a deadline in the past runs on the next tick.
+   *
+   * @return a handle to cancel it with
+   */
+  public Timeout schedule(Runnable task, Instant deadline) {
+    final long delayNanos =
+        TimeUnit.MILLISECONDS.toNanos(
+            Math.max(0, deadline.toEpochMilli() - System.currentTimeMillis()));
+    final Timeout timeout = new Timeout(task, System.nanoTime() + delayNanos);
+    pending.increment();
+    // only the ticker touches the buckets, so new timeouts are handed over through a queue
+    added.add(timeout);
+    return timeout;
+  }
+
+  /** Timeouts scheduled and neither run nor cancelled yet. */
+  public int getPending() {
+    return pending.intValue();
+  }
+
+  public void stop() {
+    running = false;
+    LockSupport.unpark(ticker);
+    workers.shutdown();
+    try {
+      ticker.join(TimeUnit.SECONDS.toMillis(1));
+      workers.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (running) {
+      final long tickEnd = startNanos + (tick + 1) * tickNanos;
+      long sleepNanos;
+      while (running && (sleepNanos = tickEnd - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(this, sleepNanos);
+      }
+      if (!running) {
+        return;
+      }
+      transferAdded();
+      expire(buckets.get((int) (tick & mask)));
+      tick++;
+    }
+  }
+
+  private void transferAdded() {
+    Timeout timeout;
+    while ((timeout = added.poll()) != null) {
+      if (timeout.state != PENDING) {
+        continue;
+      }
+      // round up, since the bucket of tick n is expired at the end of tick n
+      final long dueTick =
+          Math.max(tick, (timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos);
+      timeout.remainingRounds = (dueTick - tick) / buckets.size();
+      buckets.get((int) (dueTick & mask)).add(timeout);
+    }
+  }
+
+  private void expire(List<Timeout> bucket) {
+    final Iterator<Timeout> iterator = bucket.iterator();
+    while (iterator.hasNext()) {
+      final Timeout timeout = iterator.next();
+      if (timeout.state == CANCELLED) {
+        // cancelled timeouts are dropped lazily, when the ticker next passes their bucket
+        iterator.remove();
+      } else if (timeout.remainingRounds > 0) {
+        timeout.remainingRounds--;
+      } else {
+        iterator.remove();
+        if (STATE.compareAndSet(timeout, PENDING, EXPIRED)) {
+          pending.decrement();
+          workers.execute(timeout::run);
+        }
+      }
+    }
+  }
+
+  /** A scheduled task. */
+  public final class Timeout {
+
+    private final Runnable task;
+    private final long deadlineNanos;
+    private volatile int state = PENDING;
+    private long remainingRounds;
+
+    private Timeout(Runnable task, long deadlineNanos) {
+      this.task = task;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @return whether the task was stopped from running; false once it has started
+     */
+    public boolean cancel() {
+      if (STATE.compareAndSet(this, PENDING, CANCELLED)) {
+        pending.decrement();
+        return true;
+      }
+      return false;
+    }
+
+    private void run() {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.warn("Timing wheel task failed", e);
+      }
+    }
+  }
+}
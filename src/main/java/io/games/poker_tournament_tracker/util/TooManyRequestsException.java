@@ -0,0 +1,16 @@
+package io.games.poker_tournament_tracker.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends DomainException {
+
+  public TooManyRequestsException() {
+    super();
+  }
+
+  public TooManyRequestsException(final String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,16 @@
+package io.games.poker_tournament_tracker.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ValidationException extends DomainException {
+
+  public ValidationException() {
+    super();
+  }
+
+  public ValidationException(final String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,86 @@
+package io.games.poker_tournament_tracker.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheInvalidatorTest {
+
+  private static final String CACHE = CacheNames.SEASON_DETAILS;
+
+  private CacheManager cacheManager;
+  private CacheInvalidator cacheInvalidator;
+
+  @BeforeEach
+  void setUp() {
+    final DataSourceProperties dataSourceProperties = new DataSourceProperties();
+    dataSourceProperties.setUrl("jdbc:h2:mem:test");
+    cacheManager = new ConcurrentMapCacheManager(CACHE, CacheNames.SEASON_IDS_BY_NAME);
+    cacheInvalidator =
+        new CacheInvalidator(
+            cacheManager,
+            null,
+            new CacheInvalidationProperties(),
+            dataSourceProperties,
+            new SimpleMeterRegistry());
+  }
+
+  @Test
+  void loadsOnceThenServesFromTheCache() {
+    assertThat(cacheInvalidator.getOrLoad(CACHE, 1, () -> "first")).isEqualTo("first");
+    assertThat(cacheInvalidator.getOrLoad(CACHE, 1, () -> "second")).isEqualTo("first");
+  }
+
+  @Test
+  void dropsALoadOvertakenByAnEviction() {
+    final String loaded =
+        cacheInvalidator.getOrLoad(
+            CACHE,
+            1,
+            () -> {
+              // a change commits while the old value is still on its way
+              cacheInvalidator.evictLocally(Set.of(CacheInvalidationMessage.entry(CACHE, 1)));
+              return "stale";
+            });
+
+    assertThat(loaded).isEqualTo("stale");
+    assertThat(cacheManager.getCache(CACHE).get(1)).isNull();
+    assertThat(cacheInvalidator.getOrLoad(CACHE, 1, () -> "fresh")).isEqualTo("fresh");
+  }
+
+  @Test
+  void dropsALoadOvertakenByAClear() {
+    cacheInvalidator.getOrLoad(
+        CACHE,
+        1,
+        () -> {
+          cacheInvalidator.clearAll();
+          return "stale";
+        });
+
+    assertThat(cacheManager.getCache(CACHE).get(1)).isNull();
+  }
+
+  @Test
+  void dropsANameLoadOvertakenByAClearOfItsCache() {
+    final String names = CacheNames.SEASON_IDS_BY_NAME;
+    cacheInvalidator.getOrLoad(
+        names,
+        "Spring",
+        () -> {
+          // a rename commits; name caches are only ever cleared whole
+          cacheInvalidator.evictLocally(Set.of(CacheInvalidationMessage.entry(names, null)));
+          return 7;
+        });
+
+    assertThat(cacheManager.getCache(names).get("Spring")).isNull();
+  }
+}
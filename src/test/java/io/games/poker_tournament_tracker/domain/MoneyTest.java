@@ -0,0 +1,83 @@
+package io.games.poker_tournament_tracker.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MoneyTest {
+
+  @Test
+  void sumSkipsNullAmounts() {
+    final List<Money> amounts = Arrays.asList(money("10.50"), null, money("-0.25"), money("3"));
+
+    assertThat(Money.sum(amounts, amount -> amount)).isEqualTo(money("13.25"));
+    assertThat(Money.sum(List.<Money>of(), amount -> amount)).isSameAs(Money.ZERO);
+  }
+
+  @Test
+  void sumCentsFailsRatherThanOverflow() {
+    assertThat(Money.sumCents(new long[] {1050, -25, 300})).isEqualTo(1325);
+    assertThatThrownBy(() -> Money.sumCents(new long[] {Long.MAX_VALUE, 1}))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    // cents: average rounded half-even
+    "'1,2', 2",
+    "'1,4', 2",
+    "'1,2,3,4', 2",
+    "'1,2,4', 2",
+    "'1,3,3', 2",
+    "'-1,-2', -2",
+    "'-1,-4', -2",
+    "'-1,-2,-4', -2",
+    "'100,200,301', 200",
+    "'7', 7"
+  })
+  void averageCentsRoundsHalfEven(String cents, long average) {
+    final long[] amounts = Arrays.stream(cents.split(",")).mapToLong(Long::parseLong).toArray();
+
+    assertThat(Money.averageCents(amounts)).isEqualTo(average);
+  }
+
+  @Test
+  void averageOfNothingIsZero() {
+    assertThat(Money.averageCents(new long[0])).isZero();
+    assertThat(Money.average(Arrays.asList(null, null), amount -> (Money) amount))
+        .isSameAs(Money.ZERO);
+  }
+
+  @Test
+  void averageSkipsNullAmounts() {
+    final List<Money> amounts = Arrays.asList(money("10.00"), null, money("20.01"));
+
+    assertThat(Money.average(amounts, amount -> amount)).isEqualTo(money("15.00"));
+  }
+
+  @Test
+  void averageMatchesBigDecimalDivision() {
+    final SplittableRandom random = new SplittableRandom(29);
+    for (int run = 0; run < 1_000; run++) {
+      final long[] cents = random.longs(1 + random.nextInt(50), -100_000, 100_000).toArray();
+      final BigDecimal expected =
+          BigDecimal.valueOf(Money.sumCents(cents), Money.SCALE)
+              .divide(BigDecimal.valueOf(cents.length), Money.SCALE, RoundingMode.HALF_EVEN);
+
+      assertThat(BigDecimal.valueOf(Money.averageCents(cents), Money.SCALE)).isEqualTo(expected);
+    }
+  }
+
+  private static Money money(String amount) {
+    return Money.of(new BigDecimal(amount));
+  }
+}
@@ -0,0 +1,86 @@
+package io.games.poker_tournament_tracker.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class EquityCalculatorTest {
+
+  private final EquityCalculator equityCalculator = new EquityCalculator(200_000);
+
+  @Test
+  void acesAgainstKingsPreflop() {
+    final EquityResult result = equityCalculator.calculate(hands("AsAh", "KdKc"), board(""));
+
+    assertThat(result.isExhaustive()).isTrue();
+    assertThat(result.getBoards()).isEqualTo(1_712_304);
+    assertThat(result.getEquity(0)).isCloseTo(0.812555, within(1e-6));
+    assertThat(result.getEquity(0) + result.getEquity(1)).isCloseTo(1.0, within(1e-9));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    // nine hearts and six overcards win on the river, out of 44 cards left
+    "AhKh, QsQc, 2h7h9cJd, 44, 0.340909",
+    // drawing dead: the made straight flush can't be beaten
+    "2c3c, 9h8h, 7h6h5hKs, 44, 0.0",
+    // the board plays for both, so the pot is split
+    "2c3d, 4c5d, AhKhQhJhTh, 1, 0.5",
+    "AsKd, QsJd, AhAcKhKcQh, 1, 1.0"
+  })
+  void enumeratesEveryRemainingBoard(
+      String hand, String opponent, String board, long boards, double equity) {
+    final EquityResult result = equityCalculator.calculate(hands(hand, opponent), board(board));
+
+    assertThat(result.getBoards()).isEqualTo(boards);
+    assertThat(result.getEquity(0)).isCloseTo(equity, within(1e-6));
+  }
+
+  @Test
+  void samplingAgreesWithEnumeration() {
+    final int[][] hands = hands("AhKh", "7s7d");
+    final EquityResult exact = equityCalculator.exhaustive(hands, board(""));
+
+    final EquityResult sampled = equityCalculator.monteCarlo(hands, board(""), 200_000, 42);
+
+    assertThat(sampled.isExhaustive()).isFalse();
+    assertThat(sampled.getBoards()).isEqualTo(200_000);
+    assertThat(sampled.getEquity(0)).isCloseTo(exact.getEquity(0), within(0.01));
+  }
+
+  @Test
+  void multiwaySpotsAreSampled() {
+    final EquityResult result =
+        equityCalculator.calculate(hands("AsAh", "KdKc", "QsQh"), board(""));
+
+    assertThat(result.isExhaustive()).isFalse();
+    assertThat(result.getEquity(0))
+        .isGreaterThan(result.getEquity(1))
+        .isGreaterThan(result.getEquity(2));
+    assertThat(result.getEquity(0) + result.getEquity(1) + result.getEquity(2))
+        .isCloseTo(1.0, within(1e-9));
+  }
+
+  @Test
+  void rejectsACardDealtTwice() {
+    assertThatThrownBy(() -> equityCalculator.calculate(hands("AsAh", "AsKc"), board("")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("more than once");
+  }
+
+  private static int[][] hands(String... hands) {
+    final int[][] parsed = new int[hands.length][];
+    for (int i = 0; i < hands.length; i++) {
+      parsed[i] = Cards.parse(hands[i]);
+    }
+    return parsed;
+  }
+
+  private static int[] board(String board) {
+    return Cards.parse(board);
+  }
+}
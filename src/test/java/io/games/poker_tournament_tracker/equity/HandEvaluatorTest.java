@@ -0,0 +1,79 @@
+package io.games.poker_tournament_tracker.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class HandEvaluatorTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "2c5d8hJsKd3h9c, " + HandEvaluator.HIGH_CARD,
+    "AsAd3c7h9dJsQc, " + HandEvaluator.PAIR,
+    "AsAdKcKh2c7d9s, " + HandEvaluator.TWO_PAIR,
+    "AsAdKcKhQcQd2h, " + HandEvaluator.TWO_PAIR,
+    "7c7d7h2sKdJc4h, " + HandEvaluator.TRIPS,
+    "5c6d7h8s9dKcKh, " + HandEvaluator.STRAIGHT,
+    "Ac2d3h4s5dKcQh, " + HandEvaluator.STRAIGHT,
+    "TcJdQhKsAd2c2h, " + HandEvaluator.STRAIGHT,
+    "2h5h9hJhKh3c3d, " + HandEvaluator.FLUSH_CATEGORY,
+    "2h4h6h8hThQhAh, " + HandEvaluator.FLUSH_CATEGORY,
+    "2h3h4h5h7h6c6d, " + HandEvaluator.FLUSH_CATEGORY,
+    "KcKdKh3s3dAcQh, " + HandEvaluator.FULL_HOUSE,
+    "KcKdKh3s3d3cQh, " + HandEvaluator.FULL_HOUSE,
+    "9c9d9h9sAdKc2h, " + HandEvaluator.QUADS,
+    "9c9d9h9sAdAcAh, " + HandEvaluator.QUADS,
+    "5h6h7h8h9hAcAd, " + HandEvaluator.STRAIGHT_FLUSH,
+    "Ah2h3h4h5hKsKd, " + HandEvaluator.STRAIGHT_FLUSH,
+    "ThJhQhKhAh9h8h, " + HandEvaluator.STRAIGHT_FLUSH
+  })
+  void categorisesEveryKindOfHand(String cards, int category) {
+    assertThat(HandEvaluator.category(evaluate(cards))).isEqualTo(category);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    // the wheel is the lowest straight, and the steel wheel the lowest straight flush
+    "2c3d4h5s6dKcQh, Ac2d3h4s5dKcQh",
+    "2h3h4h5h6hKsKd, Ah2h3h4h5hKsKd",
+    // a seven-card flush plays its five highest cards
+    "AhKh9h7h5h3h2h, AhKh9h7h4h3h2h",
+    // a straight flush beats the higher plain flush it sits in
+    "5h6h7h8h9hAhKd, AhKhQhJh9h2c3d",
+    // kickers decide between equal pairs, two pairs and trips
+    "AsAdKc7h9dJs2c, AsAdQc7h9dJs2c",
+    "AsAdKcKhQcQd2h, AsAdKcKhJcJd2h",
+    "7c7d7hAsKd2c4h, 7c7d7hAsQd2c4h",
+    // the higher trips make the full house when there are two sets
+    "KcKdKh3s3d3cQh, QcQdQh3s3d3cKh",
+    "9c9d9h9sAdKc2h, 9c9d9h9sQdJc2h"
+  })
+  void strongerHandsScoreHigher(String stronger, String weaker) {
+    assertThat(evaluate(stronger)).isGreaterThan(evaluate(weaker));
+  }
+
+  @Test
+  void onlyTheBestFiveCardsCount() {
+    // the sixth and seventh cards are below every kicker, so they can't split the hands
+    assertThat(evaluate("AsAdKcQhJd3c2h")).isEqualTo(evaluate("AhAcKdQsJc4d2s"));
+    assertThat(evaluate("2h4h6h8hThQhAh")).isEqualTo(evaluate("3s5s6s8sTsQsAs"));
+  }
+
+  @Test
+  void handValueIgnoresCardOrder() {
+    final int[] cards = Cards.parse("Ah2h3h4h5hKsKd");
+
+    assertThat(
+            HandEvaluator.evaluate(
+                cards[6], cards[5], cards[4], cards[3], cards[2], cards[1], cards[0]))
+        .isEqualTo(evaluate("Ah2h3h4h5hKsKd"));
+  }
+
+  private static int evaluate(String text) {
+    final int[] cards = Cards.parse(text);
+    return HandEvaluator.evaluate(
+        cards[0], cards[1], cards[2], cards[3], cards[4], cards[5], cards[6]);
+  }
+}
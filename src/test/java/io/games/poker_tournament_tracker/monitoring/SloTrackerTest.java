@@ -0,0 +1,57 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class SloTrackerTest {
+
+  @Test
+  void keysStopGrowingAtTheCap() {
+    final SloProperties properties = new SloProperties();
+    properties.setMaxKeys(3);
+    final SloTracker sloTracker = new SloTracker(properties);
+
+    for (int i = 0; i < 100; i++) {
+      sloTracker.record("GET /route/" + i, 1_000_000);
+    }
+
+    assertThat(sloTracker.report().latencies())
+        .containsOnlyKeys("GET /route/0", "GET /route/1", "GET /route/2", SloTracker.OVERFLOW);
+  }
+
+  @Test
+  void unmatchedAndNonStandardRequestsDontMintKeys() throws Exception {
+    final SloTracker sloTracker = new SloTracker(new SloProperties());
+    final EndpointLatencyFilter filter = new EndpointLatencyFilter(sloTracker);
+
+    filter.doFilter(request("GET", "/api/poker/tournament/players"), response(), chain());
+    filter.doFilter(request("GET", null), response(), chain());
+    filter.doFilter(request("POST", "/**"), response(), chain());
+    filter.doFilter(request("ZAP1", null), response(), chain());
+    filter.doFilter(request("ZAP2", "/api/poker/tournament/players"), response(), chain());
+
+    assertThat(sloTracker.report().latencies())
+        .containsOnlyKeys("GET /api/poker/tournament/players", RequestTags.UNMATCHED);
+  }
+
+  private static MockHttpServletRequest request(String method, String pattern) {
+    final MockHttpServletRequest request = new MockHttpServletRequest(method, "/anything");
+    if (pattern != null) {
+      request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+    }
+    return request;
+  }
+
+  private static MockHttpServletResponse response() {
+    return new MockHttpServletResponse();
+  }
+
+  private static MockFilterChain chain() {
+    return new MockFilterChain();
+  }
+}
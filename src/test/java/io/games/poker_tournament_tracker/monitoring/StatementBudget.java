@@ -0,0 +1,72 @@
+package io.games.poker_tournament_tracker.monitoring;
+
+import java.util.function.Supplier;
+
+/**
+ * Assertions on how many SQL statements a piece of code issues, for pinning service methods to a
+ * fixed budget in tests:
+ *
+ * <pre>{@code
+ * cacheManager.getCache(CacheNames.SEASON_DETAILS).clear();
+ * SeasonDetailService.Versioned detail =
+ *     StatementBudget.assertAtMost(6, () -> seasonDetailService.get(id));
+ * }</pre>
+ *
+ * Cached service methods issue nothing once warm, so clear their cache first when the query shape
+ * is what is being pinned; see {@code SeasonDetailServiceTest}.
+ *
+ * <p>Counting relies on {@link QueryCountInspector} being registered, which {@code
+ * QueryCountConfig} does whenever the application context is up.
+ */
+public final class StatementBudget {
+
+  private StatementBudget() {}
+
+  /**
+   * Runs the action and fails if it issued more than {@code maxStatements} statements.
+   *
+   * @return whatever the action returned
+   * @throws AssertionError listing the statements when the budget is exceeded
+   */
+  public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+    try (QueryCounter.Scope scope = QueryCounter.open(true)) {
+      final T result = action.get();
+      if (scope.getCount() > maxStatements) {
+        throw new AssertionError(
+            "Expected at most "
+                + maxStatements
+                + " statements but "
+                + scope.getCount()
+                + " were issued:\n  "
+                + String.join("\n  ", scope.getStatements()));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Runs the action and fails if it issued more than {@code maxStatements} statements.
+   *
+   * @throws AssertionError listing the statements when the budget is exceeded
+   */
+  public static void assertAtMost(int maxStatements, Runnable action) {
+    assertAtMost(
+        maxStatements,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /**
+   * Runs the action and returns how many statements it issued.
+   *
+   * @return the statement count
+   */
+  public static int count(Runnable action) {
+    try (QueryCounter.Scope scope = QueryCounter.open(false)) {
+      action.run();
+      return scope.getCount();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package io.games.poker_tournament_tracker.seating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SeatingChartTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "2, 9, 1",
+    "9, 9, 2",
+    "10, 9, 3",
+    "17, 6, 4",
+    "45, 10, 5",
+    "100, 9, 6",
+    "1000, 10, 7"
+  })
+  void drawSeatsEveryoneOnAsFewTablesAsHoldThem(int players, int tableSize, long seed) {
+    final SeatingChart chart = SeatingChart.draw(players(players), tableSize, seed);
+
+    assertThat(chart.getPlayerCount()).isEqualTo(players);
+    assertInvariants(chart, tableSize);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"9, 9, 11", "10, 9, 12", "17, 6, 13", "45, 10, 14", "100, 9, 15", "250, 8, 16"})
+  void everyEliminationKeepsTheChartBalanced(int players, int tableSize, long seed) {
+    final SeatingChart chart = SeatingChart.draw(players(players), tableSize, seed);
+    final SplittableRandom random = new SplittableRandom(seed);
+    final List<Integer> remaining = new ArrayList<>(players(players));
+
+    while (remaining.size() > 1) {
+      final int eliminated = remaining.remove(random.nextInt(remaining.size()));
+      final int tablesBefore = chart.getTableCount();
+
+      final List<SeatingChart.Move> moves = chart.eliminate(eliminated);
+
+      assertThat(chart.seatOf(eliminated)).isNull();
+      assertInvariants(chart, tableSize);
+      if (chart.getTableCount() == tablesBefore) {
+        assertThat(moves).hasSizeLessThanOrEqualTo(1);
+      } else {
+        assertThat(chart.getTableCount()).isEqualTo(tablesBefore - 1);
+      }
+      for (final SeatingChart.Move move : moves) {
+        assertThat(move.from().table()).isNotEqualTo(move.to().table());
+      }
+      // a player moved twice in one rebalance would end up somewhere else than its last move says
+      final Map<Integer, SeatingChart.Move> lastMoves =
+          moves.stream()
+              .collect(
+                  Collectors.toMap(SeatingChart.Move::player, Function.identity(), (a, b) -> b));
+      lastMoves.forEach((player, move) -> assertThat(chart.seatOf(player)).isEqualTo(move.to()));
+    }
+    assertThat(chart.getTableCount()).isEqualTo(1);
+  }
+
+  @Test
+  void theSameSeedDrawsTheSameChart() {
+    final List<Integer> players = players(60);
+
+    assertThat(SeatingChart.draw(players, 9, 42).seats())
+        .isEqualTo(SeatingChart.draw(players, 9, 42).seats());
+    assertThat(SeatingChart.draw(players, 9, 42).seats())
+        .isNotEqualTo(SeatingChart.draw(players, 9, 43).seats());
+  }
+
+  @Test
+  void aChartRebuiltFromItsSeatsRebalancesTheSame() {
+    final SeatingChart chart = SeatingChart.draw(players(50), 9, 21);
+    final SplittableRandom random = new SplittableRandom(21);
+    final List<Integer> remaining = new ArrayList<>(players(50));
+
+    while (remaining.size() > 1) {
+      final SeatingChart stored = SeatingChart.of(chart.seats(), 9);
+      assertThat(stored.seats()).isEqualTo(chart.seats());
+      assertThat(stored.getTableCount()).isEqualTo(chart.getTableCount());
+
+      final int eliminated = remaining.remove(random.nextInt(remaining.size()));
+      assertThat(stored.eliminate(eliminated)).isEqualTo(chart.eliminate(eliminated));
+    }
+  }
+
+  @Test
+  void rejectsBadInput() {
+    assertThatThrownBy(() -> SeatingChart.draw(players(4), 1, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SeatingChart.draw(players(4), 9, 1).eliminate(99))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                SeatingChart.of(
+                    List.of(new SeatingChart.Seat(1, 1, 3), new SeatingChart.Seat(2, 1, 3)), 9))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                SeatingChart.of(
+                    List.of(new SeatingChart.Seat(1, 1, 3), new SeatingChart.Seat(1, 2, 4)), 9))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static List<Integer> players(int count) {
+    return IntStream.rangeClosed(1, count).boxed().toList();
+  }
+
+  /**
+   * Nobody seated twice, no seat taken twice, tables within one of each other and no spare table.
+   */
+  private static void assertInvariants(SeatingChart chart, int tableSize) {
+    final List<SeatingChart.Seat> seats = chart.seats();
+    final Set<Integer> players = new HashSet<>();
+    final Set<List<Integer>> taken = new HashSet<>();
+    for (final SeatingChart.Seat seat : seats) {
+      assertThat(players.add(seat.player())).as("player %d seated once", seat.player()).isTrue();
+      assertThat(taken.add(List.of(seat.table(), seat.seat()))).as("%s free", seat).isTrue();
+      assertThat(seat.seat()).isBetween(1, tableSize);
+      assertThat(chart.seatOf(seat.player())).isEqualTo(seat);
+    }
+    assertThat(seats).hasSize(chart.getPlayerCount());
+
+    final Map<Integer, Long> countByTable =
+        seats.stream()
+            .collect(Collectors.groupingBy(SeatingChart.Seat::table, Collectors.counting()));
+    assertThat(countByTable).hasSize(chart.getTableCount());
+    final long most = countByTable.values().stream().mapToLong(Long::longValue).max().orElse(0);
+    final long fewest = countByTable.values().stream().mapToLong(Long::longValue).min().orElse(0);
+    assertThat(most - fewest).isLessThanOrEqualTo(1);
+    assertThat(chart.getTableCount())
+        .isEqualTo(Math.max(1, (chart.getPlayerCount() + tableSize - 1) / tableSize));
+  }
+}
@@ -0,0 +1,234 @@
+package io.games.poker_tournament_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.games.poker_tournament_tracker.model.BountyDTO;
+import io.games.poker_tournament_tracker.model.EliminationDTO;
+import io.games.poker_tournament_tracker.model.EliminationEventDTO;
+import io.games.poker_tournament_tracker.model.EliminationReceiptDTO;
+import io.games.poker_tournament_tracker.model.EliminationsDTO;
+import io.games.poker_tournament_tracker.service.impl.PlayerParticipation;
+import io.games.poker_tournament_tracker.util.ConflictException;
+import io.games.poker_tournament_tracker.util.ValidationException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EliminationServiceTest {
+
+  private static final int ENTRANTS = 5;
+  private static final OffsetDateTime START =
+      OffsetDateTime.of(2026, 1, 1, 20, 0, 0, 0, ZoneOffset.UTC);
+
+  @Autowired private EliminationService eliminationService;
+  @Autowired private SeasonService seasonService;
+  @Autowired private SeasonPlayerService seasonPlayerService;
+  @Autowired private GameService gameService;
+  @Autowired private PlayerParticipationService playerParticipationService;
+
+  private String seasonName;
+
+  @BeforeEach
+  void createSeason() {
+    seasonName = "season-" + System.nanoTime();
+    seasonService.createSeason(seasonName);
+    for (int p = 0; p < ENTRANTS; p++) {
+      seasonPlayerService.createSeasonPlayers(
+          seasonName, player(p), new BigDecimal("10"), new BigDecimal("100"));
+    }
+  }
+
+  @Test
+  void eventsArrivingOutOfOrderAreAppliedInSequence() {
+    final int inOrder = createGame();
+    eliminationService.record(
+        seasonName, inOrder, List.of(event(1, 4, 0), event(2, 3, 0), event(3, 2, 1)));
+    final int outOfOrder = createGame();
+
+    final EliminationReceiptDTO early =
+        eliminationService.record(seasonName, outOfOrder, List.of(event(3, 2, 1), event(2, 3, 0)));
+    assertThat(early.applied()).isZero();
+    assertThat(early.lastApplied()).isZero();
+    assertThat(early.pending()).isEqualTo(2);
+    assertThat(eliminationService.get(seasonName, outOfOrder).eliminations()).isEmpty();
+
+    final EliminationReceiptDTO late =
+        eliminationService.record(seasonName, outOfOrder, List.of(event(1, 4, 0)));
+    assertThat(late.applied()).isEqualTo(3);
+    assertThat(late.lastApplied()).isEqualTo(3);
+    assertThat(late.pending()).isZero();
+    assertThat(eliminationService.get(seasonName, outOfOrder).eliminations())
+        .isEqualTo(eliminationService.get(seasonName, inOrder).eliminations());
+  }
+
+  @Test
+  void resentSequencesAreSkipped() {
+    final int gameNumber = createGame();
+    eliminationService.record(seasonName, gameNumber, List.of(event(1, 4, 0), event(2, 3, 0)));
+
+    final EliminationReceiptDTO resent =
+        eliminationService.record(
+            seasonName, gameNumber, List.of(event(1, 4, 0), event(2, 3, 0), event(3, 2, 0)));
+
+    assertThat(resent.received()).isEqualTo(3);
+    assertThat(resent.duplicates()).isEqualTo(2);
+    assertThat(resent.applied()).isEqualTo(1);
+    assertThat(resent.lastApplied()).isEqualTo(3);
+    assertThat(eliminationService.get(seasonName, gameNumber).eliminations()).hasSize(3);
+  }
+
+  @Test
+  void sequenceResentForAnotherPlayerConflicts() {
+    final int gameNumber = createGame();
+    eliminationService.record(seasonName, gameNumber, List.of(event(1, 4, 0)));
+
+    assertThatThrownBy(
+            () -> eliminationService.record(seasonName, gameNumber, List.of(event(1, 3, 0))))
+        .isInstanceOf(ConflictException.class)
+        .hasMessageContaining("already recorded");
+  }
+
+  @Test
+  void playerCannotGoOutTwice() {
+    final int gameNumber = createGame();
+    eliminationService.record(seasonName, gameNumber, List.of(event(1, 4, 0)));
+
+    assertThatThrownBy(
+            () -> eliminationService.record(seasonName, gameNumber, List.of(event(2, 4, 0))))
+        .isInstanceOf(ConflictException.class)
+        .hasMessageContaining("already eliminated, in elimination 1");
+  }
+
+  @Test
+  void eliminatorAlreadyOutConflicts() {
+    final int gameNumber = createGame();
+    eliminationService.record(seasonName, gameNumber, List.of(event(1, 4, 0)));
+
+    assertThatThrownBy(
+            () -> eliminationService.record(seasonName, gameNumber, List.of(event(2, 3, 4))))
+        .isInstanceOf(ConflictException.class)
+        .hasMessageContaining(player(4) + " is already eliminated");
+  }
+
+  @Test
+  void playerCannotGoOutBeforeTheirOwnKnockout() {
+    final int gameNumber = createGame();
+    // still pending: 1 and 2 haven't arrived
+    eliminationService.record(seasonName, gameNumber, List.of(event(3, 3, 4)));
+
+    assertThatThrownBy(
+            () -> eliminationService.record(seasonName, gameNumber, List.of(event(2, 4, 0))))
+        .isInstanceOf(ConflictException.class)
+        .hasMessageContaining("after going out");
+  }
+
+  @Test
+  void invalidEventsAreRejected() {
+    final int gameNumber = createGame();
+
+    assertThatThrownBy(
+            () -> eliminationService.record(seasonName, gameNumber, List.of(event(ENTRANTS, 4, 0))))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("past the last of " + ENTRANTS);
+    assertThatThrownBy(
+            () -> eliminationService.record(seasonName, gameNumber, List.of(event(1, 4, 4))))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("cannot eliminate themselves");
+  }
+
+  @Test
+  void finishingPositionsCountDownToTheWinner() {
+    final int gameNumber = createGame();
+    eliminationService.record(
+        seasonName,
+        gameNumber,
+        List.of(event(4, 1, 0), event(3, 2, 0), event(2, 3, 1), event(1, 4, 0)));
+
+    final EliminationsDTO eliminations = eliminationService.get(seasonName, gameNumber);
+
+    assertThat(eliminations.eliminations())
+        .extracting(EliminationDTO::finishingPosition)
+        .containsExactly(5, 4, 3, 2);
+    assertThat(eliminations.eliminations())
+        .extracting(EliminationDTO::playerName)
+        .containsExactly(player(4), player(3), player(2), player(1));
+    assertThat(eliminations.remaining()).isEqualTo(1);
+    assertThat(eliminations.winner()).isEqualTo(player(0));
+  }
+
+  @Test
+  void progressiveBountyPaysHalfAndPutsHalfOnTheEliminatorsHead() {
+    final int gameNumber = createGame();
+    eliminationService.setBounty(seasonName, gameNumber, new BigDecimal("20"), true);
+
+    // player 1 collects two heads, then goes out to player 0 carrying what they added
+    eliminationService.record(
+        seasonName,
+        gameNumber,
+        List.of(event(1, 4, 1), event(2, 3, 1), event(3, 2, 0), event(4, 1, 0)));
+    final EliminationsDTO eliminations = eliminationService.get(seasonName, gameNumber);
+
+    assertThat(eliminations.eliminations())
+        .extracting(EliminationDTO::bountyPaid)
+        .usingElementComparator(BigDecimal::compareTo)
+        .containsExactly(
+            new BigDecimal("10"), new BigDecimal("10"), new BigDecimal("10"), new BigDecimal("20"));
+    assertThat(eliminations.winner()).isEqualTo(player(0));
+    // the winner keeps their own head of 20 plus the 10 and 20 added to it
+    assertThat(eliminations.bounties())
+        .extracting(BountyDTO::playerName, BountyDTO::knockouts)
+        .containsExactly(tuple(player(0), 2), tuple(player(1), 2));
+    assertThat(eliminations.bounties().get(0).won()).isEqualByComparingTo("80");
+    assertThat(eliminations.bounties().get(1).won()).isEqualByComparingTo("20");
+    assertThat(
+            eliminations.bounties().stream()
+                .map(BountyDTO::won)
+                .reduce(BigDecimal.ZERO, BigDecimal::add))
+        .isEqualByComparingTo(new BigDecimal(20 * ENTRANTS));
+  }
+
+  @Test
+  void bountyIsFixedOnceEliminationsAreApplied() {
+    final int gameNumber = createGame();
+    eliminationService.record(seasonName, gameNumber, List.of(event(1, 4, 0)));
+
+    assertThatThrownBy(
+            () -> eliminationService.setBounty(seasonName, gameNumber, new BigDecimal("20"), false))
+        .isInstanceOf(ConflictException.class);
+  }
+
+  /** A game every player of the season takes part in. */
+  private int createGame() {
+    final int gameNumber = gameService.createGame(seasonName);
+    for (int p = 0; p < ENTRANTS; p++) {
+      playerParticipationService.createPlayerParticipation(
+          player(p), PlayerParticipation.YES, seasonName, gameNumber);
+    }
+    return gameNumber;
+  }
+
+  private EliminationEventDTO event(int sequence, int eliminated, int eliminator) {
+    final EliminationEventDTO event = new EliminationEventDTO();
+    event.setSequence(sequence);
+    event.setPlayerName(player(eliminated));
+    event.setEliminatorName(player(eliminator));
+    event.setEliminatedAt(START.plusMinutes(sequence));
+    return event;
+  }
+
+  private String player(int p) {
+    return seasonName + "-player-" + p;
+  }
+}
@@ -0,0 +1,151 @@
+package io.games.poker_tournament_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.games.poker_tournament_tracker.domain.BuyInKind;
+import io.games.poker_tournament_tracker.model.BuyInReportDTO;
+import io.games.poker_tournament_tracker.model.BuyInTotalsDTO;
+import io.games.poker_tournament_tracker.util.ConflictException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GameBuyInServiceTest {
+
+  @Autowired private GameBuyInService gameBuyInService;
+  @Autowired private SeasonService seasonService;
+  @Autowired private SeasonPlayerService seasonPlayerService;
+  @Autowired private GameService gameService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private String seasonName;
+  private int gameNumber;
+
+  @BeforeEach
+  void createSeason() {
+    seasonName = "season-" + System.nanoTime();
+    seasonService.createSeason(seasonName);
+    for (int p = 0; p < 3; p++) {
+      seasonPlayerService.createSeasonPlayers(
+          seasonName, player(p), new BigDecimal("10"), new BigDecimal("100"));
+    }
+    gameNumber = gameService.createGame(seasonName);
+  }
+
+  @Test
+  void totalsAreSummedPerPlayerAndKind() {
+    buyIn(gameNumber, 0, BuyInKind.BUY_IN, "20");
+    buyIn(gameNumber, 0, BuyInKind.REBUY, "20");
+    buyIn(gameNumber, 0, BuyInKind.REBUY, "20");
+    buyIn(gameNumber, 0, BuyInKind.ADD_ON, "10");
+    buyIn(gameNumber, 1, BuyInKind.BUY_IN, "20");
+    final int nextGame = gameService.createGame(seasonName);
+    buyIn(nextGame, 1, BuyInKind.BUY_IN, "25.50");
+
+    final BuyInReportDTO game = gameBuyInService.getGameBuyInTotals(seasonName, gameNumber);
+
+    assertThat(game.buyIns()).isEqualTo(2);
+    assertThat(game.rebuys()).isEqualTo(2);
+    assertThat(game.addOns()).isEqualTo(1);
+    assertThat(game.total()).isEqualByComparingTo("90");
+    assertThat(game.players()).hasSize(2);
+    final BuyInTotalsDTO first = game.players().get(0);
+    assertThat(first.playerName()).isEqualTo(player(0));
+    assertThat(first.buyIns()).isEqualTo(1);
+    assertThat(first.rebuys()).isEqualTo(2);
+    assertThat(first.addOns()).isEqualTo(1);
+    assertThat(first.buyInAmount()).isEqualByComparingTo("20");
+    assertThat(first.rebuyAmount()).isEqualByComparingTo("40");
+    assertThat(first.addOnAmount()).isEqualByComparingTo("10");
+    assertThat(first.total()).isEqualByComparingTo("70");
+    assertThat(game.players().get(1).total()).isEqualByComparingTo("20");
+
+    final BuyInReportDTO season = gameBuyInService.getSeasonBuyInTotals(seasonName);
+    assertThat(season.buyIns()).isEqualTo(3);
+    assertThat(season.total()).isEqualByComparingTo("115.50");
+    assertThat(season.players())
+        .extracting(BuyInTotalsDTO::total)
+        .usingElementComparator(BigDecimal::compareTo)
+        .containsExactly(new BigDecimal("70"), new BigDecimal("45.50"));
+  }
+
+  @Test
+  void playerWhoNeverBoughtInHasZeroTotals() {
+    buyIn(gameNumber, 0, BuyInKind.BUY_IN, "20");
+
+    final BuyInTotalsDTO totals =
+        gameBuyInService.getBuyInTotals(seasonName, gameNumber, player(2));
+
+    assertThat(totals.playerName()).isEqualTo(player(2));
+    assertThat(totals.buyIns()).isZero();
+    assertThat(totals.total()).isEqualByComparingTo("0");
+  }
+
+  @Test
+  void legacyRowWithoutAKindCountsAsTheBuyIn() {
+    final int seasonId = seasonService.getSeasonIdByName(seasonName);
+    jdbcTemplate.update(
+        "INSERT INTO game_buy_in (game_buy_in_id, buy_in_amount, kind, game_id, season_player_id)"
+            + " VALUES (nextval('primary_sequence'), 20, NULL, ?, ?)",
+        gameService.getGameId(seasonId, gameNumber),
+        seasonPlayerService.getSeasonPlayerIdByPlayerNameAndSeasonId(player(0), seasonId));
+    buyIn(gameNumber, 0, BuyInKind.REBUY, "20");
+
+    final BuyInTotalsDTO totals =
+        gameBuyInService.getBuyInTotals(seasonName, gameNumber, player(0));
+
+    assertThat(totals.buyIns()).isEqualTo(1);
+    assertThat(totals.buyInAmount()).isEqualByComparingTo("20");
+    assertThat(totals.rebuys()).isEqualTo(1);
+    assertThat(totals.total()).isEqualByComparingTo("40");
+    assertThatThrownBy(() -> buyIn(gameNumber, 0, BuyInKind.BUY_IN, "20"))
+        .isInstanceOf(ConflictException.class)
+        .hasMessageContaining("already bought in");
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = BuyInKind.class,
+      names = {"BUY_IN", "ADD_ON"})
+  void secondBuyInOrAddOnConflicts(BuyInKind kind) {
+    buyIn(gameNumber, 0, kind, "20");
+
+    assertThatThrownBy(() -> buyIn(gameNumber, 0, kind, "20"))
+        .isInstanceOf(ConflictException.class)
+        .hasMessageContaining(player(0));
+    // once per game, not once per season
+    buyIn(gameService.createGame(seasonName), 0, kind, "20");
+    assertThat(gameBuyInService.getSeasonBuyInTotals(seasonName).total())
+        .isEqualByComparingTo("40");
+  }
+
+  @Test
+  void rebuysAreUnlimited() {
+    buyIn(gameNumber, 0, BuyInKind.BUY_IN, "20");
+    for (int i = 0; i < 3; i++) {
+      buyIn(gameNumber, 0, BuyInKind.REBUY, "20");
+    }
+
+    assertThat(gameBuyInService.getBuyInTotals(seasonName, gameNumber, player(0)).rebuys())
+        .isEqualTo(3);
+  }
+
+  private void buyIn(int game, int p, BuyInKind kind, String amount) {
+    gameBuyInService.createGameBuyIn(seasonName, game, player(p), kind, new BigDecimal(amount));
+  }
+
+  private String player(int p) {
+    return seasonName + "-player-" + p;
+  }
+}
@@ -0,0 +1,111 @@
+package io.games.poker_tournament_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.games.poker_tournament_tracker.model.OutboxEventDTO;
+
+/** The scheduled relay only runs at startup here, so each test drives its own relay. */
+@SpringBootTest(properties = "outbox.relay-interval=1h")
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+  private static final String AGGREGATE_TYPE = "OutboxRelayTest";
+
+  @Autowired private OutboxService outboxService;
+  @Autowired private OutboxProperties outboxProperties;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final List<OutboxEventDTO> published = new ArrayList<>();
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void startRelay() {
+    relay =
+        new OutboxRelay(
+            outboxService,
+            outboxProperties,
+            event -> {
+              if (event instanceof OutboxEventDTO outboxEvent
+                  && AGGREGATE_TYPE.equals(outboxEvent.aggregateType())) {
+                published.add(outboxEvent);
+              }
+            });
+    // the first run only finds where to start following
+    relay.relay();
+  }
+
+  @Test
+  void eventsFromEveryNodeArePublishedInTheOrderTheyWereWritten() {
+    append(1);
+    appendFromAnotherNode(2);
+    append(3);
+    appendFromAnotherNode(4);
+    append(5);
+
+    relay.relay();
+
+    assertThat(published).extracting(OutboxEventDTO::aggregateId).containsExactly(1, 2, 3, 4, 5);
+  }
+
+  @Test
+  void claimedEventsGetConsecutivePositions() {
+    append(1);
+    append(2);
+    appendFromAnotherNode(3);
+
+    assertThat(outboxService.claimPending(outboxProperties.getRelayBatchSize())).isEqualTo(3);
+    relay.relay();
+
+    assertThat(published).extracting(OutboxEventDTO::aggregateId).containsExactly(1, 2, 3);
+    final long first = published.get(0).position();
+    assertThat(published)
+        .extracting(OutboxEventDTO::position)
+        .containsExactly(first, first + 1, first + 2);
+  }
+
+  @Test
+  void eachEventIsPublishedOnce() {
+    append(1);
+    relay.relay();
+    append(2);
+    relay.relay();
+    relay.relay();
+
+    assertThat(published).extracting(OutboxEventDTO::aggregateId).containsExactly(1, 2);
+  }
+
+  private void append(int aggregateId) {
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status ->
+                outboxService.append(
+                    "Appended", AGGREGATE_TYPE, aggregateId, null, Map.of("id", aggregateId)));
+  }
+
+  /** Writes an event the way another node would, taking its ID straight from the sequence. */
+  private void appendFromAnotherNode(int aggregateId) {
+    jdbcTemplate.update(
+        "INSERT INTO outbox_event (event_id, event_type, aggregate_type, aggregate_id, payload,"
+            + " created_at) VALUES (nextval('outbox_sequence'), ?, ?, ?, ?, ?)",
+        "Appended",
+        AGGREGATE_TYPE,
+        aggregateId,
+        "{}",
+        OffsetDateTime.now());
+  }
+}
@@ -0,0 +1,124 @@
+package io.games.poker_tournament_tracker.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.games.poker_tournament_tracker.cache.CacheNames;
+import io.games.poker_tournament_tracker.domain.BuyInKind;
+import io.games.poker_tournament_tracker.model.SeasonDetailDTO;
+import io.games.poker_tournament_tracker.monitoring.StatementBudget;
+import io.games.poker_tournament_tracker.service.impl.PlayerParticipation;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeasonDetailServiceTest {
+
+  /** One query per table, whatever the size of the season. */
+  private static final int STATEMENTS = 6;
+
+  @Autowired private SeasonDetailService seasonDetailService;
+  @Autowired private SeasonService seasonService;
+  @Autowired private SeasonPlayerService seasonPlayerService;
+  @Autowired private GameService gameService;
+  @Autowired private PlayerParticipationService playerParticipationService;
+  @Autowired private GameBuyInService gameBuyInService;
+  @Autowired private GameResultService gameResultService;
+  @Autowired private SeasonVersionService seasonVersionService;
+  @Autowired private CacheManager cacheManager;
+
+  private int smallSeasonId;
+  private int largeSeasonId;
+
+  @BeforeEach
+  void createSeasons() {
+    smallSeasonId = createSeason(2, 1);
+    largeSeasonId = createSeason(12, 6);
+  }
+
+  @Test
+  void statementCountStaysConstantAsTheSeasonGrows() {
+    final int small = StatementBudget.count(() -> uncachedDetail(smallSeasonId));
+    final int large = StatementBudget.count(() -> uncachedDetail(largeSeasonId));
+
+    assertThat(small).isEqualTo(STATEMENTS);
+    assertThat(large).isEqualTo(small);
+  }
+
+  @Test
+  void budgetPassesTheDetailOfALargeSeason() {
+    final SeasonDetailDTO detail =
+        StatementBudget.assertAtMost(STATEMENTS, () -> uncachedDetail(largeSeasonId)).detail();
+
+    assertThat(detail.seasonPlayers()).hasSize(12);
+    assertThat(detail.games()).hasSize(6);
+    assertThat(detail.games()).allSatisfy(game -> assertThat(game.gameBuyIns()).hasSize(12 + 1));
+  }
+
+  @Test
+  void budgetFailsListingTheStatements() {
+    assertThatThrownBy(
+            () -> StatementBudget.assertAtMost(STATEMENTS - 1, () -> uncachedDetail(smallSeasonId)))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("but " + STATEMENTS + " were issued")
+        .hasMessageContaining("game_buy_in");
+  }
+
+  @Test
+  void cachedDetailIssuesNoStatements() {
+    uncachedDetail(smallSeasonId);
+
+    StatementBudget.assertAtMost(0, () -> seasonDetailService.get(smallSeasonId));
+  }
+
+  @Test
+  void versionTravelsWithTheDetail() {
+    final SeasonDetailService.Versioned before = seasonDetailService.get(smallSeasonId);
+    gameService.createGame(before.detail().season().getName());
+
+    final SeasonDetailService.Versioned after = seasonDetailService.get(smallSeasonId);
+
+    assertThat(after.version().version()).isGreaterThan(before.version().version());
+    assertThat(after.version()).isEqualTo(seasonVersionService.get(smallSeasonId));
+    assertThat(after.detail().games()).hasSize(before.detail().games().size() + 1);
+  }
+
+  /** The detail is cached, so every count starts from an empty cache. */
+  private SeasonDetailService.Versioned uncachedDetail(int seasonId) {
+    cacheManager.getCache(CacheNames.SEASON_DETAILS).clear();
+    return seasonDetailService.get(seasonId);
+  }
+
+  /** A season in which every player takes part in every game, with one rebuy per game. */
+  private int createSeason(int players, int games) {
+    final String seasonName = "season-" + System.nanoTime();
+    seasonService.createSeason(seasonName);
+    for (int p = 0; p < players; p++) {
+      seasonPlayerService.createSeasonPlayers(
+          seasonName, seasonName + "-player-" + p, new BigDecimal("10"), new BigDecimal("100"));
+    }
+    for (int g = 1; g <= games; g++) {
+      final int gameNumber = gameService.createGame(seasonName);
+      for (int p = 0; p < players; p++) {
+        final String playerName = seasonName + "-player-" + p;
+        playerParticipationService.createPlayerParticipation(
+            playerName, PlayerParticipation.YES, seasonName, gameNumber);
+        gameBuyInService.createGameBuyIn(
+            seasonName, gameNumber, playerName, BuyInKind.BUY_IN, new BigDecimal("20"));
+        gameResultService.createGameResult(
+            seasonName, gameNumber, playerName, new BigDecimal(p * 5));
+      }
+      gameBuyInService.createGameBuyIn(
+          seasonName, gameNumber, seasonName + "-player-0", BuyInKind.REBUY, new BigDecimal("20"));
+    }
+    return seasonService.getSeasonIdByName(seasonName);
+  }
+}